@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.benchmarks;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.management.api.ApiPermission;
+import com.artipie.management.api.artifactory.FromRqLine;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for API permission check across API routes: regular expressions
+ * check per request versus precompiled routes check. Run with {@code -prof gc}
+ * to compare allocation rate.
+ * @since 0.7
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ApiPermissionBench {
+
+    /**
+     * User path pattern of previous implementation.
+     */
+    private static final Pattern PTN_PATH =
+        Pattern.compile("(?:/api/\\w+|/dashboard)?/(?<user>[^/.]+)(?:/.*)?");
+
+    /**
+     * Request path.
+     */
+    @Param({
+        "/dashboard/alice",
+        "/api/repos/alice",
+        "/api/security/users/bob",
+        "/api/security/permissions",
+        "/api/repositories/bob/maven",
+        "/api/storage/bob/maven/com/artipie"
+    })
+    public String path;
+
+    /**
+     * Request line.
+     */
+    private String line;
+
+    /**
+     * Parsed request URI.
+     */
+    private URI uri;
+
+    /**
+     * User.
+     */
+    private Authentication.User user;
+
+    @Setup
+    public void setup() {
+        this.line = new RequestLine(RqMethod.GET, this.path).toString();
+        this.uri = new RequestLineFrom(this.line).uri();
+        this.user = new Authentication.User("alice");
+    }
+
+    @Benchmark
+    public boolean regex() {
+        final String upath = new RequestLineFrom(this.line).uri().getPath();
+        final Matcher matcher = ApiPermissionBench.PTN_PATH.matcher(upath);
+        return matcher.matches() && this.user.name().equals(matcher.group("user"))
+            || Stream.of(FromRqLine.RqPattern.values()).map(FromRqLine.RqPattern::pattern)
+                .anyMatch(pattern -> pattern.matcher(upath).matches());
+    }
+
+    @Benchmark
+    public boolean precompiled() {
+        return new ApiPermission(this.uri).allowed(this.user);
+    }
+
+    /**
+     * Main.
+     * @param args CLI args
+     * @throws RunnerException On benchmark failure
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ApiPermissionBench.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.benchmarks;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Response;
+import com.artipie.http.rs.common.RsJson;
+import com.artipie.management.api.RsJsonArray;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for JSON list responses: JSON tree serialized to string versus
+ * JSON array streamed in chunks. Run with {@code -prof gc} to compare allocations.
+ * @since 0.7
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RsJsonArrayBench {
+
+    /**
+     * Base URL.
+     */
+    private static final String BASE = "http://artipie.com";
+
+    /**
+     * Items count.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * User names.
+     */
+    private List<String> names;
+
+    @Setup
+    public void setup() {
+        this.names = IntStream.range(0, this.size).mapToObj(num -> String.format("user%d", num))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long tree() {
+        final JsonArrayBuilder json = Json.createArrayBuilder();
+        this.names.forEach(
+            name -> json.add(
+                Json.createObjectBuilder()
+                    .add("name", name)
+                    .add("uri", String.format("%s/api/security/users/%s", BASE, name))
+                    .add("realm", "Internal")
+            )
+        );
+        return RsJsonArrayBench.drain(new RsJson(json));
+    }
+
+    @Benchmark
+    public long stream() {
+        return RsJsonArrayBench.drain(
+            new RsJsonArray<String>(
+                this.names,
+                (gen, name) -> gen.writeStartObject()
+                    .write("name", name)
+                    .write("uri", String.format("%s/api/security/users/%s", BASE, name))
+                    .write("realm", "Internal")
+                    .writeEnd()
+            )
+        );
+    }
+
+    /**
+     * Main.
+     * @param args CLI args
+     * @throws RunnerException On benchmark failure
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(RsJsonArrayBench.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    /**
+     * Send response and read its body.
+     * @param response Response
+     * @return Body size
+     */
+    private static long drain(final Response response) {
+        final CompletableFuture<Long> size = new CompletableFuture<>();
+        final Connection connection = (status, headers, body) -> {
+            size.complete(
+                Flowable.fromPublisher(body).reduce(
+                    0L, (acc, chunk) -> acc + chunk.remaining()
+                ).blockingGet()
+            );
+            return CompletableFuture.allOf();
+        };
+        response.send(connection).toCompletableFuture().join();
+        return size.join();
+    }
+}
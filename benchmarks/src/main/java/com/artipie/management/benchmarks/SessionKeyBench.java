@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.benchmarks;
+
+import com.artipie.management.api.SessionKey;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for session cookie decryption: reading and parsing key file per
+ * request versus cached {@link SessionKey}.
+ * @since 0.7
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SessionKeyBench {
+
+    /**
+     * Cipher transformation.
+     */
+    private static final String CIPHER = "RSA/ECB/OAEPWithSHA1AndMGF1Padding";
+
+    /**
+     * Key file.
+     */
+    private Path file;
+
+    /**
+     * Encrypted session.
+     */
+    private byte[] session;
+
+    /**
+     * Cached session key.
+     */
+    private SessionKey key;
+
+    @Setup
+    public void setup() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        this.file = Files.createTempFile("session", ".key");
+        Files.write(this.file, pair.getPrivate().getEncoded());
+        final Cipher rsa = Cipher.getInstance(SessionKeyBench.CIPHER);
+        rsa.init(Cipher.ENCRYPT_MODE, pair.getPublic());
+        this.session = rsa.doFinal("alice".getBytes(StandardCharsets.UTF_8));
+        this.key = new SessionKey(this.file);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.delete(this.file);
+    }
+
+    @Benchmark
+    public void perRequest(final Blackhole bhl) throws Exception {
+        final Cipher rsa = Cipher.getInstance(SessionKeyBench.CIPHER);
+        rsa.init(
+            Cipher.DECRYPT_MODE,
+            KeyFactory.getInstance("RSA").generatePrivate(
+                new PKCS8EncodedKeySpec(Files.readAllBytes(this.file))
+            )
+        );
+        bhl.consume(rsa.doFinal(this.session));
+    }
+
+    @Benchmark
+    public void cached(final Blackhole bhl) throws Exception {
+        bhl.consume(this.key.decrypt(this.session));
+    }
+
+    /**
+     * Main.
+     * @param args CLI args
+     * @throws RunnerException On benchmark failure
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(SessionKeyBench.class.getSimpleName())
+                .forks(1)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.benchmarks;
+
+import com.artipie.http.Headers;
+import com.artipie.management.api.CookiesAuthScheme;
+import com.artipie.management.api.SessionCache;
+import com.artipie.management.api.SessionKey;
+import com.artipie.management.api.SessionToken;
+import com.artipie.management.api.SignedCookiesAuthScheme;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for session cookie schemes under concurrent load: RSA encrypted
+ * session without cache, with decrypted sessions cache and HMAC signed session.
+ * @since 0.7
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SessionSchemeBench {
+
+    /**
+     * Key file.
+     */
+    private Path file;
+
+    /**
+     * RSA session cookie headers.
+     */
+    private Headers rsa;
+
+    /**
+     * Signed session cookie headers.
+     */
+    private Headers signed;
+
+    /**
+     * RSA scheme without sessions cache.
+     */
+    private CookiesAuthScheme uncached;
+
+    /**
+     * RSA scheme with sessions cache.
+     */
+    private CookiesAuthScheme cached;
+
+    /**
+     * HMAC signed session scheme.
+     */
+    private SignedCookiesAuthScheme hmac;
+
+    @Setup
+    public void setup() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        this.file = Files.createTempFile("session", ".key");
+        Files.write(this.file, pair.getPrivate().getEncoded());
+        final Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA1AndMGF1Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, pair.getPublic());
+        this.rsa = new Headers.From(
+            "Cookie",
+            String.format(
+                "session=%s",
+                Hex.encodeHexString(cipher.doFinal("alice".getBytes(StandardCharsets.UTF_8)))
+            )
+        );
+        final SessionKey key = new SessionKey(this.file);
+        this.uncached = new CookiesAuthScheme(new SessionCache(key, 0, Duration.ZERO));
+        this.cached = new CookiesAuthScheme(key);
+        final SessionToken token = new SessionToken(
+            "secret".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1)
+        );
+        this.signed = new Headers.From(
+            "Cookie", String.format("session=%s", token.issue("alice"))
+        );
+        this.hmac = new SignedCookiesAuthScheme(token);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.delete(this.file);
+    }
+
+    @Benchmark
+    public void rsa(final Blackhole bhl) {
+        bhl.consume(this.uncached.authenticate(this.rsa).toCompletableFuture().join().user());
+    }
+
+    @Benchmark
+    public void rsaCached(final Blackhole bhl) {
+        bhl.consume(this.cached.authenticate(this.rsa).toCompletableFuture().join().user());
+    }
+
+    @Benchmark
+    public void signed(final Blackhole bhl) {
+        bhl.consume(this.hmac.authenticate(this.signed).toCompletableFuture().join().user());
+    }
+
+    /**
+     * Main.
+     * @param args CLI args
+     * @throws RunnerException On benchmark failure
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(SessionSchemeBench.class.getSimpleName())
+                .forks(1)
+                .build()
+        ).run();
+    }
+}
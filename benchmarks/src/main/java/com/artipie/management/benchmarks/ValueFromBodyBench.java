@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.benchmarks;
+
+import com.artipie.management.misc.ValueFromBody;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicNameValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for repo update form parsing with large {@code config} field: form decoded
+ * to string and parsed on each lookup, as it was done before, versus form parsed once from
+ * body bytes. Run with {@code -prof gc} to compare allocations.
+ * @since 0.7
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ValueFromBodyBench {
+
+    /**
+     * Size of {@code config} field in bytes.
+     */
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    /**
+     * Form body bytes.
+     */
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        final StringBuilder config = new StringBuilder("repo:\n  type: maven\n  settings:\n");
+        for (int num = 0; config.length() < this.size; ++num) {
+            config.append(String.format("    key%d: value with spaces & symbols: %d\n", num, num));
+        }
+        this.body = URLEncodedUtils.format(
+            List.of(
+                new BasicNameValuePair("action", "update"),
+                new BasicNameValuePair("repo", "my-maven"),
+                new BasicNameValuePair("config", config.toString())
+            ),
+            StandardCharsets.UTF_8
+        ).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public void parsePerLookup(final Blackhole bhl) {
+        final String form = new String(this.body, StandardCharsets.US_ASCII);
+        bhl.consume(ValueFromBodyBench.lookup(form, "action"));
+        final String sub = new String(
+            form.getBytes(StandardCharsets.UTF_8), StandardCharsets.US_ASCII
+        );
+        bhl.consume(ValueFromBodyBench.lookup(sub, "config"));
+        bhl.consume(ValueFromBodyBench.lookup(sub, "repo"));
+    }
+
+    @Benchmark
+    public void parseOnce(final Blackhole bhl) {
+        final ValueFromBody vals = new ValueFromBody(ByteBuffer.wrap(this.body));
+        bhl.consume(vals.byName("action"));
+        bhl.consume(vals.byName("config"));
+        bhl.consume(vals.byName("repo"));
+    }
+
+    /**
+     * Main.
+     * @param args CLI args
+     * @throws RunnerException On benchmark failure
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ValueFromBodyBench.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    /**
+     * Value lookup of previous implementation.
+     * @param form Form
+     * @param name Name
+     * @return Last value by name
+     */
+    private static String lookup(final String form, final String name) {
+        String res = null;
+        for (final NameValuePair param : URLEncodedUtils.parse(form, StandardCharsets.UTF_8)) {
+            if (param.getName().equals(name)) {
+                res = param.getValue();
+            }
+        }
+        return res;
+    }
+}
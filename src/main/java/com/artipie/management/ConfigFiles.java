@@ -33,6 +33,27 @@ public interface ConfigFiles {
      */
     CompletionStage<Content> value(Key filename);
 
+    /**
+     * Obtains contents of the config file if it exists. Implementations should look for
+     * files with both extensions concurrently in one storage round trip, default
+     * implementation checks existence and then reads the value.
+     * @param filename Filename
+     * @return Content of the config file, empty if config file doesn't exist
+     */
+    default CompletionStage<Optional<Content>> valueIfExists(final Key filename) {
+        return this.exists(filename).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<Content>> res;
+                if (exists) {
+                    res = this.value(filename).thenApply(Optional::of);
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
     /**
      * Removes value from storage. Fails if value does not exist.
      * @param filename Filename
@@ -6,11 +6,13 @@ package com.artipie.management;
 
 import com.artipie.http.auth.Authentication;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 /**
  * Artipie credentials.
@@ -24,6 +26,48 @@ public interface Users {
      */
     CompletionStage<List<User>> list();
 
+    /**
+     * Find user by name.
+     * <p>
+     * Default implementation scans {@link #list()}, implementations which can
+     * lookup user by name should override it.
+     * </p>
+     * @param name User name
+     * @return User if found, empty otherwise
+     */
+    default CompletionStage<Optional<User>> get(final String name) {
+        return this.list().thenApply(
+            users -> users.stream().filter(user -> user.name().equals(name)).findFirst()
+        );
+    }
+
+    /**
+     * Check that user exists.
+     * @param name User name
+     * @return True if user with given name exists
+     */
+    default CompletionStage<Boolean> exists(final String name) {
+        return this.get(name).thenApply(Optional::isPresent);
+    }
+
+    /**
+     * Find users page by query.
+     * <p>
+     * Default implementation sorts and filters {@link #list()}, implementations with
+     * sorted users index should override it.
+     * </p>
+     * @param query Query
+     * @return Users matching query sorted by name, not more than query limit
+     */
+    default CompletionStage<List<User>> find(final Query query) {
+        return this.list().thenApply(
+            users -> users.stream().filter(query::matches)
+                .sorted(Comparator.comparing(User::name))
+                .limit(query.limit())
+                .collect(Collectors.toList())
+        );
+    }
+
     /**
      * Adds user to artipie users.
      * @param user User info
@@ -47,6 +91,93 @@ public interface Users {
      */
     CompletionStage<Authentication> auth();
 
+    /**
+     * Users query: page of users sorted by name, filtered by name prefix and group.
+     * @since 0.7
+     */
+    final class Query {
+
+        /**
+         * Max users count.
+         */
+        private final int max;
+
+        /**
+         * Name of the last user of previous page.
+         */
+        private final Optional<String> last;
+
+        /**
+         * User name prefix.
+         */
+        private final Optional<String> start;
+
+        /**
+         * User group.
+         */
+        private final Optional<String> grp;
+
+        /**
+         * Ctor.
+         * @param limit Max users count
+         * @param after Name of the last user of previous page, users after it are returned
+         * @param prefix User name prefix
+         * @param group User group
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Query(final int limit, final Optional<String> after,
+            final Optional<String> prefix, final Optional<String> group) {
+            this.max = limit;
+            this.last = after;
+            this.start = prefix;
+            this.grp = group;
+        }
+
+        /**
+         * Max users count.
+         * @return Limit
+         */
+        public int limit() {
+            return this.max;
+        }
+
+        /**
+         * Name of the last user of previous page.
+         * @return User name if present
+         */
+        public Optional<String> after() {
+            return this.last;
+        }
+
+        /**
+         * User name prefix.
+         * @return Prefix if present
+         */
+        public Optional<String> prefix() {
+            return this.start;
+        }
+
+        /**
+         * User group.
+         * @return Group if present
+         */
+        public Optional<String> group() {
+            return this.grp;
+        }
+
+        /**
+         * Does user match query filters?
+         * @param user User
+         * @return True if user is after the last user of previous page, has name prefix
+         *  and belongs to group
+         */
+        public boolean matches(final User user) {
+            return this.last.map(name -> user.name().compareTo(name) > 0).orElse(true)
+                && this.start.map(user.name()::startsWith).orElse(true)
+                && this.grp.map(user.groups()::contains).orElse(true);
+        }
+    }
+
     /**
      * Password format.
      * @since 0.1
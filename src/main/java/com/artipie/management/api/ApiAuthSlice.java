@@ -7,18 +7,20 @@ package com.artipie.management.api;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncSlice;
+import com.artipie.http.auth.Action;
 import com.artipie.http.auth.AuthScheme;
 import com.artipie.http.auth.Authentication;
 import com.artipie.http.auth.BasicAuthSlice;
 import com.artipie.http.auth.Permission;
 import com.artipie.http.auth.Permissions;
+import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.slice.SliceSimple;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
-import org.cactoos.list.ListOf;
 import org.reactivestreams.Publisher;
 
 /**
@@ -29,15 +31,20 @@ import org.reactivestreams.Publisher;
  */
 public final class ApiAuthSlice implements Slice {
 
+    /**
+     * API action.
+     */
+    private static final Action API = () -> Collections.singletonList("api");
+
     /**
      * Authentication.
      */
     private final Authentication auth;
 
     /**
-     * Permissions.
+     * API access permission.
      */
-    private final Permissions perms;
+    private final Permission api;
 
     /**
      * Origin.
@@ -64,7 +71,7 @@ public final class ApiAuthSlice implements Slice {
         final AuthScheme scheme
     ) {
         this.auth = auth;
-        this.perms = perms;
+        this.api = new Permission.ByName(perms, ApiAuthSlice.API);
         this.origin = origin;
         this.scheme = scheme;
     }
@@ -75,19 +82,19 @@ public final class ApiAuthSlice implements Slice {
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body
     ) {
-        final Permission permission = new Permission.All(
-            new ApiPermission(line),
-            new Permission.ByName(this.perms, () -> new ListOf<>("api"))
-        );
+        final Permission path = new ApiPermission(new RequestLineFrom(line).uri());
         return new AsyncSlice(
             this.scheme.authenticate(headers).thenApply(
                 res -> {
                     final Slice slice;
                     final Optional<Authentication.User> user = res.user();
-                    if (user.isPresent() && permission.allowed(user.get())) {
+                    if (user.isPresent() && path.allowed(user.get())
+                        && this.api.allowed(user.get())) {
                         slice = this.origin;
                     } else if (user.isEmpty()) {
-                        slice = new BasicAuthSlice(this.origin, this.auth, permission);
+                        slice = new BasicAuthSlice(
+                            this.origin, this.auth, new Permission.All(path, this.api)
+                        );
                     } else {
                         slice = new SliceSimple(new RsWithStatus(RsStatus.FORBIDDEN));
                     }
@@ -6,7 +6,6 @@ package com.artipie.management.api;
 
 import com.artipie.asto.ext.ContentAs;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.Location;
 import com.artipie.http.rq.RequestLineFrom;
@@ -32,8 +31,9 @@ import org.reactivestreams.Publisher;
  * Change user password slice.
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class ApiChangeUserPassword implements Slice {
+public final class ApiChangeUserPassword implements RouteSlice {
 
     /**
      * URI path pattern.
@@ -54,14 +54,20 @@ public final class ApiChangeUserPassword implements Slice {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public Response response(final String line,
         final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
         final Matcher matcher = PTN.matcher(new RequestLineFrom(line).uri().getPath());
         if (!matcher.matches()) {
             throw new IllegalStateException("Should match");
         }
-        final String user = matcher.group("user");
+        return this.response(Map.of("user", matcher.group("user")), line, headers, body);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final String user = vars.get("user");
         return new AsyncResponse(
             Single.just(body).to(ContentAs.STRING).map(
                 encoded -> URLEncodedUtils.parse(encoded, StandardCharsets.UTF_8)
@@ -71,9 +77,11 @@ public final class ApiChangeUserPassword implements Slice {
                     .findFirst().orElseThrow()
             ).flatMapCompletable(
                 pass -> Completable.fromFuture(
-                    this.users.add(
-                        new Users.User(user, Optional.empty()),
-                        DigestUtils.sha256Hex(pass), Users.PasswordFormat.SHA256
+                    this.users.get(user).thenCompose(
+                        found -> this.users.add(
+                            found.orElseGet(() -> new Users.User(user, Optional.empty())),
+                            DigestUtils.sha256Hex(pass), Users.PasswordFormat.SHA256
+                        )
                     ).toCompletableFuture()
                 )
             ).toSingleDefault(
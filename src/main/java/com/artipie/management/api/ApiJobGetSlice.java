@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Response;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rs.StandardRs;
+import com.artipie.http.rs.common.RsJson;
+import com.artipie.management.jobs.Jobs;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.reactivestreams.Publisher;
+
+/**
+ * Background job status {@code GET} API, responds with job JSON or with {@code 404} if
+ * job is not found.
+ * @since 0.7
+ * @checkstyle ParameterNumberCheck (500 lines)
+ */
+public final class ApiJobGetSlice implements RouteSlice {
+
+    /**
+     * URI path pattern.
+     */
+    private static final Pattern PTN = Pattern.compile("/api/jobs/(?<id>[^/]+)");
+
+    /**
+     * Background jobs.
+     */
+    private final Jobs jobs;
+
+    /**
+     * Ctor.
+     * @param jobs Background jobs
+     */
+    public ApiJobGetSlice(final Jobs jobs) {
+        this.jobs = jobs;
+    }
+
+    @Override
+    public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final Matcher matcher = PTN.matcher(new RequestLineFrom(line).uri().getPath());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Should match");
+        }
+        return this.response(Map.of("id", matcher.group("id")), line, headers, body);
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        return this.jobs.job(vars.get("id")).<Response>map(job -> new RsJson(job.json()))
+            .orElse(StandardRs.NOT_FOUND);
+    }
+}
@@ -8,28 +8,52 @@ import com.artipie.http.auth.Authentication;
 import com.artipie.http.auth.Permission;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.management.api.artifactory.FromRqLine;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.artipie.management.misc.PathTrie;
+import java.net.URI;
+import java.util.AbstractMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Permissions for API and dashboard endpoints.
  * Accepts HTTP request line as action and checks that request is allowed for the user.
- *
+ * <p>
+ * Request is allowed if path belongs to the user, i.e. it has form
+ * {@code [/api/<word> | /dashboard]/<user>[/...]}, or if path matches any of
+ * {@link FromRqLine.RqPattern} routes. The check scans path once and doesn't allocate.
+ * </p>
  * @since 0.1
  */
 public final class ApiPermission implements Permission {
 
     /**
-     * URI path pattern.
+     * Path separator.
      */
-    private static final Pattern PTN_PATH =
-        Pattern.compile("(?:/api/\\w+|/dashboard)?/(?<user>[^/.]+)(?:/.*)?");
+    private static final char SEP = '/';
 
     /**
-     * HTTP request line.
+     * API path prefix.
      */
-    private final String line;
+    private static final String API = "/api/";
+
+    /**
+     * Dashboard path prefix.
+     */
+    private static final String DASHBOARD = "/dashboard/";
+
+    /**
+     * Routes of {@link FromRqLine.RqPattern}.
+     */
+    private static final PathTrie<FromRqLine.RqPattern> ROUTES = new PathTrie<>(
+        Stream.of(FromRqLine.RqPattern.values())
+            .map(ptn -> new AbstractMap.SimpleImmutableEntry<>(ptn.template(), ptn))
+            .collect(Collectors.toList())
+    );
+
+    /**
+     * URI path.
+     */
+    private final String path;
 
     /**
      * Ctor.
@@ -37,15 +61,110 @@ public final class ApiPermission implements Permission {
      * @param line HTTP request line.
      */
     public ApiPermission(final String line) {
-        this.line = line;
+        this(new RequestLineFrom(line).uri());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param uri Request URI.
+     */
+    public ApiPermission(final URI uri) {
+        this.path = uri.getPath();
     }
 
     @Override
     public boolean allowed(final Authentication.User user) {
-        final String path = new RequestLineFrom(this.line).uri().getPath();
-        final Matcher matcher = PTN_PATH.matcher(path);
-        return matcher.matches() && user.name().equals(matcher.group("user"))
-            || Stream.of(FromRqLine.RqPattern.values()).map(FromRqLine.RqPattern::pattern)
-                .anyMatch(pattern -> pattern.matcher(path).matches());
+        return ApiPermission.owner(this.path, user.name())
+            || ApiPermission.ROUTES.matches(this.path);
+    }
+
+    /**
+     * Check that path belongs to the user.
+     * @param path URI path
+     * @param name User name
+     * @return True if user segment of the path equals to name
+     */
+    private static boolean owner(final String path, final String name) {
+        final int start = ApiPermission.user(path);
+        return start > 0 && ApiPermission.end(path, start) - start == name.length()
+            && path.regionMatches(start, name, 0, name.length());
+    }
+
+    /**
+     * Find start of user segment in path.
+     * @param path URI path
+     * @return Start of user segment or -1 if path doesn't contain user
+     */
+    private static int user(final String path) {
+        int res = -1;
+        if (path.startsWith(ApiPermission.API)) {
+            final int start = ApiPermission.API.length();
+            final int end = ApiPermission.end(path, start);
+            if (ApiPermission.word(path, start, end)
+                && ApiPermission.segment(path, end + 1)) {
+                res = end + 1;
+            }
+        }
+        if (res < 0 && path.startsWith(ApiPermission.DASHBOARD)
+            && ApiPermission.segment(path, ApiPermission.DASHBOARD.length())) {
+            res = ApiPermission.DASHBOARD.length();
+        }
+        if (res < 0 && ApiPermission.segment(path, 1)) {
+            res = 1;
+        }
+        return res;
+    }
+
+    /**
+     * Check that path has non-empty segment without `.` chars at position.
+     * @param path URI path
+     * @param start Segment start, the char before it should be `/`
+     * @return True if segment is valid user name
+     */
+    private static boolean segment(final String path, final int start) {
+        boolean res = start <= path.length() && path.charAt(start - 1) == ApiPermission.SEP;
+        final int end;
+        if (res) {
+            end = ApiPermission.end(path, start);
+        } else {
+            end = start;
+        }
+        res = res && end > start;
+        for (int idx = start; res && idx < end; idx = idx + 1) {
+            res = path.charAt(idx) != '.';
+        }
+        return res;
+    }
+
+    /**
+     * Check that path region is non-empty and consists of word chars: {@code [a-zA-Z_0-9]}.
+     * @param path URI path
+     * @param start Region start
+     * @param end Region end
+     * @return True if region is a word
+     */
+    private static boolean word(final String path, final int start, final int end) {
+        boolean res = end > start;
+        for (int idx = start; res && idx < end; idx = idx + 1) {
+            final char chr = path.charAt(idx);
+            res = chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z'
+                || chr >= '0' && chr <= '9' || chr == '_';
+        }
+        return res;
+    }
+
+    /**
+     * End of path segment.
+     * @param path URI path
+     * @param start Segment start
+     * @return Position of next `/` or path length
+     */
+    private static int end(final String path, final int start) {
+        int end = path.indexOf(ApiPermission.SEP, start);
+        if (end < 0) {
+            end = path.length();
+        }
+        return end;
     }
 }
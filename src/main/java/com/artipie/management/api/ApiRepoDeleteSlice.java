@@ -8,19 +8,24 @@ import com.artipie.asto.Key;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.rs.common.RsJson;
 import com.artipie.management.ConfigFiles;
 import com.artipie.management.Storages;
+import com.artipie.management.jobs.Job;
+import com.artipie.management.jobs.Jobs;
 import com.artipie.management.misc.ValueFromBody;
+import com.artipie.management.repo.DeleteRepo;
+import com.artipie.management.repo.RepoConfigCache;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
@@ -28,10 +33,19 @@ import org.reactivestreams.Publisher;
 
 /**
  * Repo {@code DELETE} API.
+ * <p>
+ * If background jobs are given, repository config is deleted first, so repository is
+ * unpublished immediately, then repository items are deleted by background job. Responds with
+ * {@code 202 Accepted} and job status, which can be requested later from {@code Location}
+ * header URI, see {@link ApiJobGetSlice}, so the same jobs should be passed to
+ * {@link ApiJobGetSlice}. Without background jobs repository items and config are deleted
+ * before response, which is {@code 302 Found} redirect to user dashboard.
+ * </p>
  * @since 0.5
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-final class ApiRepoDeleteSlice implements Slice {
+final class ApiRepoDeleteSlice implements RouteSlice {
     /**
      * Config file to support `.yaml` and `.yml` extensions.
      */
@@ -43,13 +57,68 @@ final class ApiRepoDeleteSlice implements Slice {
     private final Storages storages;
 
     /**
-     * Ctor.
+     * Repo configs cache.
+     */
+    private final RepoConfigCache configs;
+
+    /**
+     * Background jobs, empty to delete repository before response.
+     */
+    private final Optional<Jobs> jobs;
+
+    /**
+     * Repository items deletion.
+     */
+    private final DeleteRepo deletion;
+
+    /**
+     * Ctor, repository is deleted before response.
      * @param storages Artipie repo storage
      * @param configfile Config file to support `.yaml` and `.yml` extensions
      */
     ApiRepoDeleteSlice(final Storages storages, final ConfigFiles configfile) {
+        this(storages, configfile, new RepoConfigCache(configfile, 0L));
+    }
+
+    /**
+     * Ctor, repository is deleted before response.
+     * @param storages Artipie repo storage
+     * @param configfile Config file to support `.yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate deleted config in
+     */
+    ApiRepoDeleteSlice(final Storages storages, final ConfigFiles configfile,
+        final RepoConfigCache configs) {
+        this(storages, configfile, configs, Optional.empty(), new DeleteRepo());
+    }
+
+    /**
+     * Ctor, repository items are deleted by background job.
+     * @param storages Artipie repo storage
+     * @param configfile Config file to support `.yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate deleted config in
+     * @param jobs Background jobs, the same jobs should be served by {@link ApiJobGetSlice}
+     * @param deletion Repository items deletion
+     */
+    ApiRepoDeleteSlice(final Storages storages, final ConfigFiles configfile,
+        final RepoConfigCache configs, final Jobs jobs, final DeleteRepo deletion) {
+        this(storages, configfile, configs, Optional.of(jobs), deletion);
+    }
+
+    /**
+     * Ctor.
+     * @param storages Artipie repo storage
+     * @param configfile Config file to support `.yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate deleted config in
+     * @param jobs Background jobs, empty to delete repository before response
+     * @param deletion Repository items deletion
+     */
+    private ApiRepoDeleteSlice(final Storages storages, final ConfigFiles configfile,
+        final RepoConfigCache configs, final Optional<Jobs> jobs, final DeleteRepo deletion) {
         this.storages = storages;
         this.configfile = configfile;
+        this.configs = configs;
+        this.jobs = jobs;
+        this.deletion = deletion;
     }
 
     @Override
@@ -70,20 +139,58 @@ final class ApiRepoDeleteSlice implements Slice {
                 )
             );
         }
-        final String user = matcher.group("user");
+        return this.response(Map.of("user", matcher.group("user")), line, headers, body);
+    }
+
+    @Override
+    public Response response(
+        final Map<String, String> vars,
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
         return new AsyncResponse(
-            new PublisherAs(body).asciiString()
+            new PublisherAs(body).bytes().thenApply(
+                bytes -> this.response(
+                    vars.get("user"), new ValueFromBody(ByteBuffer.wrap(bytes))
+                )
+            )
+        );
+    }
+
+    /**
+     * Delete repo by parsed form.
+     * @param user User name
+     * @param vals Form values
+     * @return Response
+     */
+    Response response(final String user, final ValueFromBody vals) {
+        return new AsyncResponse(
+            CompletableFuture.completedFuture(vals)
                 .thenCompose(
                     form -> {
-                        final ValueFromBody vals = new ValueFromBody(form);
-                        final String name = vals.byNameOrThrow("repo");
+                        final String name = form.byNameOrThrow("repo");
                         final Key repo = new Key.From(user, String.format("%s.yaml", name));
                         return this.configfile.exists(repo)
                             .thenCompose(
                                 exists -> {
                                     final CompletionStage<Response> res;
-                                    if (exists) {
-                                        res = this.deleteConfigAndItems(repo).thenApply(
+                                    if (exists && this.jobs.isPresent()) {
+                                        res = this.deleteConfigAndItems(
+                                            repo, this.jobs.get()
+                                        ).thenApply(
+                                            job -> new RsWithHeaders(
+                                                new RsWithStatus(
+                                                    new RsJson(job.json()), RsStatus.ACCEPTED
+                                                ),
+                                                new Headers.From(
+                                                    "Location",
+                                                    String.format("/api/jobs/%s", job.id())
+                                                )
+                                            )
+                                        );
+                                    } else if (exists) {
+                                        res = this.deleteItemsAndConfig(repo).thenApply(
                                             noth -> new RsWithHeaders(
                                                 new RsWithStatus(RsStatus.FOUND),
                                                 new Headers.From(
@@ -110,13 +217,35 @@ final class ApiRepoDeleteSlice implements Slice {
     }
 
     /**
-     * Removes configuration file and items from the storage.
+     * Removes items from the storage and then configuration file.
      * @param repo Key to the repo configuration
-     * @return Result of completion
+     * @return Completion
      */
-    private CompletionStage<Void> deleteConfigAndItems(final Key repo) {
+    private CompletionStage<Void> deleteItemsAndConfig(final Key repo) {
         return this.storages.repoStorage(repo.string())
             .thenCompose(strg -> strg.deleteAll(Key.ROOT))
-            .thenCompose(noth -> this.configfile.delete(repo));
+            .thenCompose(noth -> this.configfile.delete(repo))
+            .thenAccept(noth -> this.configs.invalidate(repo));
+    }
+
+    /**
+     * Removes configuration file and starts removal of items from the storage.
+     * @param repo Key to the repo configuration
+     * @param background Background jobs
+     * @return Items removal job
+     */
+    private CompletionStage<Job> deleteConfigAndItems(final Key repo, final Jobs background) {
+        return this.storages.repoStorage(repo.string()).thenCompose(
+            strg -> this.configfile.delete(repo).thenApply(
+                noth -> {
+                    this.configs.invalidate(repo);
+                    return background.start(
+                        "repo-delete",
+                        this.configfile.name(repo),
+                        job -> this.deletion.delete(strg, job)
+                    );
+                }
+            )
+        );
     }
 }
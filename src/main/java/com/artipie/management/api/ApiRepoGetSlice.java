@@ -4,24 +4,18 @@
  */
 package com.artipie.management.api;
 
-import com.amihaiemil.eoyaml.Scalar;
-import com.amihaiemil.eoyaml.Yaml;
-import com.amihaiemil.eoyaml.YamlMapping;
-import com.amihaiemil.eoyaml.YamlMappingBuilder;
-import com.artipie.asto.Concatenation;
 import com.artipie.asto.Key;
-import com.artipie.asto.Remaining;
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.management.ConfigFiles;
-import hu.akarnokd.rxjava2.interop.SingleInterop;
-import io.reactivex.Single;
+import com.artipie.management.repo.RepoConfigCache;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,62 +23,73 @@ import org.reactivestreams.Publisher;
 
 /**
  * Repo {@code GET} API.
+ * <p>
+ * Responds with repo config projection from {@link RepoConfigCache}, so requests of cached
+ * config don't touch settings storage and don't parse YAML. Entity tag of the response is
+ * config file hash, see {@link EntityTag}.
+ * </p>
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class ApiRepoGetSlice implements Slice {
+public final class ApiRepoGetSlice implements RouteSlice {
 
     /**
      * URI path pattern.
      */
-    private static final Pattern PTN = Pattern.compile("/api/repos/(?<key>[^/.]+/[^/.]+)");
+    private static final Pattern PTN =
+        Pattern.compile("/api/repos/(?<user>[^/.]+)/(?<repo>[^/.]+)");
 
     /**
-     * Config file to support `yaml` and `.yml` extensions.
+     * Repo configs.
      */
-    private final ConfigFiles configfile;
+    private final RepoConfigCache configs;
 
     /**
-     * New repo API.
+     * New repo API without configs caching.
      * @param configfile Config file to support `yaml` and `.yml` extensions
      */
     public ApiRepoGetSlice(final ConfigFiles configfile) {
-        this.configfile = configfile;
+        this(new RepoConfigCache(configfile, 0L));
+    }
+
+    /**
+     * New repo API.
+     * @param configs Repo configs cache
+     */
+    public ApiRepoGetSlice(final RepoConfigCache configs) {
+        this.configs = configs;
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
         final Matcher matcher = PTN.matcher(new RequestLineFrom(line).uri().getPath());
         if (!matcher.matches()) {
             throw new IllegalStateException("Should match");
         }
-        final String name = matcher.group("key");
-        final Key.From key = new Key.From(String.format("%s.yaml", name));
-        // @checkstyle LineLengthCheck (50 lines)
+        return this.response(
+            Map.of("user", matcher.group("user"), "repo", matcher.group("repo")),
+            line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
         return new AsyncResponse(
-            SingleInterop.fromFuture(this.configfile.exists(key)).filter(exists -> exists)
-                .flatMapSingleElement(
-                    ignore -> SingleInterop.fromFuture(this.configfile.value(key))
-                        .flatMap(pub -> new Concatenation(pub).single())
-                        .map(
-                            data -> Yaml.createYamlInput(
-                                new String(new Remaining(data).bytes(), StandardCharsets.UTF_8)
-                            ).readYamlMapping()
-                        ).map(
-                            config -> {
-                                final YamlMapping repo = config.yamlMapping("repo");
-                                YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
-                                builder = builder.add("type", repo.value("type"));
-                                if (repo.value("storage") != null
-                                    && Scalar.class.isAssignableFrom(repo.value("storage").getClass())) {
-                                    builder = builder.add("storage", repo.value("storage"));
-                                }
-                                builder = builder.add("permissions", repo.value("permissions"));
-                                return Yaml.createYamlMappingBuilder().add("repo", builder.build()).build();
-                            }
-                        ).<Response>map(RsYaml::new)
-                ).switchIfEmpty(Single.just(new RsWithStatus(RsStatus.NOT_FOUND)))
+            this.configs.config(
+                new Key.From(vars.get("user"), String.format("%s.yaml", vars.get("repo")))
+            ).thenApply(
+                config -> config.map(
+                    found -> new EntityTag(found.hash()).response(
+                        headers,
+                        () -> new RsWithHeaders(
+                            new RsWithBody(found.body()),
+                            new Headers.From("content-type", "text/yaml; charset=UTF-8")
+                        )
+                    )
+                ).orElse(new RsWithStatus(RsStatus.NOT_FOUND))
+            )
         );
     }
 }
@@ -9,7 +9,6 @@ import com.artipie.asto.Storage;
 import com.artipie.asto.rx.RxStorage;
 import com.artipie.asto.rx.RxStorageWrapper;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.common.RsJson;
@@ -26,9 +25,10 @@ import org.reactivestreams.Publisher;
 /**
  * Repo list API.
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
 @SuppressWarnings("PMD.ClassDataAbstractionCouplingCheck")
-public final class ApiRepoListSlice implements Slice {
+public final class ApiRepoListSlice implements RouteSlice {
 
     /**
      * URI path pattern.
@@ -56,14 +56,20 @@ public final class ApiRepoListSlice implements Slice {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
         final Matcher matcher = PTN.matcher(new RequestLineFrom(line).uri().getPath());
         if (!matcher.matches()) {
             throw new IllegalStateException("Should match");
         }
-        final String user = matcher.group("user");
+        return this.response(Map.of("user", matcher.group("user")), line, headers, body);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final String user = vars.get("user");
         final RxStorage rxstorage = new RxStorageWrapper(this.storage);
         return new AsyncResponse(
             rxstorage.list(new Key.From(user))
@@ -4,20 +4,22 @@
  */
 package com.artipie.management.api;
 
-import com.artipie.asto.Content;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.management.ConfigFiles;
 import com.artipie.management.Storages;
+import com.artipie.management.jobs.Jobs;
 import com.artipie.management.misc.ValueFromBody;
+import com.artipie.management.repo.DeleteRepo;
+import com.artipie.management.repo.RepoConfigCache;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.reactivestreams.Publisher;
 
@@ -25,69 +27,118 @@ import org.reactivestreams.Publisher;
  * Slice for routing {@code POST} requests by parsing content and checking
  * methods which are written in this content.
  * @since 0.5
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class ApiRepoPostRtSlice implements Slice {
+public final class ApiRepoPostRtSlice implements RouteSlice {
     /**
      * URI path pattern.
      */
     static final Pattern PTN = Pattern.compile("/api/repos/(?<user>[^/.]+)");
 
     /**
-     * Config file to support `.yaml` and `.yml` extensions.
+     * Repo update slice.
      */
-    private final ConfigFiles configfile;
+    private final ApiRepoUpdateSlice update;
 
     /**
-     * Artipie storages.
+     * Repo delete slice.
      */
-    private final Storages storages;
+    private final ApiRepoDeleteSlice delete;
 
     /**
-     * Ctor.
+     * Ctor, repositories are deleted before response, which redirects to user dashboard.
      * @param storages Artipie storages
      * @param configfile Config file to support `.yaml` and `.yml` extensions
      */
     public ApiRepoPostRtSlice(final Storages storages, final ConfigFiles configfile) {
-        this.storages = storages;
-        this.configfile = configfile;
+        this(storages, configfile, new RepoConfigCache(configfile, 0L));
+    }
+
+    /**
+     * Ctor, repositories are deleted before response, which redirects to user dashboard.
+     * @param storages Artipie storages
+     * @param configfile Config file to support `.yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate changed configs in
+     */
+    public ApiRepoPostRtSlice(final Storages storages, final ConfigFiles configfile,
+        final RepoConfigCache configs) {
+        this(
+            new ApiRepoUpdateSlice(configfile, configs),
+            new ApiRepoDeleteSlice(storages, configfile, configs)
+        );
+    }
+
+    /**
+     * Ctor.
+     * <p>
+     * Conditional repo config updates with {@code If-Match} header are atomic only for
+     * updates made through the same instance, so single instance should serve all requests.
+     * </p>
+     * @param storages Artipie storages
+     * @param configfile Config file to support `.yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate changed configs in
+     * @param jobs Background jobs, repositories items are deleted by jobs, the same jobs
+     *  should be served by {@link ApiJobGetSlice}, so job URI from response is available
+     * @param deletion Repository items deletion
+     */
+    public ApiRepoPostRtSlice(final Storages storages, final ConfigFiles configfile,
+        final RepoConfigCache configs, final Jobs jobs, final DeleteRepo deletion) {
+        this(
+            new ApiRepoUpdateSlice(configfile, configs),
+            new ApiRepoDeleteSlice(storages, configfile, configs, jobs, deletion)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param update Repo update slice
+     * @param delete Repo delete slice
+     */
+    private ApiRepoPostRtSlice(final ApiRepoUpdateSlice update,
+        final ApiRepoDeleteSlice delete) {
+        this.update = update;
+        this.delete = delete;
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> content
+    ) {
+        final Matcher matcher = ApiRepoPostRtSlice.PTN.matcher(
+            new RequestLineFrom(line).uri().getPath()
+        );
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Should match");
+        }
+        return this.response(Map.of("user", matcher.group("user")), line, headers, content);
     }
 
     @Override
     public Response response(
+        final Map<String, String> vars,
         final String line,
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> content
     ) {
+        final String user = vars.get("user");
         return new AsyncResponse(
-            new PublisherAs(content)
-                .asciiString()
-                .thenApply(
-                    form -> {
-                        final Response res;
-                        final ValueFromBody vals = new ValueFromBody(form);
-                        final Optional<String> meth = vals.byName("action");
-                        if (meth.isPresent() && Action.UPDATE.value().equals(meth.get())) {
-                            res = new ApiRepoUpdateSlice(this.configfile)
-                                .response(
-                                    line, headers,
-                                    new Content.From(
-                                        vals.payload().getBytes(StandardCharsets.UTF_8)
-                                    )
-                                );
-                        } else if (meth.isPresent() && Action.DELETE.value().equals(meth.get())) {
-                            res = new ApiRepoDeleteSlice(this.storages, this.configfile)
-                                .response(
-                                    line, headers,
-                                    new Content.From(
-                                        vals.payload().getBytes(StandardCharsets.UTF_8)
-                                    )
-                                );
-                        } else {
-                            res = new RsWithStatus(RsStatus.BAD_REQUEST);
-                        }
-                        return res;
+            new PublisherAs(content).bytes().thenApply(
+                bytes -> {
+                    final Response res;
+                    final ValueFromBody vals = new ValueFromBody(ByteBuffer.wrap(bytes));
+                    final Optional<String> meth = vals.byName("action");
+                    if (meth.isPresent() && Action.UPDATE.value().equals(meth.get())) {
+                        res = this.update.response(user, headers, vals);
+                    } else if (meth.isPresent() && Action.DELETE.value().equals(meth.get())) {
+                        res = this.delete.response(user, vals);
+                    } else {
+                        res = new RsWithStatus(RsStatus.BAD_REQUEST);
                     }
-                )
+                    return res;
+                }
+            )
         );
     }
 
@@ -9,10 +9,10 @@ import com.amihaiemil.eoyaml.YamlMapping;
 import com.artipie.ArtipieException;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
+import com.artipie.asto.ext.Digests;
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsStatus;
@@ -21,35 +21,63 @@ import com.artipie.http.rs.RsWithHeaders;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.management.ConfigFiles;
 import com.artipie.management.misc.ValueFromBody;
+import com.artipie.management.repo.RepoConfigCache;
 import com.artipie.management.repo.UpdateRepo;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
+import org.apache.commons.codec.binary.Hex;
 import org.cactoos.scalar.Unchecked;
 import org.reactivestreams.Publisher;
 
 /**
- * Patch repo API.
+ * Patch repo API. Update is conditional if request has {@code If-Match} header with
+ * {@link EntityTag} of repo config, {@code 409} is returned if config was changed.
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-final class ApiRepoUpdateSlice implements Slice {
+final class ApiRepoUpdateSlice implements RouteSlice {
     /**
      * Config file to support `yaml` and `.yml` extensions.
      */
     private final ConfigFiles configfile;
 
+    /**
+     * Repo configs cache.
+     */
+    private final RepoConfigCache configs;
+
+    /**
+     * Conditional updates.
+     */
+    private final IfMatch ifmatch;
+
     /**
      * New patch API.
      * @param configfile Config file to support `yaml` and `.yml` extensions
      */
     ApiRepoUpdateSlice(final ConfigFiles configfile) {
+        this(configfile, new RepoConfigCache(configfile, 0L));
+    }
+
+    /**
+     * New patch API, conditional updates are atomic only for updates made through
+     * this instance.
+     * @param configfile Config file to support `yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate updated config in
+     */
+    ApiRepoUpdateSlice(final ConfigFiles configfile, final RepoConfigCache configs) {
         this.configfile = configfile;
+        this.configs = configs;
+        this.ifmatch = new IfMatch();
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public Response response(final String line,
         final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
         final Matcher matcher = ApiRepoPostRtSlice.PTN.matcher(
@@ -58,48 +86,103 @@ final class ApiRepoUpdateSlice implements Slice {
         if (!matcher.matches()) {
             throw new IllegalStateException("Should match");
         }
-        final String user = matcher.group("user");
+        return this.response(Map.of("user", matcher.group("user")), line, headers, body);
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        return new AsyncResponse(
+            new PublisherAs(body).bytes().thenApply(
+                bytes -> this.response(
+                    vars.get("user"), headers, new ValueFromBody(ByteBuffer.wrap(bytes))
+                )
+            )
+        );
+    }
+
+    /**
+     * Update repo config from parsed form.
+     * @param user User name
+     * @param headers Request headers
+     * @param vals Form values
+     * @return Response
+     */
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
+    Response response(final String user, final Iterable<Map.Entry<String, String>> headers,
+        final ValueFromBody vals) {
         // @checkstyle LineLengthCheck (500 lines)
         return new AsyncResponse(
-            new PublisherAs(body).asciiString()
-                .thenApply(ValueFromBody::new).thenCompose(
-                    vals -> {
-                        final YamlMapping repo = configsFromBody(vals).yamlMapping("repo");
-                        if (repo == null) {
-                            throw new ArtipieException("Repo section is required");
-                        }
-                        final String name = vals.byNameOrThrow("repo");
-                        return this.configfile.save(
-                            new Key.From(user, String.format("%s.yaml", name)),
-                            new Content.From(
-                                Yaml.createYamlMappingBuilder()
-                                    .add("repo", new UpdateRepo.Valid(repo).repo())
-                                    .build().toString().getBytes(StandardCharsets.UTF_8)
-                            )
-                        ).thenApply(nothing -> name);
-                    }).handle(
-                        (name, throwable) -> {
-                            final Response res;
-                            if (throwable == null) {
-                                res = new RsWithHeaders(
-                                    new RsWithStatus(RsStatus.FOUND),
-                                    new Headers.From("Location", String.format("/dashboard/%s/%s", user, name))
-                                );
-                            } else if (throwable.getCause() instanceof ArtipieException) {
-                                res = new RsWithBody(
-                                    new RsWithStatus(RsStatus.BAD_REQUEST),
-                                    String.format("Invalid yaml input:\n%s", throwable.getCause().getMessage()),
-                                    StandardCharsets.UTF_8
-                                );
-                            } else {
-                                res = new RsWithStatus(RsStatus.INTERNAL_ERROR);
+            CompletableFuture.completedFuture(vals).thenCompose(
+                form -> {
+                    final YamlMapping repo = configsFromBody(form).yamlMapping("repo");
+                    if (repo == null) {
+                        throw new ArtipieException("Repo section is required");
+                    }
+                    final String name = form.byNameOrThrow("repo");
+                    final Key key = new Key.From(user, String.format("%s.yaml", name));
+                    final byte[] config = Yaml.createYamlMappingBuilder()
+                        .add("repo", new UpdateRepo.Valid(repo).repo())
+                        .build().toString().getBytes(StandardCharsets.UTF_8);
+                    return this.ifmatch.update(
+                        this.configfile.name(key),
+                        headers,
+                        () -> this.tag(key),
+                        () -> this.configfile.save(key, new Content.From(config)).thenApply(
+                            nothing -> {
+                                this.configs.invalidate(key);
+                                return name;
                             }
-                            return res;
+                        )
+                    );
+                }).handle(
+                    (name, throwable) -> {
+                        final Response res;
+                        if (throwable == null) {
+                            res = name.<Response>map(
+                                val -> new RsWithHeaders(
+                                    new RsWithStatus(RsStatus.FOUND),
+                                    new Headers.From("Location", String.format("/dashboard/%s/%s", user, val))
+                                )
+                            ).orElse(new RsWithStatus(RsStatus.CONFLICT));
+                        } else if (throwable.getCause() instanceof ArtipieException) {
+                            res = new RsWithBody(
+                                new RsWithStatus(RsStatus.BAD_REQUEST),
+                                String.format("Invalid yaml input:\n%s", throwable.getCause().getMessage()),
+                                StandardCharsets.UTF_8
+                            );
+                        } else {
+                            res = new RsWithStatus(RsStatus.INTERNAL_ERROR);
                         }
-                    )
+                        return res;
+                    }
+                )
             );
     }
 
+    /**
+     * Current entity tag of repo config: config file hash.
+     * @param key Config key
+     * @return Tag, empty if config doesn't exist
+     */
+    private CompletionStage<Optional<EntityTag>> tag(final Key key) {
+        return this.configfile.valueIfExists(key).thenCompose(
+            content -> {
+                final CompletionStage<Optional<EntityTag>> res;
+                if (content.isPresent()) {
+                    res = new PublisherAs(content.get()).bytes().thenApply(
+                        bytes -> Optional.of(
+                            new EntityTag(Hex.encodeHexString(Digests.SHA256.get().digest(bytes)))
+                        )
+                    );
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
     /**
      * Obtains config from body.
      * @param vals Values in body
@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.rs.StandardRs;
+import com.artipie.management.misc.PathTrie;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.reactivestreams.Publisher;
+
+/**
+ * Management API router.
+ * <p>
+ * Parses request line once, finds route by request path in {@link PathTrie} of route
+ * templates and passes path variables to route slice. Responds with
+ * {@code 404} if no route matches the path and with {@code 405} if route matches the path,
+ * but not the method. Counts requests handled by each route, see {@link #hits()}. Route
+ * responses are compressed if client accepts compressed responses, see {@link RsCompressed}.
+ * </p>
+ * @since 0.7
+ */
+public final class ApiRouter implements Slice {
+
+    /**
+     * Route targets by path template and method.
+     */
+    private final PathTrie<Map<RqMethod, Target>> trie;
+
+    /**
+     * All route targets.
+     */
+    private final List<Target> targets;
+
+    /**
+     * Ctor.
+     * @param routes Routes
+     */
+    public ApiRouter(final Route... routes) {
+        this(Arrays.asList(routes));
+    }
+
+    /**
+     * Ctor.
+     * @param routes Routes
+     */
+    public ApiRouter(final Collection<Route> routes) {
+        this.targets = Collections.unmodifiableList(
+            routes.stream().map(Target::new).collect(Collectors.toList())
+        );
+        this.trie = ApiRouter.trie(this.targets);
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        final Optional<PathTrie.Match<Map<RqMethod, Target>>> match =
+            this.trie.match(rql.uri().getPath());
+        final Response res;
+        if (match.isEmpty()) {
+            res = StandardRs.NOT_FOUND;
+        } else {
+            final Map<RqMethod, Target> methods = match.get().value();
+            final Target target = methods.get(rql.method());
+            if (target == null) {
+                res = new RsWithHeaders(
+                    new RsWithStatus(RsStatus.METHOD_NOT_ALLOWED),
+                    new Headers.From(
+                        "Allow",
+                        methods.keySet().stream().map(RqMethod::value)
+                            .collect(Collectors.joining(", "))
+                    )
+                );
+            } else {
+                target.hits.increment();
+                res = new RsCompressed(
+                    target.route.slice.response(match.get().vars(), line, headers, body),
+                    headers
+                );
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Count of requests handled by routes.
+     * @return Map of route in form {@code <method> <template>} to requests count
+     */
+    public Map<String, Long> hits() {
+        final Map<String, Long> res = new LinkedHashMap<>();
+        for (final Target target : this.targets) {
+            res.put(
+                String.format("%s %s", target.route.method.value(), target.route.template),
+                target.hits.sum()
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Build routes trie.
+     * @param targets Route targets
+     * @return Trie of targets by method
+     */
+    private static PathTrie<Map<RqMethod, Target>> trie(final List<Target> targets) {
+        final Map<String, Map<RqMethod, Target>> methods = new LinkedHashMap<>();
+        for (final Target target : targets) {
+            final Target prev = methods.computeIfAbsent(
+                target.route.template, tmpl -> new EnumMap<>(RqMethod.class)
+            ).put(target.route.method, target);
+            if (prev != null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Duplicate route: %s %s",
+                        target.route.method.value(), target.route.template
+                    )
+                );
+            }
+        }
+        return new PathTrie<>(
+            methods.entrySet().stream().map(
+                entry -> new AbstractMap.SimpleImmutableEntry<>(
+                    entry.getKey(), Collections.unmodifiableMap(entry.getValue())
+                )
+            ).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * API route.
+     * @since 0.7
+     */
+    public static final class Route {
+
+        /**
+         * Request method.
+         */
+        private final RqMethod method;
+
+        /**
+         * Path template, see {@link PathTrie}.
+         */
+        private final String template;
+
+        /**
+         * Route slice.
+         */
+        private final RouteSlice slice;
+
+        /**
+         * Route to slice without path variables.
+         * @param method Request method
+         * @param template Path template
+         * @param slice Slice
+         */
+        public Route(final RqMethod method, final String template, final Slice slice) {
+            this(method, template, new RouteSlice.Simple(slice));
+        }
+
+        /**
+         * Route to slice with path variables.
+         * @param method Request method
+         * @param template Path template, see {@link PathTrie}
+         * @param slice Route slice
+         */
+        public Route(final RqMethod method, final String template, final RouteSlice slice) {
+            this.method = method;
+            this.template = template;
+            this.slice = slice;
+        }
+    }
+
+    /**
+     * Route with requests counter.
+     * @since 0.7
+     */
+    private static final class Target {
+
+        /**
+         * Route.
+         */
+        private final Route route;
+
+        /**
+         * Requests counter.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Ctor.
+         * @param route Route
+         */
+        Target(final Route route) {
+            this.route = route;
+            this.hits = new LongAdder();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.rq.RqHeaders;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Request cookies.
+ * @since 0.7
+ */
+final class Cookies {
+
+    /**
+     * Request headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Cookies from request headers.
+     * @param headers Request headers
+     */
+    Cookies(final Iterable<Map.Entry<String, String>> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Cookie value by name.
+     * @param name Cookie name
+     * @return Cookie value if present
+     */
+    Optional<String> value(final String name) {
+        return Optional.ofNullable(
+            Cookies.cookies(new RqHeaders(this.headers, "Cookie")).get(name)
+        );
+    }
+
+    /**
+     * Map of cookies.
+     *
+     * @param raw Raw strings of cookie headers
+     * @return Cookies map
+     */
+    private static Map<String, String> cookies(final Iterable<String> raw) {
+        final Map<String, String> map = new HashMap<>(0);
+        for (final String value : raw) {
+            for (final String pair : value.split(";")) {
+                final String[] parts = pair.split("=", 2);
+                final String key = parts[0].trim().toLowerCase(Locale.US);
+                if (parts.length > 1 && !parts[1].isEmpty()) {
+                    map.put(key, parts[1].trim());
+                } else {
+                    map.remove(key);
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -6,25 +6,15 @@ package com.artipie.management.api;
 
 import com.artipie.http.auth.AuthScheme;
 import com.artipie.http.auth.Authentication;
-import com.artipie.http.rq.RqHeaders;
 import com.jcabi.log.Logger;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
-import java.security.KeyFactory;
-import java.security.spec.KeySpec;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import javax.crypto.Cipher;
 import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
 
 /**
  * API request cookies.
@@ -38,73 +28,72 @@ public final class CookiesAuthScheme implements AuthScheme {
      */
     private static final String SCHEME = "Cookie";
 
+    /**
+     * Decrypted sessions, empty if session key is not configured.
+     */
+    private final Optional<SessionCache> sessions;
+
+    /**
+     * Cookies auth scheme with session key file from `ARTIPIE_SESSION_KEY` environment.
+     */
+    public CookiesAuthScheme() {
+        this(
+            Optional.ofNullable(System.getenv("ARTIPIE_SESSION_KEY"))
+                .map(Paths::get).map(SessionKey::new).map(SessionCache::new)
+        );
+    }
+
+    /**
+     * Cookies auth scheme with session key.
+     * @param key Session key
+     */
+    public CookiesAuthScheme(final SessionKey key) {
+        this(new SessionCache(key));
+    }
+
+    /**
+     * Cookies auth scheme with decrypted sessions cache.
+     * @param sessions Decrypted sessions
+     */
+    public CookiesAuthScheme(final SessionCache sessions) {
+        this(Optional.of(sessions));
+    }
+
+    /**
+     * Primary ctor.
+     * @param sessions Decrypted sessions, empty if session key is not configured
+     */
+    private CookiesAuthScheme(final Optional<SessionCache> sessions) {
+        this.sessions = sessions;
+    }
+
     @Override
     public CompletionStage<Result> authenticate(
         final Iterable<Map.Entry<String, String>> headers, final String line
     ) {
         return CompletableFuture.completedFuture(
-            CookiesAuthScheme.session(
-                Optional.ofNullable(
-                    CookiesAuthScheme.cookies(
-                        new RqHeaders(headers, CookiesAuthScheme.SCHEME)
-                    ).get("session")
-                )
-            )
+            this.session(new Cookies(headers).value("session"))
         );
     }
 
-    /**
-     * Map of cookies.
-     *
-     * @param raw Raw strings of cookie headers
-     * @return Cookies map
-     */
-    private static Map<String, String> cookies(final Iterable<String> raw) {
-        final Map<String, String> map = new HashMap<>(0);
-        for (final String value : raw) {
-            for (final String pair : value.split(";")) {
-                final String[] parts = pair.split("=", 2);
-                final String key = parts[0].trim().toLowerCase(Locale.US);
-                if (parts.length > 1 && !parts[1].isEmpty()) {
-                    map.put(key, parts[1].trim());
-                } else {
-                    map.remove(key);
-                }
-            }
-        }
-        return map;
-    }
-
     /**
      * Decode session id to user name.
      * <p>
      * Encoded session string is hex of user id encrypted with RSA public key.
-     * See cipher and key spec format for more details.
+     * See {@link SessionKey} for cipher and key spec format details, decrypted sessions
+     * are cached by {@link SessionCache}.
      * </p>
      *
      * @param encoded Encoded string
      * @return User id
      */
-    private static Result session(final Optional<String> encoded) {
-        final String env = System.getenv("ARTIPIE_SESSION_KEY");
+    private Result session(final Optional<String> encoded) {
         final Optional<Authentication.User> user;
-        if (env == null || encoded.isEmpty()) {
+        if (this.sessions.isEmpty() || encoded.isEmpty()) {
             user = Optional.empty();
         } else {
-            final byte[] key;
             try {
-                key = Files.readAllBytes(Paths.get(env));
-                final KeySpec spec = new PKCS8EncodedKeySpec(key);
-                final Cipher rsa = Cipher.getInstance("RSA/ECB/OAEPWithSHA1AndMGF1Padding");
-                rsa.init(Cipher.DECRYPT_MODE, KeyFactory.getInstance("RSA").generatePrivate(spec));
-                user = Optional.of(
-                    new Authentication.User(
-                        new String(
-                            rsa.doFinal(Hex.decodeHex(encoded.get().toCharArray())),
-                            StandardCharsets.UTF_8
-                        )
-                    )
-                );
+                user = Optional.of(this.sessions.get().user(encoded.get()));
             } catch (final IOException | DecoderException | GeneralSecurityException err) {
                 Logger.error(
                     CookiesAuthScheme.class, "Failed to read session cookie: %[exception]s"
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.asto.ext.Digests;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Strong entity tag of the response, see
+ * <a href="https://tools.ietf.org/html/rfc7232#section-2.3">RFC 7232</a>.
+ * <p>
+ * Tag is a hash of the data response body is built from, not of the body itself, so it's
+ * known before the body is serialized and {@code 304 Not Modified} is returned for matching
+ * {@code If-None-Match} request header without serializing the body. Tags suffixed with
+ * content encoding by {@link RsCompressed}, e.g. {@code "abc-gzip"}, match this tag too.
+ * </p>
+ * @since 0.7
+ */
+public final class EntityTag {
+
+    /**
+     * Tag header name.
+     */
+    private static final String ETAG = "ETag";
+
+    /**
+     * Tag suffixed with content encoding.
+     */
+    private static final Pattern ENCODED = Pattern.compile("\"(?<tag>.*)-(gzip|deflate)\"");
+
+    /**
+     * Tag value without quotes.
+     */
+    private final String tag;
+
+    /**
+     * Entity tag from hash of data parts.
+     * @param parts Data parts response body is built from
+     */
+    public EntityTag(final Iterable<String> parts) {
+        this(EntityTag.hash(parts));
+    }
+
+    /**
+     * Entity tag from hash of response body data, it's used as tag value as is.
+     * @param hash Hex hash
+     */
+    public EntityTag(final String hash) {
+        this.tag = hash;
+    }
+
+    /**
+     * Quoted tag value.
+     * @return Tag value for {@code ETag} header
+     */
+    public String value() {
+        return String.format("\"%s\"", this.tag);
+    }
+
+    /**
+     * Does client have fresh copy of the response: {@code If-None-Match} request header
+     * matches this tag.
+     * @param headers Request headers
+     * @return True if any tag of the header matches this tag or header is {@code *}
+     */
+    public boolean fresh(final Iterable<Map.Entry<String, String>> headers) {
+        return this.matches(new RqHeaders(headers, "If-None-Match"), true);
+    }
+
+    /**
+     * Response for the request: {@code 304 Not Modified} if {@code If-None-Match} request
+     * header matches this tag, origin response otherwise. Both have {@code ETag} header and
+     * {@code Cache-Control} header, which allows client to cache the response and requires
+     * revalidation, response is user specific and it's not cached by shared caches.
+     * @param headers Request headers
+     * @param origin Origin response, it's not created if request header matches
+     * @return Response
+     */
+    public Response response(final Iterable<Map.Entry<String, String>> headers,
+        final Supplier<? extends Response> origin) {
+        final Response res;
+        if (this.fresh(headers)) {
+            res = new RsWithStatus(RsStatus.NOT_MODIFIED);
+        } else {
+            res = origin.get();
+        }
+        return new RsWithHeaders(
+            res,
+            new Headers.From(
+                new Header(EntityTag.ETAG, this.value()),
+                new Header("Cache-Control", "private, no-cache")
+            )
+        );
+    }
+
+    /**
+     * Does any of the header values match this tag.
+     * @param values Conditional header values, each is a list of tags
+     * @param weak Use weak comparison, which ignores {@code W/} prefix
+     * @return True if any tag, maybe suffixed with content encoding, matches or value
+     *  is {@code *}
+     */
+    boolean matches(final Iterable<String> values, final boolean weak) {
+        final String expected = this.value();
+        boolean res = false;
+        for (final String value : values) {
+            for (final String item : value.split(",")) {
+                String candidate = item.trim();
+                if (weak && candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                final Matcher encoded = EntityTag.ENCODED.matcher(candidate);
+                if ("*".equals(candidate) || expected.equals(candidate)
+                    || encoded.matches() && this.tag.equals(encoded.group("tag"))) {
+                    res = true;
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Hash of data parts, parts are separated with zero byte.
+     * @param parts Data parts
+     * @return Hex hash
+     */
+    private static String hash(final Iterable<String> parts) {
+        final MessageDigest digest = Digests.SHA256.get();
+        for (final String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.rq.RqHeaders;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Conditional updates with {@code If-Match} request header, see
+ * <a href="https://tools.ietf.org/html/rfc7232#section-3.1">RFC 7232</a>.
+ * <p>
+ * Update is performed only if {@code If-Match} header is absent or it matches current
+ * {@link EntityTag} of the resource by strong comparison, {@code *} matches any existing
+ * resource. Updates of the same resource are chained one after another, so the check of
+ * current tag and the update are atomic for updates made through this instance: concurrent
+ * writers which read the same tag can't both succeed, the second one fails the precondition.
+ * Failed precondition is reported with {@code 409 Conflict}, since http responses don't
+ * support {@code 412 Precondition Failed} status.
+ * </p>
+ * @since 0.7
+ */
+public final class IfMatch {
+
+    /**
+     * Last update of the resource by resource name.
+     */
+    private final ConcurrentMap<String, CompletableFuture<?>> updates;
+
+    /**
+     * Ctor.
+     */
+    public IfMatch() {
+        this.updates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Update the resource if precondition holds.
+     * @param resource Resource name
+     * @param headers Request headers
+     * @param current Current tag of the resource, empty if resource doesn't exist,
+     *  it's requested only if request has {@code If-Match} header
+     * @param update Update action, it should not complete with null
+     * @param <T> Update result type
+     * @return Update result, empty if precondition failed and update was not performed
+     */
+    public <T> CompletionStage<Optional<T>> update(final String resource,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Supplier<? extends CompletionStage<Optional<EntityTag>>> current,
+        final Supplier<? extends CompletionStage<T>> update) {
+        final List<String> expected = new RqHeaders(headers, "If-Match");
+        final CompletableFuture<Optional<T>> res = new CompletableFuture<>();
+        final CompletableFuture<?> prev = this.updates.put(resource, res);
+        final CompletableFuture<?> start;
+        if (prev == null) {
+            start = CompletableFuture.completedFuture(null);
+        } else {
+            start = prev.handle((val, err) -> null);
+        }
+        start.thenCompose(
+            nothing -> IfMatch.check(expected, current)
+        ).thenCompose(
+            matches -> {
+                final CompletionStage<Optional<T>> result;
+                if (matches) {
+                    result = update.get().thenApply(Optional::of);
+                } else {
+                    result = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return result;
+            }
+        ).whenComplete(
+            (val, err) -> {
+                this.updates.remove(resource, res);
+                if (err == null) {
+                    res.complete(val);
+                } else {
+                    res.completeExceptionally(err);
+                }
+            }
+        );
+        return res.minimalCompletionStage();
+    }
+
+    /**
+     * Check precondition.
+     * @param expected Values of {@code If-Match} header
+     * @param current Current tag of the resource
+     * @return True if header is absent or matches current tag
+     */
+    private static CompletionStage<Boolean> check(final List<String> expected,
+        final Supplier<? extends CompletionStage<Optional<EntityTag>>> current) {
+        final CompletionStage<Boolean> res;
+        if (expected.isEmpty()) {
+            res = CompletableFuture.completedFuture(true);
+        } else {
+            res = current.get().thenApply(
+                tag -> tag.map(val -> val.matches(expected, false)).orElse(false)
+            );
+        }
+        return res;
+    }
+}
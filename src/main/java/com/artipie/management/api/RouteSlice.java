@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which accepts path variables extracted by {@link ApiRouter}, so it doesn't
+ * have to parse request line to get them.
+ * @since 0.7
+ */
+public interface RouteSlice extends Slice {
+
+    /**
+     * Respond to a http request with path variables.
+     * @param vars Path variables by names from route template
+     * @param line The request line
+     * @param headers The request headers
+     * @param body The request body
+     * @return The response
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Response response(
+        Map<String, String> vars,
+        String line,
+        Iterable<Map.Entry<String, String>> headers,
+        Publisher<ByteBuffer> body
+    );
+
+    /**
+     * Route slice from slice without path variables.
+     * @since 0.7
+     */
+    final class Simple implements RouteSlice {
+
+        /**
+         * Origin slice.
+         */
+        private final Slice origin;
+
+        /**
+         * Ctor.
+         * @param origin Origin slice
+         */
+        public Simple(final Slice origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public Response response(
+            final String line,
+            final Iterable<Map.Entry<String, String>> headers,
+            final Publisher<ByteBuffer> body
+        ) {
+            return this.origin.response(line, headers, body);
+        }
+
+        @Override
+        public Response response(
+            final Map<String, String> vars,
+            final String line,
+            final Iterable<Map.Entry<String, String>> headers,
+            final Publisher<ByteBuffer> body
+        ) {
+            return this.origin.response(line, headers, body);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.asto.Remaining;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.reactivestreams.Publisher;
+
+/**
+ * Response compressed with {@code gzip} or {@code deflate} encoding accepted by client.
+ * <p>
+ * Only text, JSON, YAML and XML bodies are compressed, bodies with {@code Content-Length}
+ * less than threshold are sent as is, since compression doesn't pay off for them, bodies
+ * of unknown length are compressed. Body is compressed chunk by chunk as it's sent, so
+ * streamed responses are not collected in memory. {@code Vary: Accept-Encoding} header
+ * is added to all compressible responses, so caches keep compressed and plain copies apart.
+ * Strong {@code ETag} of compressed response and of {@code 304 Not Modified} response is
+ * suffixed with encoding, e.g. {@code "abc-gzip"}, since compressed body is another
+ * representation, {@link EntityTag} matches suffixed tags.
+ * </p>
+ * @since 0.7
+ */
+public final class RsCompressed implements Response {
+
+    /**
+     * Default min length of compressed body.
+     */
+    private static final int THRESHOLD = 1024;
+
+    /**
+     * Content length header.
+     */
+    private static final String LENGTH = "Content-Length";
+
+    /**
+     * Origin response.
+     */
+    private final Response origin;
+
+    /**
+     * Accepted encoding, empty if client doesn't accept compressed responses.
+     */
+    private final Optional<Encoding> encoding;
+
+    /**
+     * Min length of compressed body.
+     */
+    private final int threshold;
+
+    /**
+     * Response compressed with encoding accepted by request.
+     * @param origin Origin response
+     * @param headers Request headers
+     */
+    public RsCompressed(final Response origin, final Iterable<Map.Entry<String, String>> headers) {
+        this(origin, headers, RsCompressed.THRESHOLD);
+    }
+
+    /**
+     * Response compressed with encoding accepted by request.
+     * @param origin Origin response
+     * @param headers Request headers
+     * @param threshold Min length of compressed body
+     */
+    public RsCompressed(final Response origin, final Iterable<Map.Entry<String, String>> headers,
+        final int threshold) {
+        this.origin = origin;
+        this.encoding = Encoding.accepted(new RqHeaders(headers, "Accept-Encoding"));
+        this.threshold = threshold;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection connection) {
+        return this.origin.send(
+            (status, headers, body) -> {
+                final CompletionStage<Void> res;
+                if (RsCompressed.compressible(status, headers)) {
+                    final Optional<Long> length = new RqHeaders(headers, RsCompressed.LENGTH)
+                        .stream().findFirst().map(Long::parseLong);
+                    final Header vary = new Header("Vary", "Accept-Encoding");
+                    if (this.encoding.isPresent()
+                        && length.map(len -> len >= this.threshold).orElse(true)) {
+                        final List<Map.Entry<String, String>> compressed =
+                            this.encoding.get().tagged(headers);
+                        compressed.add(new Header("Content-Encoding", this.encoding.get().name));
+                        compressed.add(vary);
+                        res = connection.accept(
+                            status,
+                            new Headers.From(compressed),
+                            this.encoding.get().compress(body)
+                        );
+                    } else {
+                        res = connection.accept(status, new Headers.From(headers, vary), body);
+                    }
+                } else if (status == RsStatus.NOT_MODIFIED && this.encoding.isPresent()) {
+                    res = connection.accept(
+                        status, new Headers.From(this.encoding.get().tagged(headers)), body
+                    );
+                } else {
+                    res = connection.accept(status, headers, body);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Is response compressible: it has body of text, JSON, YAML or XML type and it's not
+     * encoded yet.
+     * @param status Response status
+     * @param headers Response headers
+     * @return True if response is compressible
+     */
+    private static boolean compressible(final RsStatus status, final Headers headers) {
+        return status != RsStatus.NO_CONTENT && status != RsStatus.NOT_MODIFIED
+            && new RqHeaders(headers, "Content-Encoding").isEmpty()
+            && new RqHeaders(headers, "Content-Type").stream().findFirst().map(
+                type -> {
+                    final String lower = type.toLowerCase(Locale.US);
+                    return lower.startsWith("text/") || lower.contains("json")
+                        || lower.contains("yaml") || lower.contains("xml");
+                }
+            ).orElse(false);
+    }
+
+    /**
+     * Content encoding.
+     * @since 0.7
+     */
+    private enum Encoding {
+        /**
+         * Gzip encoding.
+         */
+        GZIP("gzip"),
+
+        /**
+         * Deflate (zlib) encoding.
+         */
+        DEFLATE("deflate");
+
+        /**
+         * Encoding name.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param name Encoding name
+         */
+        Encoding(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Compress body.
+         * @param body Body
+         * @return Compressed body
+         */
+        Flowable<ByteBuffer> compress(final Publisher<ByteBuffer> body) {
+            return Flowable.defer(
+                () -> {
+                    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    final DeflaterOutputStream zip = this.stream(out);
+                    return Flowable.fromPublisher(body).concatMap(
+                        buf -> {
+                            zip.write(new Remaining(buf).bytes());
+                            return Encoding.drain(out);
+                        }
+                    ).concatWith(
+                        Flowable.defer(
+                            () -> {
+                                zip.finish();
+                                return Encoding.drain(out);
+                            }
+                        )
+                    ).doFinally(zip::close);
+                }
+            );
+        }
+
+        /**
+         * Headers of encoded response: without content length and with strong entity tag
+         * suffixed with encoding name.
+         * @param headers Origin response headers
+         * @return Modifiable headers list
+         */
+        List<Map.Entry<String, String>> tagged(final Headers headers) {
+            final List<Map.Entry<String, String>> res = new ArrayList<>(5);
+            for (final Map.Entry<String, String> header : headers) {
+                final String value = header.getValue();
+                if ("ETag".equalsIgnoreCase(header.getKey()) && value.length() > 1
+                    && value.charAt(0) == '"' && value.endsWith("\"")) {
+                    res.add(
+                        new Header(
+                            header.getKey(),
+                            String.format(
+                                "%s-%s\"", value.substring(0, value.length() - 1), this.name
+                            )
+                        )
+                    );
+                } else if (!RsCompressed.LENGTH.equalsIgnoreCase(header.getKey())) {
+                    res.add(header);
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Compressing stream.
+         * @param out Output
+         * @return Stream
+         */
+        private DeflaterOutputStream stream(final ByteArrayOutputStream out) {
+            try {
+                final DeflaterOutputStream res;
+                if (this == GZIP) {
+                    res = new GZIPOutputStream(out);
+                } else {
+                    res = new DeflaterOutputStream(out);
+                }
+                return res;
+            } catch (final IOException err) {
+                throw new UncheckedIOException(err);
+            }
+        }
+
+        /**
+         * Take compressed bytes from output.
+         * @param out Output
+         * @return Compressed bytes chunk, empty if nothing was compressed yet
+         */
+        private static Flowable<ByteBuffer> drain(final ByteArrayOutputStream out) {
+            final Flowable<ByteBuffer> res;
+            if (out.size() == 0) {
+                res = Flowable.empty();
+            } else {
+                res = Flowable.just(ByteBuffer.wrap(out.toByteArray()));
+                out.reset();
+            }
+            return res;
+        }
+
+        /**
+         * Preferred encoding accepted by client, {@code *} applies only to encodings which
+         * are not listed explicitly.
+         * @param values Accept-Encoding header values
+         * @return Encoding, empty if client accepts none of supported encodings
+         */
+        static Optional<Encoding> accepted(final Iterable<String> values) {
+            final Map<String, Boolean> listed = new HashMap<>();
+            for (final String value : values) {
+                for (final String item : value.split(",")) {
+                    final String[] parts = item.trim().toLowerCase(Locale.US).split(";");
+                    listed.put(parts[0].trim(), !Encoding.rejected(parts));
+                }
+            }
+            final boolean any = listed.getOrDefault("*", false);
+            Optional<Encoding> res = Optional.empty();
+            for (final Encoding enc : Encoding.values()) {
+                if (listed.getOrDefault(enc.name, any)) {
+                    res = Optional.of(enc);
+                    break;
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Is encoding rejected with zero quality value.
+         * @param parts Encoding name and parameters
+         * @return True if {@code q} parameter is zero
+         */
+        private static boolean rejected(final String... parts) {
+            boolean res = false;
+            for (int idx = 1; idx < parts.length; ++idx) {
+                final String param = parts[idx].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        res = Double.parseDouble(param.substring(2)) == 0;
+                    } catch (final NumberFormatException ex) {
+                        res = true;
+                    }
+                }
+            }
+            return res;
+        }
+    }
+}
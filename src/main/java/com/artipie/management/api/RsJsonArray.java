@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import org.reactivestreams.Publisher;
+
+/**
+ * Response with JSON array streamed from items.
+ * <p>
+ * Items are written to the body one by one with {@link JsonGenerator} on demand of body
+ * subscriber: next items are requested from items publisher and written only when next body
+ * chunk is requested, and each chunk is emitted as soon as it reaches chunk size. JSON tree
+ * of the whole array is never built, so memory used by the response doesn't depend on items
+ * count. Response has no {@code Content-Length} header, so it's sent with chunked transfer
+ * encoding.
+ * </p>
+ * @param <T> Items type
+ * @since 0.7
+ */
+public final class RsJsonArray<T> implements Response {
+
+    /**
+     * Default chunk size.
+     */
+    static final int CHUNK = 8192;
+
+    /**
+     * JSON generators factory.
+     */
+    static final JsonGeneratorFactory FACTORY =
+        Json.createGeneratorFactory(Collections.emptyMap());
+
+    /**
+     * Name of the object field to write array to, array is written as is if empty.
+     */
+    private final Optional<String> field;
+
+    /**
+     * String fields written after array field.
+     */
+    private final Map<String, String> fields;
+
+    /**
+     * Items.
+     */
+    private final Publisher<? extends T> items;
+
+    /**
+     * Item format, writes item to generator as JSON value.
+     */
+    private final BiConsumer<JsonGenerator, T> format;
+
+    /**
+     * Chunk size.
+     */
+    private final int chunk;
+
+    /**
+     * Response with JSON array.
+     * @param items Items
+     * @param format Item format, writes item to generator as JSON value
+     */
+    public RsJsonArray(final Iterable<? extends T> items,
+        final BiConsumer<JsonGenerator, T> format) {
+        this(
+            Optional.empty(), Collections.emptyMap(), Flowable.fromIterable(items), format,
+            RsJsonArray.CHUNK
+        );
+    }
+
+    /**
+     * Response with JSON object with single array field.
+     * @param field Array field name
+     * @param items Items
+     * @param format Item format, writes item to generator as JSON value
+     */
+    public RsJsonArray(final String field, final Iterable<? extends T> items,
+        final BiConsumer<JsonGenerator, T> format) {
+        this(field, Flowable.fromIterable(items), format, Collections.emptyMap());
+    }
+
+    /**
+     * Response with JSON object with array field and string fields after it.
+     * @param field Array field name
+     * @param items Items
+     * @param format Item format, writes item to generator as JSON value
+     * @param fields String fields written after array
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RsJsonArray(final String field, final Iterable<? extends T> items,
+        final BiConsumer<JsonGenerator, T> format, final Map<String, String> fields) {
+        this(field, Flowable.fromIterable(items), format, fields);
+    }
+
+    /**
+     * Response with JSON object with array field of published items and string fields
+     * after it.
+     * @param field Array field name
+     * @param items Items publisher
+     * @param format Item format, writes item to generator as JSON value
+     * @param fields String fields written after array
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RsJsonArray(final String field, final Publisher<? extends T> items,
+        final BiConsumer<JsonGenerator, T> format, final Map<String, String> fields) {
+        this(Optional.of(field), fields, items, format, RsJsonArray.CHUNK);
+    }
+
+    /**
+     * Primary ctor.
+     * @param field Array field name, array is written as is if empty
+     * @param fields String fields written after array field, ignored if array is written as is
+     * @param items Items publisher
+     * @param format Item format, writes item to generator as JSON value
+     * @param chunk Chunk size
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RsJsonArray(final Optional<String> field, final Map<String, String> fields,
+        final Publisher<? extends T> items, final BiConsumer<JsonGenerator, T> format,
+        final int chunk) {
+        this.field = field;
+        this.fields = fields;
+        this.items = items;
+        this.format = format;
+        this.chunk = chunk;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection connection) {
+        return connection.accept(
+            RsStatus.OK,
+            new Headers.From(new Header("Content-Type", "application/json; charset=UTF-8")),
+            Flowable.defer(
+                () -> {
+                    final Chunks chunks = new Chunks();
+                    return Flowable.<T>fromPublisher(this.items)
+                        .concatMapMaybe(chunks::write)
+                        .concatWith(Maybe.fromCallable(chunks::last));
+                }
+            )
+        );
+    }
+
+    /**
+     * JSON array chunks writer.
+     * @since 0.7
+     */
+    private final class Chunks {
+
+        /**
+         * Chunk buffer, it's reused for all chunks.
+         */
+        private final ByteArrayOutputStream out;
+
+        /**
+         * JSON generator writing to chunk buffer.
+         */
+        private final JsonGenerator gen;
+
+        /**
+         * Ctor.
+         */
+        Chunks() {
+            this.out = new ByteArrayOutputStream(RsJsonArray.this.chunk);
+            this.gen = RsJsonArray.FACTORY.createGenerator(this.out);
+            if (RsJsonArray.this.field.isPresent()) {
+                this.gen.writeStartObject().writeStartArray(RsJsonArray.this.field.get());
+            } else {
+                this.gen.writeStartArray();
+            }
+        }
+
+        /**
+         * Write item.
+         * @param item Item
+         * @return Chunk if chunk size is reached, empty otherwise
+         */
+        Maybe<ByteBuffer> write(final T item) {
+            RsJsonArray.this.format.accept(this.gen, item);
+            this.gen.flush();
+            final Maybe<ByteBuffer> res;
+            if (this.out.size() < RsJsonArray.this.chunk) {
+                res = Maybe.empty();
+            } else {
+                res = Maybe.just(this.drain());
+            }
+            return res;
+        }
+
+        /**
+         * Finish JSON and get the last chunk.
+         * @return Last chunk
+         */
+        ByteBuffer last() {
+            this.gen.writeEnd();
+            if (RsJsonArray.this.field.isPresent()) {
+                RsJsonArray.this.fields.forEach(this.gen::write);
+                this.gen.writeEnd();
+            }
+            this.gen.close();
+            return this.drain();
+        }
+
+        /**
+         * Take chunk buffer content.
+         * @return Chunk
+         */
+        private ByteBuffer drain() {
+            final ByteBuffer res = ByteBuffer.wrap(this.out.toByteArray());
+            this.out.reset();
+            return res;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import javax.json.stream.JsonGenerator;
+import org.reactivestreams.Publisher;
+
+/**
+ * Response with newline delimited JSON streamed from items, see
+ * <a href="http://ndjson.org/">ndjson.org</a>.
+ * <p>
+ * Each item is written as JSON value followed by new line. As in {@link RsJsonArray}, items
+ * are written on demand of body subscriber into chunks of fixed size, the response has no
+ * {@code Content-Length} header.
+ * </p>
+ * @param <T> Items type
+ * @since 0.7
+ */
+public final class RsNdJson<T> implements Response {
+
+    /**
+     * New line.
+     */
+    private static final int NEW_LINE = '\n';
+
+    /**
+     * Items.
+     */
+    private final Publisher<? extends T> items;
+
+    /**
+     * Item format, writes item to generator as JSON value.
+     */
+    private final BiConsumer<JsonGenerator, T> format;
+
+    /**
+     * Chunk size.
+     */
+    private final int chunk;
+
+    /**
+     * Response with newline delimited JSON.
+     * @param items Items publisher
+     * @param format Item format, writes item to generator as JSON value
+     */
+    public RsNdJson(final Publisher<? extends T> items,
+        final BiConsumer<JsonGenerator, T> format) {
+        this(items, format, RsJsonArray.CHUNK);
+    }
+
+    /**
+     * Response with newline delimited JSON.
+     * @param items Items publisher
+     * @param format Item format, writes item to generator as JSON value
+     * @param chunk Chunk size
+     */
+    public RsNdJson(final Publisher<? extends T> items,
+        final BiConsumer<JsonGenerator, T> format, final int chunk) {
+        this.items = items;
+        this.format = format;
+        this.chunk = chunk;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection connection) {
+        return connection.accept(
+            RsStatus.OK,
+            new Headers.From(new Header("Content-Type", "application/x-ndjson; charset=UTF-8")),
+            Flowable.defer(
+                () -> {
+                    final ByteArrayOutputStream out = new ByteArrayOutputStream(this.chunk);
+                    return Flowable.<T>fromPublisher(this.items).concatMapMaybe(
+                        item -> {
+                            final JsonGenerator gen = RsJsonArray.FACTORY.createGenerator(out);
+                            this.format.accept(gen, item);
+                            gen.close();
+                            out.write(RsNdJson.NEW_LINE);
+                            final Maybe<ByteBuffer> res;
+                            if (out.size() < this.chunk) {
+                                res = Maybe.empty();
+                            } else {
+                                res = Maybe.just(RsNdJson.drain(out));
+                            }
+                            return res;
+                        }
+                    ).concatWith(
+                        Maybe.fromCallable(() -> RsNdJson.drain(out))
+                            .filter(ByteBuffer::hasRemaining)
+                    );
+                }
+            )
+        );
+    }
+
+    /**
+     * Take buffer content.
+     * @param out Buffer
+     * @return Chunk
+     */
+    private static ByteBuffer drain(final ByteArrayOutputStream out) {
+        final ByteBuffer res = ByteBuffer.wrap(out.toByteArray());
+        out.reset();
+        return res;
+    }
+}
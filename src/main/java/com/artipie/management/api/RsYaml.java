@@ -4,6 +4,7 @@
  */
 package com.artipie.management.api;
 
+import com.amihaiemil.eoyaml.Yaml;
 import com.amihaiemil.eoyaml.YamlNode;
 import com.artipie.http.Connection;
 import com.artipie.http.Headers;
@@ -11,18 +12,34 @@ import com.artipie.http.Response;
 import com.artipie.http.headers.Header;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 /**
  * Response with Yaml document.
+ * <p>
+ * Document is printed straight into fixed size byte buffers, which are sent as body chunks,
+ * so neither full Yaml string nor its full bytes copy is built.
+ * </p>
  * @since 0.1
  */
 public final class RsYaml implements Response {
 
+    /**
+     * Body chunk size.
+     */
+    private static final int CHUNK = 8192;
+
     /**
      * Yaml supplier.
      */
@@ -61,7 +78,12 @@ public final class RsYaml implements Response {
 
     @Override
     public CompletionStage<Void> send(final Connection connection) {
-        final byte[] bytes = this.yaml.get().toString().getBytes(this.encoding);
+        final Chunks chunks = new Chunks(RsYaml.CHUNK);
+        try (Writer writer = new OutputStreamWriter(chunks, this.encoding)) {
+            Yaml.createYamlPrinter(writer).print(this.yaml.get());
+        } catch (final IOException err) {
+            throw new UncheckedIOException(err);
+        }
         return connection.accept(
             RsStatus.OK,
             new Headers.From(
@@ -69,9 +91,88 @@ public final class RsYaml implements Response {
                     "content-type",
                     String.format("text/yaml; charset=%s", this.encoding.displayName())
                 ),
-                new Header("content-length", Integer.toString(bytes.length))
+                new Header("content-length", Long.toString(chunks.size()))
             ),
-            Flowable.just(ByteBuffer.wrap(bytes))
+            Flowable.fromIterable(chunks.buffers())
         );
     }
+
+    /**
+     * Output stream into fixed size byte buffers.
+     * @since 0.7
+     */
+    private static final class Chunks extends OutputStream {
+
+        /**
+         * Chunk size.
+         */
+        private final int chunk;
+
+        /**
+         * Filled buffers.
+         */
+        private final List<ByteBuffer> filled;
+
+        /**
+         * Current buffer.
+         */
+        private ByteBuffer current;
+
+        /**
+         * Written bytes count.
+         */
+        private long written;
+
+        /**
+         * Ctor.
+         * @param chunk Chunk size
+         */
+        Chunks(final int chunk) {
+            super();
+            this.chunk = chunk;
+            this.filled = new ArrayList<>(1);
+            this.current = ByteBuffer.allocate(chunk);
+        }
+
+        @Override
+        public void write(final int data) {
+            this.write(new byte[] {(byte) data}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] data, final int off, final int len) {
+            int pos = off;
+            final int end = off + len;
+            while (pos < end) {
+                if (!this.current.hasRemaining()) {
+                    this.filled.add(this.current.flip());
+                    this.current = ByteBuffer.allocate(this.chunk);
+                }
+                final int count = Math.min(end - pos, this.current.remaining());
+                this.current.put(data, pos, count);
+                pos += count;
+            }
+            this.written += len;
+        }
+
+        /**
+         * Written bytes count.
+         * @return Count
+         */
+        long size() {
+            return this.written;
+        }
+
+        /**
+         * Written bytes buffers, it should be called once after all bytes are written.
+         * @return Buffers
+         */
+        List<ByteBuffer> buffers() {
+            final List<ByteBuffer> res = new ArrayList<>(this.filled);
+            if (this.current.position() > 0) {
+                res.add(this.current.flip());
+            }
+            return res;
+        }
+    }
 }
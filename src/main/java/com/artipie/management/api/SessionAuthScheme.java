@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.ArtipieException;
+import com.artipie.asto.ArtipieIOException;
+import com.artipie.http.auth.AuthScheme;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Session cookie auth scheme selected by Artipie meta config:
+ * <pre>
+ * meta:
+ *   session:
+ *     type: signed # `rsa` by default
+ *     key: /path/to/session.key
+ *     ttl: PT12H # for `signed` sessions only
+ * </pre>
+ * Session type `rsa` uses {@link CookiesAuthScheme} with PKCS8 private key from
+ * {@code key} file, type `signed` uses {@link SignedCookiesAuthScheme} with HMAC
+ * secret from {@code key} file. If {@code session} section is absent,
+ * {@link CookiesAuthScheme} with key from `ARTIPIE_SESSION_KEY` environment is used.
+ * @since 0.7
+ */
+public final class SessionAuthScheme implements AuthScheme {
+
+    /**
+     * Default signed session time to live.
+     */
+    private static final Duration TTL = Duration.ofHours(12);
+
+    /**
+     * Origin scheme.
+     */
+    private final AuthScheme origin;
+
+    /**
+     * Session scheme from meta config.
+     * @param meta Artipie meta config
+     */
+    public SessionAuthScheme(final YamlMapping meta) {
+        this(SessionAuthScheme.scheme(Optional.ofNullable(meta.yamlMapping("session"))));
+    }
+
+    /**
+     * Primary ctor.
+     * @param origin Origin scheme
+     */
+    private SessionAuthScheme(final AuthScheme origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public CompletionStage<Result> authenticate(
+        final Iterable<Map.Entry<String, String>> headers, final String line
+    ) {
+        return this.origin.authenticate(headers, line);
+    }
+
+    /**
+     * Auth scheme for session config.
+     * @param session Session config
+     * @return Auth scheme
+     */
+    private static AuthScheme scheme(final Optional<YamlMapping> session) {
+        final AuthScheme res;
+        if (session.isEmpty()) {
+            res = new CookiesAuthScheme();
+        } else {
+            final String type = Optional.ofNullable(session.get().string("type")).orElse("rsa");
+            final String key = Optional.ofNullable(session.get().string("key")).orElseThrow(
+                () -> new ArtipieException("Session `key` is required")
+            );
+            if ("rsa".equals(type)) {
+                res = new CookiesAuthScheme(new SessionKey(Paths.get(key)));
+            } else if ("signed".equals(type)) {
+                try {
+                    res = new SignedCookiesAuthScheme(
+                        new SessionToken(
+                            Files.readAllBytes(Paths.get(key)),
+                            Optional.ofNullable(session.get().string("ttl"))
+                                .map(Duration::parse).orElse(SessionAuthScheme.TTL)
+                        )
+                    );
+                } catch (final IOException err) {
+                    throw new ArtipieIOException("Failed to read session secret", err);
+                }
+            } else {
+                throw new ArtipieException(String.format("Unknown session type '%s'", type));
+            }
+        }
+        return res;
+    }
+}
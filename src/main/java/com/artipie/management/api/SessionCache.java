@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.auth.Authentication;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Decrypted sessions cache.
+ * <p>
+ * Bounded cache from encrypted session cookie value to session user, cached values
+ * are evicted after TTL. Each cached user is tagged with session key generation it was
+ * decrypted with, users cached with another generation are not served, so sessions cached
+ * before key rotation are decrypted again with new key even if they were cached concurrently
+ * with rotation.
+ * </p>
+ * @since 0.7
+ */
+public final class SessionCache {
+
+    /**
+     * Default cache size.
+     */
+    private static final long SIZE = 10_000L;
+
+    /**
+     * Default time to live for cached session.
+     */
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    /**
+     * Session key.
+     */
+    private final SessionKey key;
+
+    /**
+     * Cached users by encoded session.
+     */
+    private final Cache<String, Cached> users;
+
+    /**
+     * Cache hits counter.
+     */
+    private final AtomicLong hit;
+
+    /**
+     * Cache misses counter.
+     */
+    private final AtomicLong miss;
+
+    /**
+     * Sessions cache with default size and TTL.
+     * @param key Session key
+     */
+    public SessionCache(final SessionKey key) {
+        this(key, SessionCache.SIZE, SessionCache.TTL);
+    }
+
+    /**
+     * Sessions cache.
+     * @param key Session key
+     * @param size Max cached sessions count
+     * @param ttl Time to live for cached session
+     */
+    public SessionCache(final SessionKey key, final long size, final Duration ttl) {
+        this.key = key;
+        this.users = CacheBuilder.newBuilder()
+            .maximumSize(size)
+            .expireAfterWrite(ttl)
+            .build();
+        this.hit = new AtomicLong();
+        this.miss = new AtomicLong();
+    }
+
+    /**
+     * Session user by encoded session, which is hex of user name encrypted
+     * with session key.
+     * @param encoded Encoded session
+     * @return Session user
+     * @throws IOException If failed to read session key
+     * @throws GeneralSecurityException If failed to decrypt session
+     * @throws DecoderException If session is not a valid hex
+     */
+    public Authentication.User user(final String encoded)
+        throws IOException, GeneralSecurityException, DecoderException {
+        final long gen = this.key.generation();
+        final Cached cached = this.users.getIfPresent(encoded);
+        final Authentication.User user;
+        if (cached == null || cached.generation != gen) {
+            this.miss.incrementAndGet();
+            user = new Authentication.User(
+                new String(
+                    this.key.decrypt(Hex.decodeHex(encoded.toCharArray())),
+                    StandardCharsets.UTF_8
+                )
+            );
+            this.users.put(encoded, new Cached(gen, user));
+        } else {
+            this.hit.incrementAndGet();
+            user = cached.user;
+        }
+        return user;
+    }
+
+    /**
+     * Cache hits count.
+     * @return Number of sessions resolved from cache
+     */
+    public long hits() {
+        return this.hit.get();
+    }
+
+    /**
+     * Cache misses count.
+     * @return Number of sessions decrypted with session key
+     */
+    public long misses() {
+        return this.miss.get();
+    }
+
+    /**
+     * Cached session user.
+     * @since 0.7
+     */
+    private static final class Cached {
+
+        /**
+         * Generation of session key which decrypted the session.
+         */
+        private final long generation;
+
+        /**
+         * Session user.
+         */
+        private final Authentication.User user;
+
+        /**
+         * Ctor.
+         * @param generation Generation of session key which decrypted the session
+         * @param user Session user
+         */
+        Cached(final long generation, final Authentication.User user) {
+            this.generation = generation;
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.Cipher;
+
+/**
+ * Session private key.
+ * <p>
+ * Loads PKCS8 RSA private key from file once and keeps ready to use
+ * decryption ciphers per thread. Key file is checked for modifications not more
+ * often than once per check interval, when the file is rotated the key is reloaded
+ * and {@link #generation()} is incremented.
+ * </p>
+ * @since 0.7
+ */
+public final class SessionKey {
+
+    /**
+     * Cipher transformation.
+     */
+    private static final String CIPHER = "RSA/ECB/OAEPWithSHA1AndMGF1Padding";
+
+    /**
+     * Default key file check interval.
+     */
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * Key file.
+     */
+    private final Path file;
+
+    /**
+     * Key file check interval in nanoseconds.
+     */
+    private final long interval;
+
+    /**
+     * Loaded key.
+     */
+    private final AtomicReference<Loaded> loaded;
+
+    /**
+     * Session key from file with default check interval.
+     * @param file Key file
+     */
+    public SessionKey(final Path file) {
+        this(file, SessionKey.INTERVAL);
+    }
+
+    /**
+     * Session key from file.
+     * @param file Key file
+     * @param interval Key file modifications check interval
+     */
+    public SessionKey(final Path file, final Duration interval) {
+        this.file = file;
+        this.interval = interval.toNanos();
+        this.loaded = new AtomicReference<>();
+    }
+
+    /**
+     * Decrypt data with session key.
+     * @param data Encrypted data
+     * @return Decrypted bytes
+     * @throws IOException If failed to read key file
+     * @throws GeneralSecurityException If failed to parse key or decrypt data
+     */
+    public byte[] decrypt(final byte[] data) throws IOException, GeneralSecurityException {
+        return this.actual().cipher().doFinal(data);
+    }
+
+    /**
+     * Key generation, it's changed each time the key is (re)loaded from file.
+     * @return Generation number
+     * @throws IOException If failed to read key file
+     * @throws GeneralSecurityException If failed to parse key
+     */
+    public long generation() throws IOException, GeneralSecurityException {
+        return this.actual().generation;
+    }
+
+    /**
+     * Actual loaded key, reloads the key if key file was modified.
+     * @return Loaded key
+     * @throws IOException If failed to read key file
+     * @throws GeneralSecurityException If failed to parse key
+     */
+    private Loaded actual() throws IOException, GeneralSecurityException {
+        final Loaded current = this.loaded.get();
+        final long now = System.nanoTime();
+        final Loaded res;
+        if (current == null || now - current.checked > this.interval) {
+            final FileTime modified = Files.getLastModifiedTime(this.file);
+            if (current == null || !current.modified.equals(modified)) {
+                res = new Loaded(
+                    KeyFactory.getInstance("RSA").generatePrivate(
+                        new PKCS8EncodedKeySpec(Files.readAllBytes(this.file))
+                    ),
+                    modified, now, SessionKey.next(current)
+                );
+            } else {
+                res = new Loaded(current, now);
+            }
+            this.loaded.compareAndSet(current, res);
+        } else {
+            res = current;
+        }
+        return res;
+    }
+
+    /**
+     * Next key generation.
+     * @param current Current loaded key
+     * @return Generation number
+     */
+    private static long next(final Loaded current) {
+        final long res;
+        if (current == null) {
+            res = 0;
+        } else {
+            res = current.generation + 1;
+        }
+        return res;
+    }
+
+    /**
+     * Loaded private key with per thread ciphers.
+     * @since 0.7
+     */
+    private static final class Loaded {
+
+        /**
+         * Private key.
+         */
+        private final PrivateKey key;
+
+        /**
+         * Key file modification time.
+         */
+        private final FileTime modified;
+
+        /**
+         * Time of last key file check in nanoseconds.
+         */
+        private final long checked;
+
+        /**
+         * Key generation.
+         */
+        private final long generation;
+
+        /**
+         * Initialized ciphers per thread.
+         */
+        private final ThreadLocal<Cipher> ciphers;
+
+        /**
+         * Checked again loaded key.
+         * @param origin Loaded key
+         * @param checked Time of key file check
+         */
+        Loaded(final Loaded origin, final long checked) {
+            this(origin.key, origin.modified, checked, origin.generation, origin.ciphers);
+        }
+
+        /**
+         * New loaded key.
+         * @param key Private key
+         * @param modified Key file modification time
+         * @param checked Time of key file check
+         * @param generation Key generation
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Loaded(final PrivateKey key, final FileTime modified, final long checked,
+            final long generation) {
+            this(key, modified, checked, generation, new ThreadLocal<>());
+        }
+
+        /**
+         * Primary ctor.
+         * @param key Private key
+         * @param modified Key file modification time
+         * @param checked Time of key file check
+         * @param generation Key generation
+         * @param ciphers Ciphers per thread
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        private Loaded(final PrivateKey key, final FileTime modified, final long checked,
+            final long generation, final ThreadLocal<Cipher> ciphers) {
+            this.key = key;
+            this.modified = modified;
+            this.checked = checked;
+            this.generation = generation;
+            this.ciphers = ciphers;
+        }
+
+        /**
+         * Cipher initialized with private key for current thread.
+         * @return Cipher
+         * @throws GeneralSecurityException If failed to init cipher
+         */
+        Cipher cipher() throws GeneralSecurityException {
+            Cipher cipher = this.ciphers.get();
+            if (cipher == null) {
+                cipher = Cipher.getInstance(SessionKey.CIPHER);
+                cipher.init(Cipher.DECRYPT_MODE, this.key);
+                this.ciphers.set(cipher);
+            }
+            return cipher;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * HMAC signed session token.
+ * <p>
+ * Token has format {@code <user>.<expires>.<signature>}, where {@code user} is hex of
+ * user name, {@code expires} is token expiration time in epoch seconds and
+ * {@code signature} is hex of HmacSHA256 of {@code <user>.<expires>} with secret key.
+ * </p>
+ * @since 0.7
+ */
+public final class SessionToken {
+
+    /**
+     * MAC algorithm.
+     */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * Token parts separator.
+     */
+    private static final char SEP = '.';
+
+    /**
+     * Secret key.
+     */
+    private final SecretKeySpec secret;
+
+    /**
+     * Token time to live.
+     */
+    private final Duration ttl;
+
+    /**
+     * Clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Initialized MACs per thread.
+     */
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * Session token with system clock.
+     * @param secret Secret key bytes
+     * @param ttl Token time to live
+     */
+    public SessionToken(final byte[] secret, final Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Session token.
+     * @param secret Secret key bytes
+     * @param ttl Token time to live
+     * @param clock Clock
+     */
+    public SessionToken(final byte[] secret, final Duration ttl, final Clock clock) {
+        this.secret = new SecretKeySpec(secret, SessionToken.ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.macs = new ThreadLocal<>();
+    }
+
+    /**
+     * Issue new token for user.
+     * @param user User name
+     * @return Signed token
+     * @throws GeneralSecurityException If failed to sign token
+     */
+    public String issue(final String user) throws GeneralSecurityException {
+        final String payload = String.format(
+            "%s%c%d",
+            Hex.encodeHexString(user.getBytes(StandardCharsets.UTF_8)), SessionToken.SEP,
+            this.clock.instant().plus(this.ttl).getEpochSecond()
+        );
+        return String.format(
+            "%s%c%s", payload, SessionToken.SEP, Hex.encodeHexString(this.sign(payload))
+        );
+    }
+
+    /**
+     * Verify token and read user name from it.
+     * @param token Token
+     * @return User name, empty if token is malformed, expired or signature is not valid
+     * @throws GeneralSecurityException If failed to compute signature
+     */
+    public Optional<String> user(final String token) throws GeneralSecurityException {
+        final int last = token.lastIndexOf(SessionToken.SEP);
+        final int first = token.indexOf(SessionToken.SEP);
+        Optional<String> res = Optional.empty();
+        if (first > 0 && last > first) {
+            final String payload = token.substring(0, last);
+            try {
+                if (MessageDigest.isEqual(
+                    this.sign(payload), Hex.decodeHex(token.substring(last + 1))
+                ) && Long.parseLong(payload.substring(first + 1))
+                    > this.clock.instant().getEpochSecond()) {
+                    res = Optional.of(
+                        new String(
+                            Hex.decodeHex(payload.substring(0, first)), StandardCharsets.UTF_8
+                        )
+                    );
+                }
+            } catch (final DecoderException | NumberFormatException ignored) {
+                res = Optional.empty();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Sign payload.
+     * @param payload Payload
+     * @return Signature
+     * @throws GeneralSecurityException If failed to init MAC
+     */
+    private byte[] sign(final String payload) throws GeneralSecurityException {
+        Mac mac = this.macs.get();
+        if (mac == null) {
+            mac = Mac.getInstance(SessionToken.ALGORITHM);
+            mac.init(this.secret);
+            this.macs.set(mac);
+        }
+        return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.auth.AuthScheme;
+import com.artipie.http.auth.Authentication;
+import com.jcabi.log.Logger;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * API request cookies with HMAC signed session token, see {@link SessionToken}.
+ * Verification of the session costs one MAC computation, it's much cheaper than
+ * RSA decryption of {@link CookiesAuthScheme}.
+ *
+ * @since 0.7
+ */
+public final class SignedCookiesAuthScheme implements AuthScheme {
+
+    /**
+     * Auth scheme name.
+     */
+    private static final String SCHEME = "Cookie";
+
+    /**
+     * Session token.
+     */
+    private final SessionToken token;
+
+    /**
+     * Ctor.
+     * @param token Session token
+     */
+    public SignedCookiesAuthScheme(final SessionToken token) {
+        this.token = token;
+    }
+
+    @Override
+    public CompletionStage<Result> authenticate(
+        final Iterable<Map.Entry<String, String>> headers, final String line
+    ) {
+        final Optional<String> session = new Cookies(headers).value("session");
+        final Optional<Authentication.User> user;
+        if (session.isEmpty()) {
+            user = Optional.empty();
+        } else {
+            try {
+                user = this.token.user(session.get()).map(Authentication.User::new);
+            } catch (final GeneralSecurityException err) {
+                Logger.error(this, "Failed to verify session cookie: %[exception]s", err);
+                throw new IllegalStateException("Failed to verify session cookie", err);
+            }
+        }
+        return CompletableFuture.completedFuture(
+            new AuthScheme.Result() {
+                @Override
+                public Optional<Authentication.User> user() {
+                    return user;
+                }
+
+                @Override
+                public String challenge() {
+                    return SignedCookiesAuthScheme.SCHEME;
+                }
+            }
+        );
+    }
+}
@@ -6,12 +6,13 @@ package com.artipie.management.api.artifactory;
 
 import com.artipie.asto.ext.PublisherAs;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
 import com.artipie.management.RepoPermissions;
+import com.artipie.management.api.IfMatch;
+import com.artipie.management.api.RouteSlice;
 import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.Collections;
@@ -32,11 +33,14 @@ import org.reactivestreams.Publisher;
 
 /**
  * Artifactory `PUT /api/security/permissions/{target}` endpoint, updates `permissions` section
- * in repository section.
+ * in repository section. Update is conditional if request has {@code If-Match} header with
+ * entity tag of {@link GetPermissionSlice} response, {@code 409} is returned if permissions
+ * were changed.
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class AddUpdatePermissionSlice implements Slice {
+public final class AddUpdatePermissionSlice implements RouteSlice {
 
     /**
      * Permissions mapping: translates artifactory permissions on Artipie language.
@@ -61,27 +65,58 @@ public final class AddUpdatePermissionSlice implements Slice {
      */
     private final RepoPermissions permissions;
 
+    /**
+     * Conditional updates.
+     */
+    private final IfMatch ifmatch;
+
     /**
      * Ctor.
+     * <p>
+     * Conditional updates with {@code If-Match} header are atomic only for updates made
+     * through the same instance, instances don't share updates order, so single instance
+     * should serve all permission updates.
+     * </p>
      * @param permissions Artipie settings storage
      */
     public AddUpdatePermissionSlice(final RepoPermissions permissions) {
         this.permissions = permissions;
+        this.ifmatch = new IfMatch();
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Optional<String> opt = new FromRqLine(line, FromRqLine.RqPattern.REPO).get();
+        return this.response(
+            new FromRqLine(line, FromRqLine.RqPattern.REPO).vars(), line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Optional<String> opt = Optional.ofNullable(vars.get("repo"));
         return opt.<Response>map(
             repo -> new AsyncResponse(
                 new PublisherAs(body).bytes().thenApply(
                     bytes -> Json.createReader(new ByteArrayInputStream(bytes)).readObject()
                 ).thenCompose(
-                    json -> this.update(json, repo).thenApply(
+                    json -> this.ifmatch.update(
+                        repo,
+                        headers,
+                        () -> this.permissions.permissions(repo).thenCombine(
+                            this.permissions.patterns(repo),
+                            (perms, patterns) -> Optional.of(
+                                GetPermissionSlice.tag(repo, patterns, perms)
+                            )
+                        ),
+                        () -> this.update(json, repo)
+                    ).thenApply(
                         success -> {
                             final Response result;
-                            if (success) {
+                            if (success.isEmpty()) {
+                                result = new RsWithStatus(RsStatus.CONFLICT);
+                            } else if (success.get()) {
                                 result = StandardRs.EMPTY;
                             } else {
                                 result = new RsWithStatus(RsStatus.BAD_REQUEST);
@@ -5,12 +5,13 @@
 package com.artipie.management.api.artifactory;
 
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.management.Users;
 import com.artipie.management.api.ContentAsJson;
+import com.artipie.management.api.IfMatch;
+import com.artipie.management.api.RouteSlice;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Single;
 import java.nio.ByteBuffer;
@@ -29,39 +30,71 @@ import org.reactivestreams.Publisher;
 
 /**
  * Artifactory `PUSH/PUT /api/security/users/{userName}` endpoint,
- * updates/adds user record in credentials.
+ * updates/adds user record in credentials. Update is conditional if request has
+ * {@code If-Match} header with entity tag of {@link GetUserSlice} response, {@code 409} is
+ * returned if user was changed or doesn't exist.
  *
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class AddUpdateUserSlice implements Slice {
+public final class AddUpdateUserSlice implements RouteSlice {
 
     /**
      * Artipie users.
      */
     private final Users users;
 
+    /**
+     * Conditional updates.
+     */
+    private final IfMatch ifmatch;
+
     /**
      * Ctor.
+     * <p>
+     * Conditional updates with {@code If-Match} header are atomic only for updates made
+     * through the same instance, instances don't share updates order, so single instance
+     * should serve all user updates.
+     * </p>
      *
      * @param users Artipie users
      */
     public AddUpdateUserSlice(final Users users) {
         this.users = users;
+        this.ifmatch = new IfMatch();
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Optional<String> user = new FromRqLine(line, FromRqLine.RqPattern.USER).get();
+        return this.response(
+            new FromRqLine(line, FromRqLine.RqPattern.USER).vars(), line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Optional<String> user = Optional.ofNullable(vars.get("username"));
         return user.<Response>map(
             username -> new AsyncResponse(
                 AddUpdateUserSlice.info(body, username).thenCompose(
                     json -> json.map(
-                        info -> this.users.add(
-                            info.getKey(),
-                            DigestUtils.sha256Hex(info.getValue()),
-                            Users.PasswordFormat.SHA256
-                        ).thenApply(ok -> new RsWithStatus(RsStatus.OK))
+                        info -> this.ifmatch.update(
+                            username,
+                            headers,
+                            () -> this.users.get(username).thenApply(
+                                found -> found.map(GetUserSlice::tag)
+                            ),
+                            () -> this.users.add(
+                                info.getKey(),
+                                DigestUtils.sha256Hex(info.getValue()),
+                                Users.PasswordFormat.SHA256
+                            ).thenApply(nothing -> true)
+                        ).thenApply(
+                            done -> done.map(ok -> new RsWithStatus(RsStatus.OK))
+                                .orElse(new RsWithStatus(RsStatus.CONFLICT))
+                        )
                     ).orElse(
                         CompletableFuture.completedFuture(new RsWithStatus(RsStatus.BAD_REQUEST))
                     )
@@ -10,16 +10,18 @@ import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.management.ConfigFiles;
 import com.artipie.management.api.ContentAsJson;
+import com.artipie.management.api.RouteSlice;
+import com.artipie.management.repo.RepoConfigCache;
 import io.reactivex.Single;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -32,10 +34,15 @@ import org.reactivestreams.Publisher;
 /**
  * Artifactory create repo API slice, it accepts json and create new docker repository by
  * creating corresponding YAML configuration.
+ * <p>
+ * Routes for this slice are {@code /api/repositories/{first}} and
+ * {@code /api/repositories/{first}/{second}}.
+ * </p>
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
-public final class CreateRepoSlice implements Slice {
+public final class CreateRepoSlice implements RouteSlice {
 
     /**
      * URI path pattern.
@@ -43,6 +50,17 @@ public final class CreateRepoSlice implements Slice {
     private static final Pattern PTN =
         Pattern.compile("/api/repositories/(?<first>[^/.]+)(?<second>/[^/.]+)?/?");
 
+    /**
+     * First path segment variable.
+     */
+    private static final String FIRST = "first";
+
+    /**
+     * Optional second path segment variable, if present, repo config is created
+     * in first segment directory.
+     */
+    private static final String SECOND = "second";
+
     /**
      * Artipie settings storage.
      */
@@ -53,18 +71,53 @@ public final class CreateRepoSlice implements Slice {
      */
     private final ConfigFiles configfile;
 
+    /**
+     * Repo configs cache.
+     */
+    private final RepoConfigCache configs;
+
     /**
      * Ctor.
      * @param storage Artipie settings storage
      * @param configfile Config file to support `yaml` and `.yml` extensions
      */
     public CreateRepoSlice(final Storage storage, final ConfigFiles configfile) {
+        this(storage, configfile, new RepoConfigCache(configfile, 0L));
+    }
+
+    /**
+     * Ctor.
+     * @param storage Artipie settings storage
+     * @param configfile Config file to support `yaml` and `.yml` extensions
+     * @param configs Repo configs cache to invalidate created config in
+     */
+    public CreateRepoSlice(final Storage storage, final ConfigFiles configfile,
+        final RepoConfigCache configs) {
         this.storage = storage;
         this.configfile = configfile;
+        this.configs = configs;
+    }
+
+    @Override
+    public Response response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final Matcher matcher = PTN.matcher(new RequestLineFrom(line).uri().getPath());
+        final Map<String, String> vars = new HashMap<>();
+        if (matcher.matches()) {
+            vars.put(CreateRepoSlice.FIRST, matcher.group(CreateRepoSlice.FIRST));
+            Optional.ofNullable(matcher.group(CreateRepoSlice.SECOND)).ifPresent(
+                second -> vars.put(CreateRepoSlice.SECOND, second.substring(1))
+            );
+        }
+        return this.response(vars, line, headers, body);
     }
 
     @Override
     public Response response(
+        final Map<String, String> vars,
         final String line,
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body
@@ -75,7 +128,7 @@ public final class CreateRepoSlice implements Slice {
                 json -> Single.fromFuture(
                     valid(json).map(
                         name -> {
-                            final Key key = CreateRepoSlice.yamlKey(line, name);
+                            final Key key = CreateRepoSlice.yamlKey(vars, name);
                             return this.configfile.exists(key)
                                 .thenCompose(
                                     exists -> {
@@ -91,7 +144,12 @@ public final class CreateRepoSlice implements Slice {
                                                     CreateRepoSlice.yaml().toString()
                                                         .getBytes(StandardCharsets.UTF_8)
                                                 )
-                                            ).thenApply(ignored -> new RsWithStatus(RsStatus.OK));
+                                            ).thenApply(
+                                                ignored -> {
+                                                    this.configs.invalidate(key);
+                                                    return new RsWithStatus(RsStatus.OK);
+                                                }
+                                            );
                                         }
                                         return res;
                                     }
@@ -125,22 +183,21 @@ public final class CreateRepoSlice implements Slice {
     }
 
     /**
-     * User from request line.
-     * @param line Line
+     * Repo config key from path variables.
+     * @param vars Path variables
      * @param repo Repo name
-     * @return Username if present
+     * @return Config key
      */
-    private static Key yamlKey(final String line, final String repo) {
-        final Matcher matcher = PTN.matcher(new RequestLineFrom(line).uri().getPath());
-        if (!matcher.matches()) {
+    private static Key yamlKey(final Map<String, String> vars, final String repo) {
+        if (!vars.containsKey(CreateRepoSlice.FIRST)) {
             throw new UnsupportedOperationException("Unsupported request");
         }
         return new Key.From(
             String.format(
                 "%s%s.yaml",
-                Optional.ofNullable(
-                    matcher.group("second")
-                ).map(present -> String.format("%s/", matcher.group("first"))).orElse(""),
+                Optional.ofNullable(vars.get(CreateRepoSlice.SECOND)).map(
+                    present -> String.format("%s/", vars.get(CreateRepoSlice.FIRST))
+                ).orElse(""),
                 repo
             )
         );
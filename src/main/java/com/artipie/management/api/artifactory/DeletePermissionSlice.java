@@ -6,7 +6,6 @@ package com.artipie.management.api.artifactory;
 
 import com.artipie.asto.Key;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
@@ -14,6 +13,7 @@ import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
 import com.artipie.management.ConfigFiles;
 import com.artipie.management.RepoPermissions;
+import com.artipie.management.api.RouteSlice;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -26,8 +26,9 @@ import org.reactivestreams.Publisher;
  * Artifactory `DELETE /api/security/permissions/{target}` endpoint, deletes all permissions from
  * repository.
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class DeletePermissionSlice implements Slice {
+public final class DeletePermissionSlice implements RouteSlice {
 
     /**
      * Repository permissions.
@@ -52,7 +53,15 @@ public final class DeletePermissionSlice implements Slice {
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Optional<String> opt = new FromRqLine(line, FromRqLine.RqPattern.REPO).get();
+        return this.response(
+            new FromRqLine(line, FromRqLine.RqPattern.REPO).vars(), line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Optional<String> opt = Optional.ofNullable(vars.get("repo"));
         return opt.<Response>map(
             repo -> new AsyncResponse(
                 this.configfile.exists(new Key.From(repo))
@@ -5,13 +5,13 @@
 package com.artipie.management.api.artifactory;
 
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.StandardRs;
 import com.artipie.management.Users;
+import com.artipie.management.api.RouteSlice;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -25,8 +25,9 @@ import org.reactivestreams.Publisher;
  * deletes user record from credentials.
  *
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class DeleteUserSlice implements Slice {
+public final class DeleteUserSlice implements RouteSlice {
     /**
      * Artipie users.
      */
@@ -43,12 +44,18 @@ public final class DeleteUserSlice implements Slice {
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Optional<String> user = new FromRqLine(line, FromRqLine.RqPattern.USER).get();
+        return this.response(
+            new FromRqLine(line, FromRqLine.RqPattern.USER).vars(), line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Optional<String> user = Optional.ofNullable(vars.get("username"));
         return user.<Response>map(
             username -> new AsyncResponse(
-                this.users.list().thenApply(
-                    items -> items.stream().anyMatch(item -> item.name().equals(username))
-                ).thenCompose(
+                this.users.exists(username).thenCompose(
                     has -> {
                         final CompletionStage<Response> resp;
                         if (has) {
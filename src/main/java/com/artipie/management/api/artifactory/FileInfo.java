@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.Digests;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.management.usage.StorageUsage;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Artifactory file info of the storage item: size, last modification time and checksums.
+ * <p>
+ * Checksums are computed in one streaming pass over item content and persisted as sidecar
+ * JSON under {@link #SIDECARS} key of the same storage together with item size and
+ * modification time. Sidecar is used while item size and modification time match, otherwise
+ * checksums are computed again, so repeated calls read only item metadata and sidecar.
+ * Size alone doesn't tell that content was not rewritten, so if storage doesn't provide
+ * item modification time, sidecar is neither saved nor used and checksums are computed
+ * on each call.
+ * </p>
+ * @since 0.7
+ */
+final class FileInfo {
+
+    /**
+     * Root key of checksums sidecars.
+     */
+    static final Key SIDECARS = StorageUsage.SIDECARS;
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Item key.
+     */
+    private final Key key;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param key Item key
+     */
+    FileInfo(final Storage storage, final Key key) {
+        this.storage = storage;
+        this.key = key;
+    }
+
+    /**
+     * Artifactory file info JSON.
+     * @param repo Repository name
+     * @return File info
+     */
+    CompletionStage<JsonObject> json(final String repo) {
+        return this.checksums().thenApply(
+            sums -> {
+                final JsonObject checksums = Json.createObjectBuilder()
+                    .add("sha1", sums.getString("sha1"))
+                    .add("md5", sums.getString("md5"))
+                    .add("sha256", sums.getString("sha256"))
+                    .build();
+                final String path = String.format("/%s", this.key.string());
+                final JsonObjectBuilder res = Json.createObjectBuilder()
+                    .add("repo", repo)
+                    .add("path", path);
+                if (sums.containsKey("modified")) {
+                    res.add("lastModified", sums.getString("modified"));
+                }
+                return res.add("size", Long.toString(sums.getJsonNumber("size").longValue()))
+                    .add("checksums", checksums)
+                    .add("originalChecksums", checksums)
+                    .add("uri", String.format("/api/storage/%s%s", repo, path))
+                    .build();
+            }
+        );
+    }
+
+    /**
+     * Is key a checksums sidecar key.
+     * @param key Key
+     * @return True if key is under sidecars root
+     */
+    static boolean sidecar(final Key key) {
+        return key.string().startsWith(String.format("%s/", FileInfo.SIDECARS.string()));
+    }
+
+    /**
+     * Item checksums with size and modification time, from sidecar if it's up to date.
+     * @return Checksums JSON
+     */
+    private CompletionStage<JsonObject> checksums() {
+        final Key side = new Key.From(FileInfo.SIDECARS, this.key);
+        return this.storage.metadata(this.key).thenCompose(
+            meta -> {
+                final long size = meta.read(Meta.OP_SIZE).map(Long::valueOf).orElse(-1L);
+                final Optional<String> modified = meta.read(Meta.OP_UPDATED_AT)
+                    .map(Instant.class::cast).map(Instant::toString);
+                return this.storage.exists(side).thenCompose(
+                    exists -> {
+                        final CompletionStage<Optional<JsonObject>> cached;
+                        if (exists && modified.isPresent()) {
+                            cached = this.storage.value(side)
+                                .thenCompose(content -> new PublisherAs(content).asciiString())
+                                .thenApply(
+                                    str -> Optional.of(
+                                        Json.createReader(new StringReader(str)).readObject()
+                                    ).filter(json -> FileInfo.valid(json, size, modified))
+                                );
+                        } else {
+                            cached = CompletableFuture.completedFuture(Optional.empty());
+                        }
+                        return cached;
+                    }
+                ).thenCompose(
+                    cached -> cached.<CompletionStage<JsonObject>>map(
+                        CompletableFuture::completedFuture
+                    ).orElseGet(() -> this.compute(side, size, modified))
+                );
+            }
+        );
+    }
+
+    /**
+     * Compute checksums in one pass over item content and save sidecar if item
+     * modification time is known.
+     * @param side Sidecar key
+     * @param size Item size from metadata
+     * @param modified Item modification time from metadata
+     * @return Checksums JSON
+     */
+    private CompletionStage<JsonObject> compute(final Key side, final long size,
+        final Optional<String> modified) {
+        return this.storage.value(this.key).thenCompose(
+            content -> Flowable.fromPublisher(content).reduce(
+                new MessageDigest[] {
+                    Digests.MD5.get(), Digests.SHA1.get(), Digests.SHA256.get(),
+                },
+                (digests, buf) -> {
+                    for (final MessageDigest digest : digests) {
+                        digest.update(buf.duplicate());
+                    }
+                    return digests;
+                }
+            ).to(SingleInterop.get()).thenApply(
+                digests -> {
+                    final JsonObjectBuilder json = Json.createObjectBuilder()
+                        .add("size", size)
+                        .add("md5", Hex.encodeHexString(digests[0].digest()))
+                        .add("sha1", Hex.encodeHexString(digests[1].digest()))
+                        .add("sha256", Hex.encodeHexString(digests[2].digest()));
+                    modified.ifPresent(time -> json.add("modified", time));
+                    return json.build();
+                }
+            )
+        ).thenCompose(
+            json -> {
+                final CompletionStage<JsonObject> res;
+                if (modified.isPresent()) {
+                    res = this.storage.save(
+                        side,
+                        new Content.From(json.toString().getBytes(StandardCharsets.UTF_8))
+                    ).thenApply(nothing -> json);
+                } else {
+                    res = CompletableFuture.completedFuture(json);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Is sidecar valid for the item.
+     * @param json Sidecar JSON
+     * @param size Item size
+     * @param modified Item modification time
+     * @return True if item size and modification time are known and sidecar has
+     *  the same size and modification time
+     */
+    private static boolean valid(final JsonObject json, final long size,
+        final Optional<String> modified) {
+        return size >= 0 && modified.isPresent() && json.containsKey("size")
+            && json.getJsonNumber("size").longValue() == size
+            && modified.equals(Optional.ofNullable(json.getString("modified", null)));
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Artifactory file list of the storage folder, see File List in
+ * <a href="https://www.jfrog.com/confluence/display/JFROG/Artifactory+REST+API">API docs</a>.
+ * <p>
+ * Keys of the folder are sorted and walked one by one: folders are detected by comparing key
+ * with previous one, so no set of seen folders is kept, and file metadata is requested only
+ * when file item is requested by subscriber.
+ * </p>
+ * @since 0.7
+ */
+final class FileList {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Folder key.
+     */
+    private final Key root;
+
+    /**
+     * Max depth of listed items, direct children of the folder have depth 1.
+     */
+    private final int depth;
+
+    /**
+     * Should folders be listed.
+     */
+    private final boolean folders;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param root Folder key
+     * @param depth Max depth of listed items
+     * @param folders Should folders be listed
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    FileList(final Storage storage, final Key root, final int depth, final boolean folders) {
+        this.storage = storage;
+        this.root = root;
+        this.depth = depth;
+        this.folders = folders;
+    }
+
+    /**
+     * List items.
+     * @return Items publisher
+     */
+    Flowable<Item> items() {
+        return Flowable.defer(
+            () -> {
+                final Walk walk = new Walk();
+                return SingleInterop.fromFuture(this.storage.list(this.root)).flattenAsFlowable(
+                    keys -> {
+                        final List<Key> sorted = new ArrayList<>(keys);
+                        sorted.removeIf(FileInfo::sidecar);
+                        sorted.sort(Key.CMP_STRING);
+                        return sorted;
+                    }
+                ).concatMapIterable(walk::items);
+            }
+        ).concatMapSingle(this::withMeta);
+    }
+
+    /**
+     * Add file metadata to item.
+     * @param item Item
+     * @return Item with metadata
+     */
+    private Single<Item> withMeta(final Item item) {
+        final Single<Item> res;
+        if (item.folder) {
+            res = Single.just(item);
+        } else {
+            res = SingleInterop.fromFuture(this.storage.metadata(item.key)).map(
+                meta -> new Item(
+                    item.key, item.uri, false,
+                    meta.read(Meta.OP_SIZE).map(Long::valueOf).orElse(-1L),
+                    meta.read(Meta.OP_UPDATED_AT).map(Instant.class::cast)
+                )
+            );
+        }
+        return res;
+    }
+
+    /**
+     * File list item.
+     * @since 0.7
+     */
+    static final class Item {
+
+        /**
+         * Storage key.
+         */
+        private final Key key;
+
+        /**
+         * Item URI relative to the folder.
+         */
+        private final String uri;
+
+        /**
+         * Is item a folder.
+         */
+        private final boolean folder;
+
+        /**
+         * File size, -1 for folders and unknown size.
+         */
+        private final long size;
+
+        /**
+         * Last modification time.
+         */
+        private final Optional<Instant> modified;
+
+        /**
+         * Ctor.
+         * @param key Storage key
+         * @param uri Item URI relative to the folder
+         * @param folder Is item a folder
+         * @param size File size
+         * @param modified Last modification time
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Item(final Key key, final String uri, final boolean folder, final long size,
+            final Optional<Instant> modified) {
+            this.key = key;
+            this.uri = uri;
+            this.folder = folder;
+            this.size = size;
+            this.modified = modified;
+        }
+
+        /**
+         * Write item as Artifactory file list JSON item.
+         * @param gen JSON generator
+         * @param timestamps Should metadata timestamps be written
+         */
+        void write(final JsonGenerator gen, final boolean timestamps) {
+            gen.writeStartObject()
+                .write("uri", this.uri)
+                .write("size", this.size);
+            this.modified.ifPresent(time -> gen.write("lastModified", time.toString()));
+            gen.write("folder", this.folder);
+            if (timestamps && !this.folder) {
+                gen.writeStartObject("mdTimestamps").writeEnd();
+            }
+            gen.writeEnd();
+        }
+    }
+
+    /**
+     * Walk of sorted keys, it produces folder and file items for each key.
+     * @since 0.7
+     */
+    private final class Walk {
+
+        /**
+         * Key parts of the previous key relative to the folder.
+         */
+        private List<String> prev;
+
+        /**
+         * Ctor.
+         */
+        Walk() {
+            this.prev = Collections.emptyList();
+        }
+
+        /**
+         * Items of the key: folders not listed yet and file.
+         * @param key Key
+         * @return Items
+         */
+        List<Item> items(final Key key) {
+            final List<String> all = key.parts();
+            final List<String> parts = all.subList(
+                Math.min(FileList.this.root.parts().size(), all.size()), all.size()
+            );
+            int common = 0;
+            while (common < parts.size() - 1 && common < this.prev.size() - 1
+                && parts.get(common).equals(this.prev.get(common))) {
+                common += 1;
+            }
+            final List<Item> res = new ArrayList<>(1);
+            if (FileList.this.folders) {
+                for (int idx = common; idx < parts.size() - 1 && idx < FileList.this.depth;
+                    ++idx) {
+                    res.add(
+                        new Item(
+                            new Key.From(
+                                FileList.this.root, new Key.From(parts.subList(0, idx + 1))
+                            ),
+                            FileList.uri(parts, idx + 1), true, -1L, Optional.empty()
+                        )
+                    );
+                }
+            }
+            if (!parts.isEmpty() && parts.size() <= FileList.this.depth) {
+                res.add(
+                    new Item(key, FileList.uri(parts, parts.size()), false, -1L, Optional.empty())
+                );
+            }
+            this.prev = parts;
+            return res;
+        }
+    }
+
+    /**
+     * Item URI from key parts.
+     * @param parts Key parts relative to the folder
+     * @param count Parts count
+     * @return URI
+     */
+    private static String uri(final List<String> parts, final int count) {
+        return String.format("/%s", String.join(Key.DELIMITER, parts.subList(0, count)));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Storage folder listing, adds direct children of the folder to {@link KeyList}.
+ * <p>
+ * Storages with delimiter listing support (e.g. S3 common prefixes) should be listed
+ * with implementation which requests one level of keys only, {@link Recursive} listing
+ * works with any storage.
+ * </p>
+ * @since 0.7
+ */
+public interface FolderListing {
+
+    /**
+     * List folder children.
+     * @param storage Storage
+     * @param root Folder key
+     * @param keys Key list to add children to
+     * @return Completion action
+     */
+    CompletionStage<Void> list(Storage storage, Key root, KeyList keys);
+
+    /**
+     * Folder listing via recursive {@link Storage#list(Key)}, keys are reduced to
+     * direct children of the folder as they are added, checksums sidecars are skipped.
+     * @since 0.7
+     */
+    final class Recursive implements FolderListing {
+
+        @Override
+        public CompletionStage<Void> list(final Storage storage, final Key root,
+            final KeyList keys) {
+            return storage.list(root).thenAccept(
+                list -> {
+                    for (final Key key : list) {
+                        if (!FileInfo.sidecar(key)) {
+                            keys.add(key);
+                        }
+                    }
+                }
+            );
+        }
+    }
+}
@@ -5,6 +5,8 @@
 package com.artipie.management.api.artifactory;
 
 import com.artipie.http.rq.RequestLineFrom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -16,6 +18,11 @@ import java.util.regex.Pattern;
  */
 public final class FromRqLine {
 
+    /**
+     * Template variable pattern.
+     */
+    private static final Pattern VAR = Pattern.compile("\\{([^}]+)}");
+
     /**
      * Request line.
      */
@@ -53,6 +60,24 @@ public final class FromRqLine {
         return username;
     }
 
+    /**
+     * Path variables from the request line by names from pattern template.
+     * @return Path variables, empty if the request line doesn't match pattern
+     */
+    Map<String, String> vars() {
+        final Map<String, String> vars = new HashMap<>();
+        final Matcher matcher = this.ptrn.pattern.matcher(
+            new RequestLineFrom(this.rqline).uri().toString()
+        );
+        if (matcher.matches()) {
+            final Matcher names = FromRqLine.VAR.matcher(this.ptrn.template);
+            for (int grp = 1; names.find(); grp = grp + 1) {
+                vars.put(names.group(1), matcher.group(grp));
+            }
+        }
+        return vars;
+    }
+
     /**
      * Request pattern for receiving value from the
      * request line.
@@ -61,39 +86,46 @@ public final class FromRqLine {
         /**
          * Username pattern.
          */
-        USER("/api/security/users/(?<username>[^/.]+)"),
+        USER("/api/security/users/(?<username>[^/.]+)", "/api/security/users/{username}"),
 
         /**
          * Repo pattern.
          */
-        REPO("/api/security/permissions/(?<repo>[^/.]+)"),
+        REPO("/api/security/permissions/(?<repo>[^/.]+)", "/api/security/permissions/{repo}"),
 
         /**
          * Repos pattern.
          */
-        REPOS("/api/security/permissions"),
+        REPOS("/api/security/permissions", "/api/security/permissions"),
 
         /**
          * Create repo pattern.
          */
-        CREATE_REPO("/api/repositories/.*"),
+        CREATE_REPO("/api/repositories/.*", "/api/repositories/**"),
 
         /**
          * Users info pattern.
          */
-        USERS("/api/security/users");
+        USERS("/api/security/users", "/api/security/users");
 
         /**
          * Pattern.
          */
         private final Pattern pattern;
 
+        /**
+         * Path template, see {@link com.artipie.management.misc.PathTrie}.
+         */
+        private final String template;
+
         /**
          * Ctor.
          * @param pattern Request pattern.
+         * @param template Path template equivalent to the pattern.
          */
-        RqPattern(final String pattern) {
+        RqPattern(final String pattern, final String template) {
             this.pattern = Pattern.compile(pattern);
+            this.template = template;
         }
 
         /**
@@ -103,5 +135,13 @@ public final class FromRqLine {
         public Pattern pattern() {
             return this.pattern;
         }
+
+        /**
+         * Get path template equivalent to request pattern.
+         * @return Path template.
+         */
+        public String template() {
+            return this.template;
+        }
     }
 }
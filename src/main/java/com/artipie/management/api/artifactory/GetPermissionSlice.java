@@ -6,7 +6,6 @@ package com.artipie.management.api.artifactory;
 
 import com.artipie.asto.Key;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
@@ -14,8 +13,12 @@ import com.artipie.http.rs.StandardRs;
 import com.artipie.http.rs.common.RsJson;
 import com.artipie.management.ConfigFiles;
 import com.artipie.management.RepoPermissions;
+import com.artipie.management.api.EntityTag;
+import com.artipie.management.api.RouteSlice;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -30,11 +33,13 @@ import org.reactivestreams.Publisher;
 
 /**
  * Artifactory `GET /api/security/permissions/{target}` endpoint, returns json with
- * permissions (= repository) information.
+ * permissions (= repository) information. Response has {@link EntityTag} built from
+ * repository permissions.
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class GetPermissionSlice implements Slice {
+public final class GetPermissionSlice implements RouteSlice {
 
     /**
      * Repository permissions.
@@ -59,7 +64,15 @@ public final class GetPermissionSlice implements Slice {
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Optional<String> opt = new FromRqLine(line, FromRqLine.RqPattern.REPO).get();
+        return this.response(
+            new FromRqLine(line, FromRqLine.RqPattern.REPO).vars(), line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Optional<String> opt = Optional.ofNullable(vars.get("repo"));
         return opt.<Response>map(
             repo -> new AsyncResponse(
                 this.configfile.exists(new Key.From(repo))
@@ -69,8 +82,13 @@ public final class GetPermissionSlice implements Slice {
                             if (exists) {
                                 res = this.permissions.permissions(repo).thenCombine(
                                     this.permissions.patterns(repo),
-                                    (perms, patterns) -> new RsJson(
-                                        GetPermissionSlice.response(patterns, perms, repo)
+                                    (perms, patterns) -> GetPermissionSlice.tag(
+                                        repo, patterns, perms
+                                    ).response(
+                                        headers,
+                                        () -> new RsJson(
+                                            GetPermissionSlice.response(patterns, perms, repo)
+                                        )
                                     )
                                 );
                             } else {
@@ -113,6 +131,27 @@ public final class GetPermissionSlice implements Slice {
             .build();
     }
 
+    /**
+     * Entity tag of the response.
+     * @param repo Repository name
+     * @param patterns Patterns
+     * @param permissions Users and permissions
+     * @return Entity tag
+     */
+    static EntityTag tag(final String repo,
+        final Collection<RepoPermissions.PathPattern> patterns,
+        final Collection<RepoPermissions.PermissionItem> permissions) {
+        final List<String> parts = new ArrayList<>(patterns.size() + permissions.size() * 2 + 2);
+        parts.add(repo);
+        parts.add(String.valueOf(patterns.size()));
+        patterns.stream().map(RepoPermissions.PathPattern::string).forEach(parts::add);
+        for (final RepoPermissions.PermissionItem item : permissions) {
+            parts.add(item.username());
+            parts.add(String.join(",", item.permissions()));
+        }
+        return new EntityTag(parts);
+    }
+
     /**
      * Creates users section of response.
      *
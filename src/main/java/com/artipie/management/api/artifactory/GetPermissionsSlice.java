@@ -8,18 +8,19 @@ import com.amihaiemil.eoyaml.YamlMapping;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
-import com.artipie.http.rs.common.RsJson;
 import com.artipie.management.RepoPermissions;
+import com.artipie.management.api.EntityTag;
+import com.artipie.management.api.RsJsonArray;
 import java.nio.ByteBuffer;
 import java.util.Map;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
-import javax.json.JsonObject;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.reactivestreams.Publisher;
 
 /**
  * Artifactory `GET /api/security/permissions` endpoint, returns
- * permissions ( = repositories) list.
+ * permissions ( = repositories) list. Response has {@link EntityTag} built from base url and
+ * repository names.
  * @since 0.1
  */
 public final class GetPermissionsSlice implements Slice {
@@ -49,28 +50,22 @@ public final class GetPermissionsSlice implements Slice {
         final Publisher<ByteBuffer> body) {
         final String base = this.meta.string("base_url").replaceAll("/$", "");
         return new AsyncResponse(
-            this.permissions.repositories().<Response>thenApply(
-                list -> {
-                    final JsonArrayBuilder json = Json.createArrayBuilder();
-                    list.forEach(
-                        perm -> json.add(GetPermissionsSlice.permJson(base, perm))
-                    );
-                    return new RsJson(json);
-                }
+            this.permissions.repositories().thenApply(
+                list -> new EntityTag(
+                    Stream.concat(Stream.of(base), list.stream()).collect(Collectors.toList())
+                ).response(
+                    headers,
+                    () -> new RsJsonArray<String>(
+                        list,
+                        (gen, name) -> gen.writeStartObject()
+                            .write("name", name)
+                            .write(
+                                "uri", String.format("%s/api/security/permissions/%s", base, name)
+                            )
+                            .writeEnd()
+                    )
+                )
             )
         );
     }
-
-    /**
-     * Returns json for repo permission.
-     * @param base Base url
-     * @param name Repo permission name
-     * @return User json object
-     */
-    private static JsonObject permJson(final String base, final String name) {
-        return Json.createObjectBuilder()
-            .add("name", name)
-            .add("uri", String.format("%s/api/security/permissions/%s", base, name))
-            .build();
-    }
 }
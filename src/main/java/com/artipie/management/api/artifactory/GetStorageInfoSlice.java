@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.rs.common.RsJson;
+import com.artipie.management.ConfigFiles;
+import com.artipie.management.usage.StorageUsage;
+import com.artipie.management.usage.Usage;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import org.reactivestreams.Publisher;
+
+/**
+ * Artifactory `GET /api/storageinfo` endpoint, returns storage usage of repositories and
+ * users. Repositories are found by config files in settings storage, user of the repository
+ * is the first part of config key, if any.
+ * @since 0.7
+ */
+public final class GetStorageInfoSlice implements Slice {
+
+    /**
+     * Artipie settings storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Config file to support `yaml` and `.yml` extensions.
+     */
+    private final ConfigFiles configfile;
+
+    /**
+     * Storage usage.
+     */
+    private final StorageUsage usage;
+
+    /**
+     * Ctor.
+     * @param storage Artipie settings storage
+     * @param configfile Config file to support `yaml` and `.yml` extensions
+     * @param usage Storage usage
+     */
+    public GetStorageInfoSlice(final Storage storage, final ConfigFiles configfile,
+        final StorageUsage usage) {
+        this.storage = storage;
+        this.configfile = configfile;
+        this.usage = usage;
+    }
+
+    @Override
+    public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        return new AsyncResponse(
+            SingleInterop.fromFuture(this.storage.list(Key.ROOT)).map(
+                keys -> keys.stream()
+                    .filter(this.configfile::isYamlOrYml)
+                    .filter(key -> !GetStorageInfoSlice.last(key).startsWith("_"))
+                    .map(this.configfile::name)
+                    .sorted()
+                    .collect(Collectors.toList())
+            ).flattenAsFlowable(names -> names).concatMapSingle(
+                name -> SingleInterop.fromFuture(this.usage.repo(name)).map(
+                    usage -> Map.entry(name, usage)
+                )
+            ).toList().map(
+                repos -> {
+                    final Map<String, Usage> users = new TreeMap<>();
+                    Usage total = Usage.EMPTY;
+                    final JsonArrayBuilder list = Json.createArrayBuilder();
+                    for (final Map.Entry<String, Usage> repo : repos) {
+                        list.add(GetStorageInfoSlice.summary("repoKey", repo));
+                        total = total.plus(repo.getValue());
+                        final int slash = repo.getKey().indexOf('/');
+                        if (slash > 0) {
+                            users.merge(
+                                repo.getKey().substring(0, slash), repo.getValue(), Usage::plus
+                            );
+                        }
+                    }
+                    list.add(
+                        GetStorageInfoSlice.summary("repoKey", Map.entry("TOTAL", total))
+                    );
+                    final JsonArrayBuilder owners = Json.createArrayBuilder();
+                    users.entrySet().forEach(
+                        user -> owners.add(GetStorageInfoSlice.summary("user", user))
+                    );
+                    return new RsJson(
+                        Json.createObjectBuilder()
+                            .add("repositoriesSummaryList", list)
+                            .add("usersSummaryList", owners)
+                            .build()
+                    );
+                }
+            )
+        );
+    }
+
+    /**
+     * Usage summary JSON.
+     * @param field Name field
+     * @param usage Usage by name
+     * @return JSON object
+     */
+    private static JsonObjectBuilder summary(final String field,
+        final Map.Entry<String, Usage> usage) {
+        return Json.createObjectBuilder()
+            .add(field, usage.getKey())
+            .add("filesCount", usage.getValue().files())
+            .add("usedSpaceInBytes", usage.getValue().bytes());
+    }
+
+    /**
+     * Last part of the key.
+     * @param key Key
+     * @return Key part
+     */
+    private static String last(final Key key) {
+        return key.parts().get(key.parts().size() - 1);
+    }
+}
@@ -6,27 +6,66 @@
 package com.artipie.management.api.artifactory;
 
 import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rq.RqParams;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
 import com.artipie.http.rs.common.RsJson;
 import com.artipie.management.Storages;
+import com.artipie.management.api.RouteSlice;
+import com.artipie.management.api.RsJsonArray;
+import com.artipie.management.api.RsNdJson;
+import io.reactivex.Flowable;
+import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
-import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
 import org.reactivestreams.Publisher;
 
 /**
  * Get storage slice. See https://github.com/artipie/artipie/issues/545
+ * <p>
+ * Route for this slice is {@code /api/storage/**}.
+ * </p>
+ * <p>
+ * With {@code list} query parameter responds with Artifactory file list, which supports
+ * {@code deep}, {@code depth}, {@code listFolders} and {@code mdTimestamps} parameters and
+ * is streamed as JSON or as newline delimited JSON if client accepts
+ * {@code application/x-ndjson}.
+ * </p>
+ * <p>
+ * Without {@code list} parameter responds with file info if path is a file, or with folder
+ * children listing otherwise.
+ * </p>
  *
  * @since 0.3
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class GetStorageSlice implements Slice {
+public final class GetStorageSlice implements RouteSlice {
+
+    /**
+     * Max page size.
+     */
+    private static final int MAX = 1000;
 
     /**
      * Artipie storages.
@@ -38,72 +77,317 @@ public final class GetStorageSlice implements Slice {
      */
     private final Pattern path;
 
+    /**
+     * Storage folder listing.
+     */
+    private final FolderListing listing;
+
     /**
      * New storage list slice.
      * @param storages Artipie storages
      * @param path Artipie path pattern
      */
     public GetStorageSlice(final Storages storages, final Pattern path) {
+        this(storages, path, new FolderListing.Recursive());
+    }
+
+    /**
+     * New storage list slice.
+     * @param storages Artipie storages
+     * @param path Artipie path pattern
+     * @param listing Storage folder listing
+     */
+    public GetStorageSlice(final Storages storages, final Pattern path,
+        final FolderListing listing) {
         this.storages = storages;
         this.path = path;
+        this.listing = listing;
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Request request = new Request(this.path, line);
-        final Key root = request.root();
-        return new AsyncResponse(
-            this.storages.repoStorage(request.repo()).thenCompose(
-                repo -> repo.list(root).thenApply(
-                    list -> {
-                        final KeyList keys = new KeyList(root);
-                        list.forEach(keys::add);
-                        return keys.print(new JsonOutput());
+        return this.route(new Request(this.path, line), line, headers);
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        return this.route(new Request(this.path, vars), line, headers);
+    }
+
+    /**
+     * Route request to folder listing or to file list if {@code list} query parameter
+     * is present.
+     * @param request Request
+     * @param line Request line
+     * @param headers Request headers
+     * @return Response
+     */
+    private Response route(final Request request, final String line,
+        final Iterable<Map.Entry<String, String>> headers) {
+        final URI uri = new RequestLineFrom(line).uri();
+        final Response res;
+        if (GetStorageSlice.flag(uri, "list")) {
+            res = this.files(request, uri, headers);
+        } else {
+            res = this.list(request, new RqParams(uri));
+        }
+        return res;
+    }
+
+    /**
+     * Artifactory file list.
+     * @param request Request
+     * @param uri Request URI
+     * @param headers Request headers
+     * @return Response with file list JSON or newline delimited JSON
+     */
+    private Response files(final Request request, final URI uri,
+        final Iterable<Map.Entry<String, String>> headers) {
+        final RqParams params = new RqParams(uri);
+        final Optional<Integer> depth;
+        if (params.value("deep").map("1"::equals).orElse(false)) {
+            depth = params.value("depth").map(GetStorageSlice::positive)
+                .orElse(Optional.of(Integer.MAX_VALUE));
+        } else {
+            depth = Optional.of(1);
+        }
+        final boolean folders = params.value("listFolders").map("1"::equals).orElse(false);
+        final boolean timestamps = params.value("mdTimestamps").map("1"::equals).orElse(false);
+        final boolean ndjson = new RqHeaders(headers, "Accept").stream()
+            .anyMatch(accept -> accept.contains("application/x-ndjson"));
+        final Response res;
+        if (depth.isPresent()) {
+            final Key root = request.root();
+            res = new AsyncResponse(
+                this.storages.repoStorage(request.repo()).<Response>thenApply(
+                    repo -> {
+                        final Flowable<FileList.Item> items =
+                            new FileList(repo, root, depth.get(), folders).items();
+                        final BiConsumer<JsonGenerator, FileList.Item> format =
+                            (gen, item) -> item.write(gen, timestamps);
+                        final Response rsp;
+                        if (ndjson) {
+                            rsp = new RsNdJson<>(items, format);
+                        } else {
+                            rsp = new RsJsonArray<>(
+                                "files", items, format,
+                                Map.of("uri", uri.getPath(), "created", Instant.now().toString())
+                            );
+                        }
+                        return rsp;
                     }
-                ).thenApply(RsJson::new)
-            )
+                )
+            );
+        } else {
+            res = new RsWithStatus(RsStatus.BAD_REQUEST);
+        }
+        return res;
+    }
+
+    /**
+     * List storage items.
+     * @param request Request
+     * @param params Request query parameters
+     * @return Response with items JSON
+     */
+    private Response list(final Request request, final RqParams params) {
+        final Optional<String> limit = params.value("limit");
+        final Optional<String> token = params.value("continuationToken");
+        final Optional<Integer> size;
+        if (limit.isPresent()) {
+            size = GetStorageSlice.limit(limit.get());
+        } else if (token.isPresent()) {
+            size = Optional.of(GetStorageSlice.MAX);
+        } else {
+            size = Optional.of(Integer.MAX_VALUE);
+        }
+        final Optional<String> after = token.flatMap(GetStorageSlice::decode);
+        final Response res;
+        if (size.isPresent() && after.isPresent() == token.isPresent()) {
+            final Key root = request.root();
+            final String name = request.repo();
+            res = new AsyncResponse(
+                this.storages.repoStorage(name).thenCompose(
+                    repo -> GetStorageSlice.file(repo, root).thenCompose(
+                        file -> {
+                            final CompletionStage<Response> rsp;
+                            if (file) {
+                                rsp = new FileInfo(repo, root).json(name)
+                                    .thenApply(RsJson::new);
+                            } else {
+                                final KeyList keys = new KeyList(root, after, size.get());
+                                rsp = this.listing.list(repo, root, keys).thenApply(
+                                    nothing -> keys.print(
+                                        new JsonOutput(
+                                            name, root,
+                                            keys.next().map(GetStorageSlice::encode),
+                                            !token.isPresent() && !limit.isPresent()
+                                        )
+                                    )
+                                );
+                            }
+                            return rsp;
+                        }
+                    )
+                )
+            );
+        } else {
+            res = new RsWithStatus(RsStatus.BAD_REQUEST);
+        }
+        return res;
+    }
+
+    /**
+     * Check that key is a file.
+     * @param storage Storage
+     * @param key Key
+     * @return True if key is not root and value exists for it
+     */
+    private static CompletionStage<Boolean> file(final Storage storage, final Key key) {
+        final CompletionStage<Boolean> res;
+        if (key.string().isEmpty()) {
+            res = CompletableFuture.completedFuture(false);
+        } else {
+            res = storage.exists(key);
+        }
+        return res;
+    }
+
+    /**
+     * Parse page size.
+     * @param limit Limit parameter value
+     * @return Page size not greater than max, empty if parameter value is not valid
+     */
+    private static Optional<Integer> limit(final String limit) {
+        return GetStorageSlice.positive(limit).map(val -> Math.min(val, GetStorageSlice.MAX));
+    }
+
+    /**
+     * Parse positive number.
+     * @param value Parameter value
+     * @return Number, empty if parameter value is not a positive number
+     */
+    private static Optional<Integer> positive(final String value) {
+        Optional<Integer> res;
+        try {
+            res = Optional.of(Integer.parseInt(value)).filter(val -> val > 0);
+        } catch (final NumberFormatException ex) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Check that query has parameter, parameter may have no value.
+     * @param uri Request URI
+     * @param name Parameter name
+     * @return True if parameter is present
+     */
+    private static boolean flag(final URI uri, final String name) {
+        final String query = uri.getRawQuery();
+        return query != null && Arrays.stream(query.split("&")).anyMatch(
+            param -> param.equals(name) || param.startsWith(String.format("%s=", name))
         );
     }
 
     /**
-     * JSON array output for key list.
+     * Encode continuation token from the last child name of the page.
+     * @param name Child name
+     * @return Token
+     */
+    private static String encode(final String name) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode continuation token to the last child name of previous page.
+     * @param token Token
+     * @return Child name, empty if token is not valid
+     */
+    private static Optional<String> decode(final String token) {
+        Optional<String> res;
+        try {
+            res = Optional.of(
+                new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+            ).filter(name -> !name.isEmpty());
+        } catch (final IllegalArgumentException ex) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * JSON output for key list, streams items as {@code files} array followed by folder
+     * info fields.
      * @since 0.3
      */
-    private static final class JsonOutput implements KeyList.KeysFormat<JsonObject> {
+    private static final class JsonOutput implements KeyList.KeysFormat<Response> {
 
         /**
-         * Array builder.
+         * Items with folder flag.
          */
-        private final JsonArrayBuilder builder;
+        private final List<Map.Entry<Key, Boolean>> items;
 
         /**
-         * New JSON key list output.
+         * Folder info fields.
          */
-        JsonOutput() {
-            this(Json.createArrayBuilder());
-        }
+        private final Map<String, String> info;
+
+        /**
+         * Should children be counted.
+         */
+        private final boolean count;
 
         /**
          * New JSON key list output.
-         * @param builder Array builder
+         * @param repo Repository name
+         * @param root Folder key
+         * @param token Continuation token of next page
+         * @param count Should children be counted
+         * @checkstyle ParameterNumberCheck (5 lines)
          */
-        private JsonOutput(final JsonArrayBuilder builder) {
-            this.builder = builder;
+        JsonOutput(final String repo, final Key root, final Optional<String> token,
+            final boolean count) {
+            this.items = new ArrayList<>();
+            this.info = new LinkedHashMap<>();
+            this.info.put("repo", repo);
+            this.info.put("path", String.format("/%s", root.string()));
+            token.ifPresent(val -> this.info.put("continuationToken", val));
+            this.count = count;
         }
 
         @Override
         public void add(final Key item, final boolean parent) {
-            this.builder.add(
-                Json.createObjectBuilder()
-                    .add("uri", String.format("/%s", item.string()))
-                    .add("folder", Boolean.toString(parent))
-            );
+            this.items.add(new AbstractMap.SimpleImmutableEntry<>(item, parent));
         }
 
         @Override
-        public JsonObject result() {
-            return Json.createObjectBuilder().add("files", this.builder).build();
+        public Response result() {
+            return new RsJsonArray<Map.Entry<Key, Boolean>>(
+                "files",
+                this.items,
+                (gen, item) -> gen.writeStartObject()
+                    .write("uri", String.format("/%s", item.getKey().string()))
+                    .write("folder", Boolean.toString(item.getValue()))
+                    .writeEnd(),
+                this.fields()
+            );
+        }
+
+        /**
+         * Folder info fields with children counts if requested.
+         * @return Fields
+         */
+        private Map<String, String> fields() {
+            if (this.count) {
+                final long folders = this.items.stream().filter(Map.Entry::getValue).count();
+                this.info.put("foldersCount", Long.toString(folders));
+                this.info.put("filesCount", Long.toString(this.items.size() - folders));
+            }
+            return this.info;
         }
     }
 
@@ -125,9 +409,9 @@ public final class GetStorageSlice implements Slice {
         private final Pattern path;
 
         /**
-         * Request line.
+         * Target part of path.
          */
-        private final String line;
+        private final Supplier<String> trgt;
 
         /**
          * Ctor.
@@ -136,8 +420,28 @@ public final class GetStorageSlice implements Slice {
          * @param line Request line.
          */
         public Request(final Pattern path, final String line) {
+            this(path, () -> Request.target(line));
+        }
+
+        /**
+         * Ctor.
+         *
+         * @param path Path pattern.
+         * @param vars Path variables of {@code /api/storage/**} route.
+         */
+        public Request(final Pattern path, final Map<String, String> vars) {
+            this(path, () -> String.format("/%s", vars.get("**")));
+        }
+
+        /**
+         * Primary ctor.
+         *
+         * @param path Path pattern.
+         * @param trgt Target part of path.
+         */
+        private Request(final Pattern path, final Supplier<String> trgt) {
             this.path = path;
-            this.line = line;
+            this.trgt = trgt;
         }
 
         /**
@@ -174,7 +478,17 @@ public final class GetStorageSlice implements Slice {
          * @return Target.
          */
         private String target() {
-            final String rqpath = new RequestLineFrom(this.line).uri().getPath();
+            return this.trgt.get();
+        }
+
+        /**
+         * Reads target part from request line path.
+         *
+         * @param line Request line.
+         * @return Target.
+         */
+        private static String target(final String line) {
+            final String rqpath = new RequestLineFrom(line).uri().getPath();
             final Matcher matcher = PATH.matcher(rqpath);
             if (matcher.matches()) {
                 return matcher.group("target");
@@ -5,23 +5,28 @@
 package com.artipie.management.api.artifactory;
 
 import com.artipie.http.Response;
-import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.rs.StandardRs;
 import com.artipie.http.rs.common.RsJson;
 import com.artipie.management.Users;
+import com.artipie.management.api.EntityTag;
+import com.artipie.management.api.RouteSlice;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.json.Json;
 import org.reactivestreams.Publisher;
 
 /**
  * Artifactory `GET /api/security/users/{userName}` endpoint, returns user information.
+ * Response has {@link EntityTag} built from user data.
  * @since 0.1
+ * @checkstyle ParameterNumberCheck (500 lines)
  */
-public final class GetUserSlice implements Slice {
+public final class GetUserSlice implements RouteSlice {
 
     /**
      * Artipie users.
@@ -39,31 +44,36 @@ public final class GetUserSlice implements Slice {
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        final Optional<String> name = new FromRqLine(line, FromRqLine.RqPattern.USER).get();
+        return this.response(
+            new FromRqLine(line, FromRqLine.RqPattern.USER).vars(), line, headers, body
+        );
+    }
+
+    @Override
+    public Response response(final Map<String, String> vars, final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Optional<String> name = Optional.ofNullable(vars.get("username"));
         return name.<Response>map(
             username -> new AsyncResponse(
-                this.users.list().thenApply(
-                    items -> items.stream().filter(item -> item.name().equals(username)).findFirst()
-                ).thenApply(
+                this.users.get(username).thenApply(
                     user -> {
                         final Response resp;
                         if (user.isPresent()) {
-                            resp = new RsJson(
-                                Json.createObjectBuilder()
-                                    .add("name", user.get().name())
-                                    .add(
-                                        "email",
-                                        user.get().email().orElse(
-                                            String.format("%s@artipie.com", user.get().name())
-                                        )
-                                    )
-                                    .add("lastLoggedIn", "2020-01-01T01:01:01.000+01:00")
-                                    .add("realm", "Internal")
-                                    .add(
-                                        "groups",
-                                        Json.createArrayBuilder(user.get().groups()).build()
-                                    )::build,
-                                StandardCharsets.UTF_8
+                            final String email = GetUserSlice.email(user.get());
+                            resp = GetUserSlice.tag(user.get()).response(
+                                headers,
+                                () -> new RsJson(
+                                    Json.createObjectBuilder()
+                                        .add("name", user.get().name())
+                                        .add("email", email)
+                                        .add("lastLoggedIn", "2020-01-01T01:01:01.000+01:00")
+                                        .add("realm", "Internal")
+                                        .add(
+                                            "groups",
+                                            Json.createArrayBuilder(user.get().groups()).build()
+                                        )::build,
+                                    StandardCharsets.UTF_8
+                                )
                             );
                         } else {
                             resp = StandardRs.NOT_FOUND;
@@ -74,4 +84,27 @@ public final class GetUserSlice implements Slice {
             )
         ).orElse(StandardRs.NOT_FOUND);
     }
+
+    /**
+     * Entity tag of user response.
+     * @param user User
+     * @return Entity tag
+     */
+    static EntityTag tag(final Users.User user) {
+        return new EntityTag(
+            Stream.concat(
+                Stream.of(user.name(), GetUserSlice.email(user)),
+                user.groups().stream().sorted()
+            ).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * User email or default email.
+     * @param user User
+     * @return Email
+     */
+    private static String email(final Users.User user) {
+        return user.email().orElse(String.format("%s@artipie.com", user.name()));
+    }
 }
@@ -5,21 +5,38 @@
 package com.artipie.management.api.artifactory;
 
 import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
-import com.artipie.http.rs.common.RsJson;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqParams;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
 import com.artipie.management.Users;
+import com.artipie.management.api.EntityTag;
+import com.artipie.management.api.RsJsonArray;
+import java.net.URLEncoder;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
-import javax.json.JsonObject;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.reactivestreams.Publisher;
 
 /**
  * Artifactory `GET /api/security/users` endpoint, returns json with user names and links to
  * user information.
+ * <p>
+ * Without query parameters all users are returned. With any of {@code limit}, {@code after},
+ * {@code prefix} or {@code group} query parameters, page of users sorted by name and
+ * filtered by name prefix and group is returned, if more users are available,
+ * {@code Link} header with next page URI and {@code rel="next"} is added. Response has
+ * {@link EntityTag} built from base url and found user names.
+ * </p>
  * @since 0.1
  */
 public final class GetUsersSlice implements Slice {
@@ -29,6 +46,16 @@ public final class GetUsersSlice implements Slice {
      */
     public static final String PATH = "/api/security/users";
 
+    /**
+     * Default page size.
+     */
+    private static final int LIMIT = 100;
+
+    /**
+     * Max page size.
+     */
+    private static final int MAX = 1000;
+
     /**
      * Artipie users.
      */
@@ -53,28 +80,128 @@ public final class GetUsersSlice implements Slice {
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
         final String base = this.meta.string("base_url").replaceAll("/$", "");
-        return new AsyncResponse(
-            this.users.list().<Response>thenApply(
-                list -> {
-                    final JsonArrayBuilder json = Json.createArrayBuilder();
-                    list.forEach(user -> json.add(GetUsersSlice.getUserJson(base, user.name())));
-                    return new RsJson(json);
-                }
-            )
+        final RqParams params = new RqParams(new RequestLineFrom(line).uri());
+        final Optional<String> limit = params.value("limit");
+        final Optional<String> after = params.value("after");
+        final Optional<String> prefix = params.value("prefix");
+        final Optional<String> group = params.value("group");
+        final Response res;
+        if (limit.isEmpty() && after.isEmpty() && prefix.isEmpty() && group.isEmpty()) {
+            res = new AsyncResponse(
+                this.users.list().thenApply(
+                    list -> GetUsersSlice.tag(base, list).response(
+                        headers, () -> GetUsersSlice.json(base, list)
+                    )
+                )
+            );
+        } else {
+            final Optional<Integer> size = limit.map(GetUsersSlice::limit)
+                .orElse(Optional.of(GetUsersSlice.LIMIT));
+            if (size.isPresent()) {
+                res = new AsyncResponse(
+                    this.users.find(
+                        new Users.Query(size.get() + 1, after, prefix, group)
+                    ).thenApply(
+                        list -> GetUsersSlice.tag(base, list).response(
+                            headers,
+                            () -> GetUsersSlice.page(
+                                base, list, new Users.Query(size.get(), after, prefix, group)
+                            )
+                        )
+                    )
+                );
+            } else {
+                res = new RsWithStatus(RsStatus.BAD_REQUEST);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Parse page size.
+     * @param limit Limit parameter value
+     * @return Page size not greater than max, empty if parameter value is not valid
+     */
+    private static Optional<Integer> limit(final String limit) {
+        Optional<Integer> res;
+        try {
+            res = Optional.of(Integer.parseInt(limit))
+                .filter(val -> val > 0)
+                .map(val -> Math.min(val, GetUsersSlice.MAX));
+        } catch (final NumberFormatException ex) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Entity tag of users response.
+     * @param base Base url
+     * @param list Found users
+     * @return Entity tag
+     */
+    private static EntityTag tag(final String base, final List<Users.User> list) {
+        return new EntityTag(
+            Stream.concat(Stream.of(base), list.stream().map(Users.User::name))
+                .collect(Collectors.toList())
         );
     }
 
     /**
-     * Returns json for user.
+     * Users page response.
+     * @param base Base url
+     * @param list Found users, one more than page size if next page is available
+     * @param query Page query
+     * @return Response
+     */
+    private static Response page(final String base, final List<Users.User> list,
+        final Users.Query query) {
+        final Response res;
+        if (list.size() > query.limit()) {
+            final List<Users.User> page = list.subList(0, query.limit());
+            final StringBuilder next = new StringBuilder(base)
+                .append(GetUsersSlice.PATH)
+                .append("?limit=").append(query.limit())
+                .append("&after=").append(GetUsersSlice.encode(page.get(page.size() - 1).name()));
+            query.prefix().ifPresent(
+                prefix -> next.append("&prefix=").append(GetUsersSlice.encode(prefix))
+            );
+            query.group().ifPresent(
+                group -> next.append("&group=").append(GetUsersSlice.encode(group))
+            );
+            res = new RsWithHeaders(
+                GetUsersSlice.json(base, page),
+                new Headers.From("Link", String.format("<%s>; rel=\"next\"", next))
+            );
+        } else {
+            res = GetUsersSlice.json(base, list);
+        }
+        return res;
+    }
+
+    /**
+     * Users json response.
      * @param base Base url
-     * @param name Username
-     * @return User json object
+     * @param list Users
+     * @return Response
+     */
+    private static Response json(final String base, final List<Users.User> list) {
+        return new RsJsonArray<Users.User>(
+            list,
+            (gen, user) -> gen.writeStartObject()
+                .write("name", user.name())
+                .write("uri", String.format("%s/api/security/users/%s", base, user.name()))
+                .write("realm", "Internal")
+                .writeEnd()
+        );
+    }
+
+    /**
+     * Encode query parameter value.
+     * @param value Value
+     * @return URL encoded value
      */
-    private static JsonObject getUserJson(final String base, final String name) {
-        return Json.createObjectBuilder()
-            .add("name", name)
-            .add("uri", String.format("%s/api/security/users/%s", base, name))
-            .add("realm", "Internal")
-            .build();
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
     }
 }
@@ -6,17 +6,25 @@
 package com.artipie.management.api.artifactory;
 
 import com.artipie.asto.Key;
-import com.google.common.collect.Iterators;
-import com.google.common.collect.PeekingIterator;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * This class can print storage key items in different formats,
  * e.g. for Artifactory API and as list HTML page, etc.
+ * <p>
+ * Only direct children of the root key are kept: each added key is reduced to the child of
+ * the root it belongs to, so memory used by the list depends on children count and not on
+ * the count of keys in the whole subtree. Children are printed sorted by name.
+ * </p>
+ * <p>
+ * Key list can be limited to a page of children after given child name: children before
+ * the page are skipped and children after the page are dropped as soon as the page is full,
+ * so only page size plus one children are kept.
+ * </p>
  * @since 0.3
  */
 public final class KeyList {
@@ -27,9 +35,24 @@ public final class KeyList {
     private final Key root;
 
     /**
-     * Key set.
+     * Root key prefix of children keys.
      */
-    private final Set<Key> keys;
+    private final String prefix;
+
+    /**
+     * Folder flags of children by name.
+     */
+    private final NavigableMap<String, Boolean> children;
+
+    /**
+     * Name of the last child of previous page.
+     */
+    private final Optional<String> after;
+
+    /**
+     * Max children count to print.
+     */
+    private final int limit;
 
     /**
      * Ctor.
@@ -37,17 +60,71 @@ public final class KeyList {
      * @param root Root key.
      */
     public KeyList(final Key root) {
+        this(root, Optional.empty(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param root Root key.
+     * @param after Name of the last child of previous page.
+     * @param limit Max children count to print.
+     */
+    public KeyList(final Key root, final Optional<String> after, final int limit) {
         this.root = root;
-        this.keys = new HashSet<>();
+        this.after = after;
+        this.limit = limit;
+        if (root.string().isEmpty()) {
+            this.prefix = "";
+        } else {
+            this.prefix = String.format("%s%s", root.string(), Key.DELIMITER);
+        }
+        this.children = new TreeMap<>();
     }
 
     /**
-     * Add key to the list.
+     * Add key to the list, it's reduced to the direct child of the root.
+     * Keys outside of the root are ignored.
      * @param key Key to add
      */
     public void add(final Key key) {
-        this.keys.add(key);
-        key.parent().ifPresent(this::add);
+        final String str = key.string();
+        if (str.length() > this.prefix.length() && str.startsWith(this.prefix)) {
+            final int end = str.indexOf(Key.DELIMITER, this.prefix.length());
+            if (end < 0) {
+                this.add(str.substring(this.prefix.length()), false);
+            } else {
+                this.add(str.substring(this.prefix.length(), end), true);
+            }
+        }
+    }
+
+    /**
+     * Add direct child of the root to the list.
+     * @param name Child name
+     * @param folder True if child is a folder
+     */
+    public void add(final String name, final boolean folder) {
+        if (this.after.map(last -> name.compareTo(last) > 0).orElse(true)) {
+            this.children.merge(name, folder, Boolean::logicalOr);
+            if (this.children.size() - 1 > this.limit) {
+                this.children.pollLastEntry();
+            }
+        }
+    }
+
+    /**
+     * Name of the last printed child if there are more children after it.
+     * @return Child name if list is truncated by limit, empty otherwise
+     */
+    public Optional<String> next() {
+        final Optional<String> res;
+        if (this.children.size() > this.limit) {
+            res = Optional.of(this.children.lowerKey(this.children.lastKey()));
+        } else {
+            res = Optional.empty();
+        }
+        return res;
     }
 
     /**
@@ -57,18 +134,10 @@ public final class KeyList {
      * @return Formatted result
      */
     public <T> T print(final KeysFormat<T> format) {
-        final List<Key> list = new ArrayList<>(this.keys);
-        list.sort(Comparator.comparing(Key::string));
-        final PeekingIterator<Key> iter = Iterators.peekingIterator(list.iterator());
-        while (iter.hasNext()) {
-            final Key key = iter.next();
-            if (key.parent().map(this.root::equals).orElse(false)) {
-                format.add(
-                    key,
-                    iter.hasNext()
-                        && iter.peek().parent().map(parent -> parent.equals(key)).orElse(false)
-                );
-            }
+        final Iterator<Map.Entry<String, Boolean>> iter = this.children.entrySet().iterator();
+        for (int cnt = 0; cnt < this.limit && iter.hasNext(); ++cnt) {
+            final Map.Entry<String, Boolean> child = iter.next();
+            format.add(new Key.From(this.root, child.getKey()), child.getValue());
         }
         return format.result();
     }
@@ -8,15 +8,18 @@ import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.headers.Header;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.management.api.RsCompressed;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import org.reactivestreams.Publisher;
 
 /**
- * Slice to render HTML pages.
+ * Slice to render HTML pages. Pages are compressed if client accepts compressed responses,
+ * they are user specific, so they may be cached only by client and only with revalidation.
  * @since 0.2
  */
 public final class PageSlice implements Slice {
@@ -37,12 +40,18 @@ public final class PageSlice implements Slice {
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        return new RsWithHeaders(
-            new AsyncResponse(
-                this.page.render(line, headers)
-                    .map(html -> new RsWithBody(html, StandardCharsets.UTF_8))
+        return new RsCompressed(
+            new RsWithHeaders(
+                new AsyncResponse(
+                    this.page.render(line, headers)
+                        .map(html -> new RsWithBody(html, StandardCharsets.UTF_8))
+                ),
+                new Headers.From(
+                    new Header("Content-Type", "text/html"),
+                    new Header("Cache-Control", "private, no-cache")
+                )
             ),
-            new Headers.From("Content-Type", "text/html")
+            headers
         );
     }
 }
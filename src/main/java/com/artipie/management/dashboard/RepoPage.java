@@ -4,21 +4,16 @@
  */
 package com.artipie.management.dashboard;
 
-import com.amihaiemil.eoyaml.Scalar;
-import com.amihaiemil.eoyaml.Yaml;
-import com.amihaiemil.eoyaml.YamlMapping;
-import com.amihaiemil.eoyaml.YamlMappingBuilder;
 import com.artipie.asto.Key;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.management.ConfigFiles;
-import com.artipie.management.api.ContentAsYaml;
-import com.github.jknack.handlebars.Handlebars;
-import com.github.jknack.handlebars.helper.ConditionalHelpers;
+import com.artipie.management.repo.RepoConfigCache;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Single;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.http.NameValuePair;
@@ -39,23 +34,41 @@ public final class RepoPage implements Page {
     private static final Pattern PTN = Pattern.compile("/dashboard/(?<key>[^/.]+/[^/.]+)/?");
 
     /**
-     * Template engine.
+     * Templates.
      */
-    private final Handlebars handlebars;
+    private final Templates templates;
 
     /**
-     * Config file to support `yaml` and `.yml` extensions.
+     * Repo configs.
      */
-    private final ConfigFiles configfile;
+    private final RepoConfigCache configs;
 
     /**
-     * New page.
+     * New page without configs caching.
      * @param tpl Template engine
      * @param configfile Config file to support `yaml` and `.yml` extensions
      */
     public RepoPage(final TemplateLoader tpl, final ConfigFiles configfile) {
-        this.handlebars = new Handlebars(tpl);
-        this.configfile = configfile;
+        this(tpl, new RepoConfigCache(configfile, 0L));
+    }
+
+    /**
+     * New page.
+     * @param tpl Template engine
+     * @param configs Repo configs cache
+     */
+    public RepoPage(final TemplateLoader tpl, final RepoConfigCache configs) {
+        this(new Templates(tpl), configs);
+    }
+
+    /**
+     * New page.
+     * @param templates Compiled templates
+     * @param configs Repo configs cache
+     */
+    public RepoPage(final Templates templates, final RepoConfigCache configs) {
+        this.templates = templates;
+        this.configs = configs;
     }
 
     @Override
@@ -66,43 +79,26 @@ public final class RepoPage implements Page {
             throw new IllegalStateException("Should match");
         }
         final String name = matcher.group("key");
-        this.handlebars.registerHelper("eq", ConditionalHelpers.eq);
         final String[] parts = name.split("/");
         final Key key = new Key.From(String.format("%s.yaml", name));
         // @checkstyle LineLengthCheck (30 lines)
-        return SingleInterop.fromFuture(this.configfile.exists(key))
-            .filter(exists -> exists)
-            .flatMapSingleElement(
-                ignore -> SingleInterop.fromFuture(this.configfile.value(key)).to(new ContentAsYaml()).map(
-                    config -> {
-                        final YamlMapping repo = config.yamlMapping("repo");
-                        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder();
-                        builder = builder.add("type", repo.value("type"));
-                        if (repo.value("storage") != null
-                            && Scalar.class.isAssignableFrom(repo.value("storage").getClass())) {
-                            builder = builder.add("storage", repo.value("storage"));
-                        }
-                        builder = builder.add("permissions", repo.value("permissions"));
-                        if (repo.value("settings") != null) {
-                            builder = builder.add("settings", repo.value("settings"));
-                        }
-                        return Yaml.createYamlMappingBuilder().add("repo", builder.build()).build();
-                    }
-                ).map(
-                    yaml -> this.handlebars.compile("repo").apply(
-                        new MapOf<>(
-                            new MapEntry<>("title", name),
-                            new MapEntry<>("user", parts[0]),
-                            new MapEntry<>("name", parts[1]),
-                            new MapEntry<>("config", yaml.toString()),
-                            new MapEntry<>("found", true),
-                            new MapEntry<>("type", yaml.yamlMapping("repo").value("type").asScalar().value())
-                        )
+        return SingleInterop.fromFuture(this.configs.config(key))
+            .filter(Optional::isPresent)
+            .map(config -> config.get().page())
+            .map(
+                yaml -> this.templates.template("repo").apply(
+                    new MapOf<>(
+                        new MapEntry<>("title", name),
+                        new MapEntry<>("user", parts[0]),
+                        new MapEntry<>("name", parts[1]),
+                        new MapEntry<>("config", yaml.toString()),
+                        new MapEntry<>("found", true),
+                        new MapEntry<>("type", yaml.yamlMapping("repo").value("type").asScalar().value())
                     )
                 )
             ).switchIfEmpty(
                 Single.fromCallable(
-                    () -> this.handlebars.compile("repo").apply(
+                    () -> this.templates.template("repo").apply(
                         new MapOf<>(
                             new MapEntry<>("title", name),
                             new MapEntry<>("user", parts[0]),
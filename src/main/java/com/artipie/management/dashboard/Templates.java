@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.dashboard;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.HighConcurrencyTemplateCache;
+import com.github.jknack.handlebars.helper.ConditionalHelpers;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import com.github.jknack.handlebars.io.TemplateSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled dashboard templates.
+ * <p>
+ * Template is compiled on first request, compiled templates, which are thread-safe, are
+ * shared by all page renders. Templates are not compiled on creation, so loader without
+ * some templates can be used by pages which don't need them. In reload mode template is
+ * compiled again when its source (or source of any partial it uses) is changed, it's useful
+ * to edit templates without restart.
+ * </p>
+ * <p>
+ * Handlebars template source reads its modification time lazily, so in reload mode source
+ * which was cached without it takes modification time of the changed file and the change is
+ * not noticed. Sources are stamped with modification time when loaded to avoid it.
+ * </p>
+ * @since 0.7
+ */
+public final class Templates {
+
+    /**
+     * Template engine.
+     */
+    private final Handlebars handlebars;
+
+    /**
+     * Compile template again when its source is changed.
+     */
+    private final boolean reload;
+
+    /**
+     * Compiled templates by name, not used in reload mode.
+     */
+    private final ConcurrentMap<String, Template> compiled;
+
+    /**
+     * Templates compiled once.
+     * @param loader Template loader
+     */
+    public Templates(final TemplateLoader loader) {
+        this(loader, false);
+    }
+
+    /**
+     * Templates.
+     * @param loader Template loader
+     * @param reload Compile template again when its source is changed
+     */
+    public Templates(final TemplateLoader loader, final boolean reload) {
+        this.handlebars = new Handlebars(Templates.loader(loader, reload))
+            .with(new HighConcurrencyTemplateCache().setReload(reload))
+            .registerHelper("eq", ConditionalHelpers.eq);
+        this.reload = reload;
+        this.compiled = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Compiled template.
+     * @param name Template name
+     * @return Template
+     * @throws UncheckedIOException If template can't be loaded or compiled
+     */
+    public Template template(final String name) {
+        final Template res;
+        if (this.reload) {
+            res = Templates.compile(this.handlebars, name);
+        } else {
+            res = this.compiled.computeIfAbsent(
+                name, key -> Templates.compile(this.handlebars, key)
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Compile template, engine cache compiles it only once or when source changes.
+     * @param handlebars Template engine
+     * @param name Template name
+     * @return Template
+     */
+    private static Template compile(final Handlebars handlebars, final String name) {
+        try {
+            return handlebars.compile(name);
+        } catch (final IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    /**
+     * Template loader for mode.
+     * @param loader Origin template loader
+     * @param reload Reload mode
+     * @return Template loader
+     */
+    private static TemplateLoader loader(final TemplateLoader loader, final boolean reload) {
+        final TemplateLoader res;
+        if (reload) {
+            res = new Stamped(loader);
+        } else {
+            res = loader;
+        }
+        return res;
+    }
+
+    /**
+     * Template loader which reads modification time of source when it's loaded.
+     * @since 0.7
+     */
+    private static final class Stamped implements TemplateLoader {
+
+        /**
+         * Origin template loader.
+         */
+        private final TemplateLoader origin;
+
+        /**
+         * Ctor.
+         * @param origin Origin template loader
+         */
+        Stamped(final TemplateLoader origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public TemplateSource sourceAt(final String location) throws IOException {
+            final TemplateSource res = this.origin.sourceAt(location);
+            res.lastModified();
+            return res;
+        }
+
+        @Override
+        public String resolve(final String location) {
+            return this.origin.resolve(location);
+        }
+
+        @Override
+        public String getPrefix() {
+            return this.origin.getPrefix();
+        }
+
+        @Override
+        public String getSuffix() {
+            return this.origin.getSuffix();
+        }
+
+        @Override
+        public void setPrefix(final String prefix) {
+            this.origin.setPrefix(prefix);
+        }
+
+        @Override
+        public void setSuffix(final String suffix) {
+            this.origin.setSuffix(suffix);
+        }
+
+        @Override
+        public void setCharset(final Charset charset) {
+            this.origin.setCharset(charset);
+        }
+
+        @Override
+        public Charset getCharset() {
+            return this.origin.getCharset();
+        }
+    }
+}
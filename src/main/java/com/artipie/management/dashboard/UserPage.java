@@ -9,15 +9,17 @@ import com.artipie.asto.Storage;
 import com.artipie.asto.rx.RxStorageWrapper;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.management.ConfigFiles;
-import com.github.jknack.handlebars.Handlebars;
+import com.artipie.management.usage.StorageUsage;
 import com.github.jknack.handlebars.io.TemplateLoader;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
 import io.reactivex.Single;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import org.cactoos.map.MapEntry;
-import org.cactoos.map.MapOf;
 
 /**
  * User page.
@@ -32,9 +34,9 @@ public final class UserPage implements Page {
     private static final Pattern PTN = Pattern.compile("/dashboard/(?<user>[^/.]+)/?");
 
     /**
-     * Template engine.
+     * Templates.
      */
-    private final Handlebars handlebars;
+    private final Templates templates;
 
     /**
      * Settings.
@@ -46,6 +48,11 @@ public final class UserPage implements Page {
      */
     private final ConfigFiles configfile;
 
+    /**
+     * Storage usage of repositories.
+     */
+    private final Optional<StorageUsage> usage;
+
     /**
      * New page.
      * @param tpl Template loader
@@ -53,9 +60,49 @@ public final class UserPage implements Page {
      * @param configfile Config file to support `yaml` and `.yml` extensions
      */
     public UserPage(final TemplateLoader tpl, final Storage storage, final ConfigFiles configfile) {
-        this.handlebars = new Handlebars(tpl);
+        this(new Templates(tpl), storage, configfile, Optional.empty());
+    }
+
+    /**
+     * New page with storage usage of user repositories.
+     * @param tpl Template loader
+     * @param storage Settings storage
+     * @param configfile Config file to support `yaml` and `.yml` extensions
+     * @param usage Storage usage of repositories
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public UserPage(final TemplateLoader tpl, final Storage storage, final ConfigFiles configfile,
+        final StorageUsage usage) {
+        this(new Templates(tpl), storage, configfile, usage);
+    }
+
+    /**
+     * New page with compiled templates and storage usage of user repositories.
+     * @param templates Compiled templates
+     * @param storage Settings storage
+     * @param configfile Config file to support `yaml` and `.yml` extensions
+     * @param usage Storage usage of repositories
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public UserPage(final Templates templates, final Storage storage,
+        final ConfigFiles configfile, final StorageUsage usage) {
+        this(templates, storage, configfile, Optional.of(usage));
+    }
+
+    /**
+     * Primary ctor.
+     * @param templates Compiled templates
+     * @param storage Settings storage
+     * @param configfile Config file to support `yaml` and `.yml` extensions
+     * @param usage Storage usage of repositories, not shown if empty
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private UserPage(final Templates templates, final Storage storage,
+        final ConfigFiles configfile, final Optional<StorageUsage> usage) {
+        this.templates = templates;
         this.storage = storage;
         this.configfile = configfile;
+        this.usage = usage;
     }
 
     @Override
@@ -68,18 +115,35 @@ public final class UserPage implements Page {
         final String user = matcher.group("user");
         return new RxStorageWrapper(this.storage).list(new Key.From(user))
             .map(
-                repos -> this.handlebars.compile("user").apply(
-                    new MapOf<>(
-                        new MapEntry<>("title", user),
-                        new MapEntry<>("user", user),
-                        new MapEntry<>(
-                            "repos",
-                            repos.stream()
-                                .map(this.configfile::name)
-                                .collect(Collectors.toList())
-                        )
-                    )
-                )
+                repos -> repos.stream()
+                    .map(this.configfile::name)
+                    .collect(Collectors.toList())
+            ).flatMap(
+                repos -> {
+                    final Map<String, Object> ctx = new HashMap<>();
+                    ctx.put("title", user);
+                    ctx.put("user", user);
+                    ctx.put("repos", repos);
+                    return this.usage(repos).map(
+                        total -> {
+                            total.ifPresent(used -> ctx.put("usage", used));
+                            return this.templates.template("user").apply(ctx);
+                        }
+                    );
+                }
             );
     }
+
+    /**
+     * Total storage usage of repositories for template.
+     * @param repos Repositories names
+     * @return Usage with {@code files} and {@code bytes} fields, empty if usage is not known
+     */
+    private Single<Optional<Map<String, Long>>> usage(final List<String> repos) {
+        return this.usage.map(
+            storages -> SingleInterop.fromFuture(storages.total(repos)).map(
+                total -> Optional.of(Map.of("files", total.files(), "bytes", total.bytes()))
+            )
+        ).orElseGet(() -> Single.just(Optional.empty()));
+    }
 }
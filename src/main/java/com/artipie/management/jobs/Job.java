@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.jobs;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * Background job with progress.
+ * @since 0.7
+ */
+public final class Job {
+
+    /**
+     * Job id.
+     */
+    private final String ident;
+
+    /**
+     * Job type.
+     */
+    private final String type;
+
+    /**
+     * Job target, e.g. repository name.
+     */
+    private final String target;
+
+    /**
+     * Count of items to process, negative if not known yet.
+     */
+    private final AtomicLong total;
+
+    /**
+     * Count of processed items.
+     */
+    private final AtomicLong done;
+
+    /**
+     * Job status.
+     */
+    private final AtomicReference<Status> state;
+
+    /**
+     * Failure message.
+     */
+    private final AtomicReference<String> error;
+
+    /**
+     * Job completion.
+     */
+    private final CompletableFuture<Job> completion;
+
+    /**
+     * Ctor.
+     * @param id Job id
+     * @param type Job type
+     * @param target Job target
+     */
+    public Job(final String id, final String type, final String target) {
+        this.ident = id;
+        this.type = type;
+        this.target = target;
+        this.total = new AtomicLong(-1L);
+        this.done = new AtomicLong();
+        this.state = new AtomicReference<>(Status.RUNNING);
+        this.error = new AtomicReference<>();
+        this.completion = new CompletableFuture<>();
+    }
+
+    /**
+     * Job id.
+     * @return Id
+     */
+    public String id() {
+        return this.ident;
+    }
+
+    /**
+     * Job status.
+     * @return Status
+     */
+    public Status status() {
+        return this.state.get();
+    }
+
+    /**
+     * Set count of items to process.
+     * @param count Items count
+     */
+    public void total(final long count) {
+        this.total.set(count);
+    }
+
+    /**
+     * Mark one more item as processed.
+     */
+    public void progress() {
+        this.done.incrementAndGet();
+    }
+
+    /**
+     * Mark job as completed.
+     * @param err Failure, null if job succeeded
+     */
+    public void complete(final Throwable err) {
+        if (err == null) {
+            this.state.set(Status.DONE);
+        } else {
+            this.error.set(Optional.ofNullable(err.getCause()).orElse(err).toString());
+            this.state.set(Status.FAILED);
+        }
+        this.completion.complete(this);
+    }
+
+    /**
+     * Job completion, it's completed with the job when job succeeds or fails.
+     * @return Completion
+     */
+    public CompletionStage<Job> finished() {
+        return this.completion.minimalCompletionStage();
+    }
+
+    /**
+     * Job as JSON.
+     * @return JSON object
+     */
+    public JsonObject json() {
+        final JsonObjectBuilder json = Json.createObjectBuilder()
+            .add("id", this.ident)
+            .add("type", this.type)
+            .add("target", this.target)
+            .add("status", this.state.get().name().toLowerCase(Locale.US))
+            .add("done", this.done.get());
+        final long count = this.total.get();
+        if (count >= 0) {
+            json.add("total", count);
+        }
+        final String err = this.error.get();
+        if (err != null) {
+            json.add("error", err);
+        }
+        return json.build();
+    }
+
+    /**
+     * Job status.
+     * @since 0.7
+     */
+    public enum Status {
+        /**
+         * Job is running.
+         */
+        RUNNING,
+
+        /**
+         * Job completed successfully.
+         */
+        DONE,
+
+        /**
+         * Job failed.
+         */
+        FAILED
+    }
+}
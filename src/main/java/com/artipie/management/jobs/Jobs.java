@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.jobs;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Registry of background jobs.
+ * <p>
+ * Jobs are started on executor, so the caller is not blocked even by synchronous storages.
+ * Finished jobs are kept for status requests, the oldest of them are forgotten when there
+ * are more than {@link #MAX} finished jobs.
+ * </p>
+ * @since 0.7
+ */
+public final class Jobs {
+
+    /**
+     * Max count of finished jobs to keep.
+     */
+    private static final int MAX = 1000;
+
+    /**
+     * Jobs executor.
+     */
+    private final Executor exec;
+
+    /**
+     * Jobs by id.
+     */
+    private final ConcurrentMap<String, Job> all;
+
+    /**
+     * Ids of finished jobs, the oldest first.
+     */
+    private final Queue<String> finished;
+
+    /**
+     * Ctor.
+     */
+    public Jobs() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param exec Jobs executor
+     */
+    public Jobs(final Executor exec) {
+        this.exec = exec;
+        this.all = new ConcurrentHashMap<>();
+        this.finished = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Start a job.
+     * @param type Job type
+     * @param target Job target
+     * @param work Job work, it reports progress to the job
+     * @return Started job
+     */
+    public Job start(final String type, final String target,
+        final Function<Job, CompletionStage<Void>> work) {
+        final Job job = new Job(UUID.randomUUID().toString(), type, target);
+        this.all.put(job.id(), job);
+        CompletableFuture.supplyAsync(() -> job, this.exec).thenCompose(work).whenComplete(
+            (nothing, err) -> {
+                job.complete(err);
+                this.finished.add(job.id());
+                while (this.finished.size() > Jobs.MAX) {
+                    this.all.remove(this.finished.poll());
+                }
+            }
+        );
+        return job;
+    }
+
+    /**
+     * Find job by id.
+     * @param id Job id
+     * @return Job if found
+     */
+    public Optional<Job> job(final String id) {
+        return Optional.ofNullable(this.all.get(id));
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.misc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Segment trie of URI path templates.
+ * <p>
+ * Templates are paths like {@code /api/security/users/{name}}, where each segment is
+ * either a literal, a variable in curly braces, which matches one non-empty segment
+ * without `/` and `.` chars, or {@code **} as the last segment, which matches
+ * any (possibly empty) rest of the path after `/`. Literals take precedence over
+ * variables, variables take precedence over {@code **}. Path check with
+ * {@link #matches(String)} doesn't allocate memory.
+ * </p>
+ * @param <T> Value type
+ * @since 0.7
+ */
+public final class PathTrie<T> {
+
+    /**
+     * Path separator.
+     */
+    private static final char SEP = '/';
+
+    /**
+     * Tail template segment.
+     */
+    private static final String TAIL = "**";
+
+    /**
+     * Root node.
+     */
+    private final Node<T> root;
+
+    /**
+     * Trie from templates and values.
+     * @param routes Path templates with values
+     */
+    public PathTrie(final Iterable<? extends Map.Entry<String, T>> routes) {
+        this.root = new Node<>();
+        for (final Map.Entry<String, T> route : routes) {
+            this.root.add(new Route<>(route.getKey(), route.getValue()));
+        }
+    }
+
+    /**
+     * Does path match any template?
+     * @param path URI path
+     * @return True if matches
+     */
+    public boolean matches(final String path) {
+        return this.root.find(path, 0) != null;
+    }
+
+    /**
+     * Match path to template.
+     * @param path URI path
+     * @return Match if path matches any template, empty otherwise
+     */
+    public Optional<Match<T>> match(final String path) {
+        return Optional.ofNullable(this.root.find(path, 0)).map(route -> route.match(path));
+    }
+
+    /**
+     * Path match result.
+     * @param <T> Value type
+     * @since 0.7
+     */
+    public static final class Match<T> {
+
+        /**
+         * Path template.
+         */
+        private final String tmpl;
+
+        /**
+         * Template value.
+         */
+        private final T val;
+
+        /**
+         * Path variables.
+         */
+        private final Map<String, String> pvars;
+
+        /**
+         * Ctor.
+         * @param tmpl Path template
+         * @param val Template value
+         * @param pvars Path variables
+         */
+        Match(final String tmpl, final T val, final Map<String, String> pvars) {
+            this.tmpl = tmpl;
+            this.val = val;
+            this.pvars = pvars;
+        }
+
+        /**
+         * Matched template.
+         * @return Path template
+         */
+        public String template() {
+            return this.tmpl;
+        }
+
+        /**
+         * Value of matched template.
+         * @return Value
+         */
+        public T value() {
+            return this.val;
+        }
+
+        /**
+         * Path variables by names from template.
+         * @return Variables map
+         */
+        public Map<String, String> vars() {
+            return this.pvars;
+        }
+    }
+
+    /**
+     * Path template with value.
+     * @param <T> Value type
+     * @since 0.7
+     */
+    private static final class Route<T> {
+
+        /**
+         * Path template.
+         */
+        private final String template;
+
+        /**
+         * Template segments.
+         */
+        private final String[] segments;
+
+        /**
+         * Value.
+         */
+        private final T value;
+
+        /**
+         * Ctor.
+         * @param template Path template
+         * @param value Value
+         */
+        Route(final String template, final T value) {
+            if (template.isEmpty() || template.charAt(0) != PathTrie.SEP) {
+                throw new IllegalArgumentException(
+                    String.format("Template should start with `/`: '%s'", template)
+                );
+            }
+            this.template = template;
+            this.segments = template.substring(1).split("/", -1);
+            this.value = value;
+        }
+
+        /**
+         * Match this route with path.
+         * @param path Path matching this route
+         * @return Match result
+         */
+        Match<T> match(final String path) {
+            final Map<String, String> vars = new HashMap<>(this.segments.length);
+            int start = 1;
+            for (final String segment : this.segments) {
+                if (PathTrie.TAIL.equals(segment)) {
+                    vars.put(PathTrie.TAIL, path.substring(Math.min(start, path.length())));
+                    break;
+                }
+                final int end = PathTrie.end(path, start);
+                if (Route.variable(segment)) {
+                    vars.put(
+                        segment.substring(1, segment.length() - 1), path.substring(start, end)
+                    );
+                }
+                start = end + 1;
+            }
+            return new Match<>(this.template, this.value, Collections.unmodifiableMap(vars));
+        }
+
+        /**
+         * Is segment a variable?
+         * @param segment Template segment
+         * @return True if variable
+         */
+        static boolean variable(final String segment) {
+            return segment.length() > 2 && segment.charAt(0) == '{'
+                && segment.charAt(segment.length() - 1) == '}';
+        }
+    }
+
+    /**
+     * Trie node.
+     * @param <T> Value type
+     * @since 0.7
+     */
+    private static final class Node<T> {
+
+        /**
+         * Literal segment.
+         */
+        private final String literal;
+
+        /**
+         * Literal children.
+         */
+        private final List<Node<T>> children;
+
+        /**
+         * Variable child.
+         */
+        private Node<T> variable;
+
+        /**
+         * Route ending at this node.
+         */
+        private Route<T> route;
+
+        /**
+         * Route matching the rest of the path after this node.
+         */
+        private Route<T> tail;
+
+        /**
+         * Root node.
+         */
+        Node() {
+            this("");
+        }
+
+        /**
+         * Node with literal segment.
+         * @param literal Segment
+         */
+        Node(final String literal) {
+            this.literal = literal;
+            this.children = new ArrayList<>(1);
+        }
+
+        /**
+         * Add route.
+         * @param route Route
+         */
+        void add(final Route<T> route) {
+            Node<T> node = this;
+            for (int idx = 0; idx < route.segments.length; idx = idx + 1) {
+                final String segment = route.segments[idx];
+                if (PathTrie.TAIL.equals(segment)) {
+                    if (idx != route.segments.length - 1) {
+                        throw new IllegalArgumentException(
+                            String.format("`**` should be the last segment: '%s'", route.template)
+                        );
+                    }
+                    node.tail = Node.unique(node.tail, route);
+                    return;
+                }
+                node = node.child(segment);
+            }
+            node.route = Node.unique(node.route, route);
+        }
+
+        /**
+         * Find route matching path from position.
+         * @param path Path
+         * @param pos Position of `/` before next segment or path length
+         * @return Route or null if not found
+         */
+        Route<T> find(final String path, final int pos) {
+            Route<T> res = null;
+            if (pos >= path.length()) {
+                res = this.route;
+            } else if (path.charAt(pos) == PathTrie.SEP) {
+                final int start = pos + 1;
+                final int end = PathTrie.end(path, start);
+                final int len = end - start;
+                for (final Node<T> child : this.children) {
+                    if (child.literal.length() == len
+                        && path.regionMatches(start, child.literal, 0, len)) {
+                        res = child.find(path, end);
+                        break;
+                    }
+                }
+                if (res == null && this.variable != null && PathTrie.word(path, start, end)) {
+                    res = this.variable.find(path, end);
+                }
+            }
+            if (res == null && pos < path.length()) {
+                res = this.tail;
+            }
+            return res;
+        }
+
+        /**
+         * Child node for template segment.
+         * @param segment Template segment
+         * @return Existing or new child node
+         */
+        private Node<T> child(final String segment) {
+            Node<T> res = null;
+            if (Route.variable(segment)) {
+                if (this.variable == null) {
+                    this.variable = new Node<>();
+                }
+                res = this.variable;
+            } else {
+                for (final Node<T> child : this.children) {
+                    if (child.literal.equals(segment)) {
+                        res = child;
+                        break;
+                    }
+                }
+                if (res == null) {
+                    res = new Node<>(segment);
+                    this.children.add(res);
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Check that route is not defined yet.
+         * @param existing Existing route
+         * @param route New route
+         * @param <T> Value type
+         * @return New route
+         */
+        private static <T> Route<T> unique(final Route<T> existing, final Route<T> route) {
+            if (existing != null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Template '%s' conflicts with '%s'", route.template, existing.template
+                    )
+                );
+            }
+            return route;
+        }
+    }
+
+    /**
+     * End of segment.
+     * @param path Path
+     * @param start Segment start
+     * @return Position of next `/` or path length
+     */
+    private static int end(final String path, final int start) {
+        int end = path.indexOf(PathTrie.SEP, start);
+        if (end < 0) {
+            end = path.length();
+        }
+        return end;
+    }
+
+    /**
+     * Is path segment a non-empty value without `.` chars.
+     * @param path Path
+     * @param start Segment start
+     * @param end Segment end
+     * @return True if segment can be a variable value
+     */
+    private static boolean word(final String path, final int start, final int end) {
+        boolean res = end > start;
+        for (int idx = start; res && idx < end; idx = idx + 1) {
+            res = path.charAt(idx) != '.';
+        }
+        return res;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.misc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing of concurrent loads of the same key.
+ * <p>
+ * First caller of the key starts the load, callers which come while the load is in flight
+ * get the same result, so N concurrent requests cost one load. Nothing is cached: the key
+ * is forgotten as soon as the load completes, successfully or not, next call starts new load.
+ * Loaded value is shared by all callers of the flight, so it should be immutable.
+ * </p>
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 0.7
+ */
+public final class SingleFlight<K, V> {
+
+    /**
+     * Loads in flight by key.
+     */
+    private final ConcurrentMap<K, CompletableFuture<V>> flights;
+
+    /**
+     * Ctor.
+     */
+    public SingleFlight() {
+        this.flights = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Load value of the key or join load in flight.
+     * @param key Key
+     * @param loader Value loader, it's called only if there is no load of the key in flight
+     * @return Value
+     */
+    public CompletionStage<V> load(final K key,
+        final Supplier<? extends CompletionStage<V>> loader) {
+        final CompletableFuture<V> created = new CompletableFuture<>();
+        final CompletableFuture<V> flight = this.flights.putIfAbsent(key, created);
+        final CompletableFuture<V> res;
+        if (flight == null) {
+            res = created;
+            CompletableFuture.<Void>completedFuture(null)
+                .thenCompose(nothing -> loader.get())
+                .whenComplete(
+                    (val, err) -> {
+                        this.flights.remove(key, created);
+                        if (err == null) {
+                            created.complete(val);
+                        } else {
+                            created.completeExceptionally(err);
+                        }
+                    }
+                );
+        } else {
+            res = flight;
+        }
+        return res.minimalCompletionStage();
+    }
+
+    /**
+     * Forget load of the key in flight, so next call starts new load. It should be called
+     * after the value is changed, so callers which come after the change don't get
+     * value loaded before it.
+     * @param key Key
+     */
+    public void forget(final K key) {
+        this.flights.remove(key);
+    }
+}
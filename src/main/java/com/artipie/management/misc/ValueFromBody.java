@@ -4,36 +4,51 @@
  */
 package com.artipie.management.misc;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.apache.http.NameValuePair;
-import org.apache.http.client.utils.URLEncodedUtils;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Receives values from body of response.
+ * <p>
+ * Body is {@code application/x-www-form-urlencoded} form, pairs are separated
+ * with {@code &} or {@code ;}. Body is parsed once on first lookup into values by name,
+ * it's decoded straight from body bytes: names and values which are not encoded are
+ * read without intermediate copies, encoded ones are unescaped into one reusable buffer.
+ * </p>
  * @since 0.5
  */
 public final class ValueFromBody {
+
     /**
-     * Information which was passed in the body.
+     * Body bytes.
      */
-    private final String cpayload;
+    private final ByteBuffer body;
 
     /**
      * Charset of body.
      */
     private final Charset charset;
 
+    /**
+     * Values by name, parsed on first lookup.
+     */
+    private final AtomicReference<Map<String, List<String>>> params;
+
     /**
      * Ctor.
      * @param payload Information which was passed in the body
      * @param charset Charset of body
      */
     public ValueFromBody(final String payload, final Charset charset) {
-        this.cpayload = payload;
-        this.charset = charset;
+        this(ByteBuffer.wrap(payload.getBytes(charset)), charset);
     }
 
     /**
@@ -44,12 +59,31 @@ public final class ValueFromBody {
         this(payload, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Ctor.
+     * @param body Body bytes, buffer is not modified
+     */
+    public ValueFromBody(final ByteBuffer body) {
+        this(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param body Body bytes, buffer is not modified
+     * @param charset Charset of body
+     */
+    public ValueFromBody(final ByteBuffer body, final Charset charset) {
+        this.body = body.duplicate();
+        this.charset = charset;
+        this.params = new AtomicReference<>();
+    }
+
     /**
      * Obtains payload.
      * @return Payload of passed body.
      */
     public String payload() {
-        return this.cpayload;
+        return this.charset.decode(this.body.duplicate()).toString();
     }
 
     /**
@@ -67,20 +101,161 @@ public final class ValueFromBody {
     }
 
     /**
-     * Obtains value from body by name.
+     * Obtains value from body by name, if name is repeated, last value is returned.
      * @param name Key name for obtaining value
      * @return Value by name if this name exists, empty otherwise.
      */
     public Optional<String> byName(final String name) {
-        Optional<String> res = Optional.empty();
-        final List<NameValuePair> params;
-        params = URLEncodedUtils.parse(this.cpayload, this.charset);
-        for (final NameValuePair param : params) {
-            if (param.getName().equals(name)) {
-                res = Optional.of(param.getValue());
-            }
+        final List<String> vals = this.values(name);
+        final Optional<String> res;
+        if (vals.isEmpty()) {
+            res = Optional.empty();
+        } else {
+            res = Optional.of(vals.get(vals.size() - 1));
         }
         return res;
     }
-}
 
+    /**
+     * Obtains all values from body by name.
+     * @param name Key name for obtaining values
+     * @return Values in body order, empty if this name doesn't exist
+     */
+    public List<String> values(final String name) {
+        Map<String, List<String>> parsed = this.params.get();
+        if (parsed == null) {
+            this.params.compareAndSet(null, new Parser(this.body, this.charset).parse());
+            parsed = this.params.get();
+        }
+        return parsed.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Form body parser.
+     * @since 0.7
+     */
+    private static final class Parser {
+
+        /**
+         * Body bytes.
+         */
+        private final ByteBuffer body;
+
+        /**
+         * Charset of body.
+         */
+        private final Charset charset;
+
+        /**
+         * Buffer for unescaped bytes.
+         */
+        private byte[] unescaped;
+
+        /**
+         * Ctor.
+         * @param body Body bytes
+         * @param charset Charset of body
+         */
+        Parser(final ByteBuffer body, final Charset charset) {
+            this.body = body;
+            this.charset = charset;
+            this.unescaped = new byte[0];
+        }
+
+        /**
+         * Parse body.
+         * @return Immutable values by name
+         */
+        Map<String, List<String>> parse() {
+            final Map<String, List<String>> res = new HashMap<>();
+            int start = this.body.position();
+            while (start < this.body.limit()) {
+                int end = start;
+                int delim = -1;
+                while (end < this.body.limit() && !Parser.separator(this.body.get(end))) {
+                    if (delim < 0 && this.body.get(end) == '=') {
+                        delim = end;
+                    }
+                    ++end;
+                }
+                if (end > start) {
+                    final String name;
+                    final String value;
+                    if (delim < 0) {
+                        name = this.decode(start, end);
+                        value = "";
+                    } else {
+                        name = this.decode(start, delim);
+                        value = this.decode(delim + 1, end);
+                    }
+                    res.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+                }
+                start = end + 1;
+            }
+            res.replaceAll((name, vals) -> Collections.unmodifiableList(vals));
+            return Collections.unmodifiableMap(res);
+        }
+
+        /**
+         * Decode name or value: {@code +} is space and {@code %XX} is escaped byte,
+         * invalid escapes are kept as is.
+         * @param start Start index in body, inclusive
+         * @param end End index in body, exclusive
+         * @return Decoded string
+         */
+        private String decode(final int start, final int end) {
+            boolean escaped = false;
+            for (int idx = start; idx < end && !escaped; ++idx) {
+                final byte chr = this.body.get(idx);
+                escaped = chr == '%' || chr == '+';
+            }
+            final String res;
+            if (!escaped && this.body.hasArray()) {
+                res = new String(
+                    this.body.array(), this.body.arrayOffset() + start, end - start, this.charset
+                );
+            } else {
+                if (this.unescaped.length < end - start) {
+                    this.unescaped = new byte[end - start];
+                }
+                int len = 0;
+                int idx = start;
+                while (idx < end) {
+                    final byte chr = this.body.get(idx);
+                    final int high;
+                    final int low;
+                    if (chr == '%' && idx + 2 < end) {
+                        high = Character.digit(this.body.get(idx + 1), 16);
+                        low = Character.digit(this.body.get(idx + 2), 16);
+                    } else {
+                        high = -1;
+                        low = -1;
+                    }
+                    if (high >= 0 && low >= 0) {
+                        this.unescaped[len] = (byte) ((high << 4) + low);
+                        idx += 3;
+                    } else {
+                        if (chr == '+') {
+                            this.unescaped[len] = ' ';
+                        } else {
+                            this.unescaped[len] = chr;
+                        }
+                        ++idx;
+                    }
+                    ++len;
+                }
+                res = new String(this.unescaped, 0, len, this.charset);
+            }
+            return res;
+        }
+
+        /**
+         * Is byte a pairs separator.
+         * @param chr Byte
+         * @return True for {@code &} and {@code ;}
+         */
+        private static boolean separator(final byte chr) {
+            return chr == '&' || chr == ';';
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.management.ConfigFiles;
+import com.artipie.management.misc.SingleFlight;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Config files with coalesced concurrent reads.
+ * <p>
+ * Concurrent reads of the same config file share one read of origin, see
+ * {@link SingleFlight}. Content can be consumed once, so config file bytes are read once
+ * and each caller gets its own content of these bytes. Reads in flight are forgotten after
+ * the config file is saved or deleted via this object.
+ * </p>
+ * @since 0.7
+ */
+public final class CoalescedConfigFiles implements ConfigFiles {
+
+    /**
+     * Origin config files.
+     */
+    private final ConfigFiles origin;
+
+    /**
+     * Existence checks by config name.
+     */
+    private final SingleFlight<String, Boolean> checks;
+
+    /**
+     * Reads by config name.
+     */
+    private final SingleFlight<String, Optional<byte[]>> reads;
+
+    /**
+     * Ctor.
+     * @param origin Origin config files
+     */
+    public CoalescedConfigFiles(final ConfigFiles origin) {
+        this.origin = origin;
+        this.checks = new SingleFlight<>();
+        this.reads = new SingleFlight<>();
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(final Key filename) {
+        return this.checks.load(this.flight(filename), () -> this.origin.exists(filename));
+    }
+
+    @Override
+    public CompletionStage<Content> value(final Key filename) {
+        return this.valueIfExists(filename).thenCompose(
+            content -> content.<CompletionStage<Content>>map(CompletableFuture::completedFuture)
+                .orElseGet(() -> this.origin.value(filename))
+        );
+    }
+
+    @Override
+    public CompletionStage<Optional<Content>> valueIfExists(final Key filename) {
+        return this.reads.load(
+            this.flight(filename),
+            () -> this.origin.valueIfExists(filename).thenCompose(
+                content -> content.map(
+                    val -> new PublisherAs(val).bytes().thenApply(Optional::of)
+                ).orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()))
+            )
+        ).thenApply(bytes -> bytes.map(Content.From::new));
+    }
+
+    @Override
+    public CompletionStage<Void> delete(final Key filename) {
+        return this.origin.delete(filename).thenRun(() -> this.forget(filename));
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.origin.save(key, content).thenRun(() -> this.forget(key));
+    }
+
+    @Override
+    public String name(final Key filename) {
+        return this.origin.name(filename);
+    }
+
+    @Override
+    public Optional<String> extension(final Key filename) {
+        return this.origin.extension(filename);
+    }
+
+    @Override
+    public boolean isYamlOrYml(final Key filename) {
+        return this.origin.isYamlOrYml(filename);
+    }
+
+    /**
+     * Flight key of the config file: files with `yaml`, `yml` or without extension are
+     * the same config file, other files are kept as is.
+     * @param filename Filename
+     * @return Flight key
+     */
+    private String flight(final Key filename) {
+        final String res;
+        if (this.origin.isYamlOrYml(filename) || this.origin.extension(filename).isEmpty()) {
+            res = String.format("%s.yaml", this.origin.name(filename));
+        } else {
+            res = filename.string();
+        }
+        return res;
+    }
+
+    /**
+     * Forget reads of the config file in flight.
+     * @param filename Filename
+     */
+    private void forget(final Key filename) {
+        final String key = this.flight(filename);
+        this.checks.forget(key);
+        this.reads.forget(key);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.artipie.management.RepoPermissions;
+import com.artipie.management.misc.SingleFlight;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Repository permissions with coalesced concurrent reads.
+ * <p>
+ * Concurrent reads of repositories list and of the same repository permissions and
+ * patterns share one read of origin, see {@link SingleFlight}. Callers get unmodifiable
+ * views of shared results. Reads in flight are forgotten after permissions are updated or
+ * removed via this object.
+ * </p>
+ * @since 0.7
+ */
+public final class CoalescedPermissions implements RepoPermissions {
+
+    /**
+     * Origin permissions.
+     */
+    private final RepoPermissions origin;
+
+    /**
+     * Repositories list reads.
+     */
+    private final SingleFlight<Boolean, List<String>> repos;
+
+    /**
+     * Permissions reads by repository name.
+     */
+    private final SingleFlight<String, Collection<PermissionItem>> perms;
+
+    /**
+     * Patterns reads by repository name.
+     */
+    private final SingleFlight<String, Collection<PathPattern>> ptrns;
+
+    /**
+     * Ctor.
+     * @param origin Origin permissions
+     */
+    public CoalescedPermissions(final RepoPermissions origin) {
+        this.origin = origin;
+        this.repos = new SingleFlight<>();
+        this.perms = new SingleFlight<>();
+        this.ptrns = new SingleFlight<>();
+    }
+
+    @Override
+    public CompletionStage<List<String>> repositories() {
+        return this.repos.load(true, this.origin::repositories)
+            .thenApply(Collections::unmodifiableList);
+    }
+
+    @Override
+    public CompletionStage<Void> remove(final String repo) {
+        return this.origin.remove(repo).thenRun(() -> this.forget(repo));
+    }
+
+    @Override
+    public CompletionStage<Void> update(final String repo,
+        final Collection<PermissionItem> permissions,
+        final Collection<PathPattern> patterns) {
+        return this.origin.update(repo, permissions, patterns)
+            .thenRun(() -> this.forget(repo));
+    }
+
+    @Override
+    public CompletionStage<Collection<PermissionItem>> permissions(final String repo) {
+        return this.perms.load(repo, () -> this.origin.permissions(repo))
+            .thenApply(Collections::unmodifiableCollection);
+    }
+
+    @Override
+    public CompletionStage<Collection<PathPattern>> patterns(final String repo) {
+        return this.ptrns.load(repo, () -> this.origin.patterns(repo))
+            .thenApply(Collections::unmodifiableCollection);
+    }
+
+    /**
+     * Forget reads of repository permissions in flight.
+     * @param repo Repository name
+     */
+    private void forget(final String repo) {
+        this.repos.forget(true);
+        this.perms.forget(repo);
+        this.ptrns.forget(repo);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.management.jobs.Job;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletion of repository storage items.
+ * <p>
+ * Items are deleted one by one with bounded concurrency and at most {@code rate} deletions
+ * are started per second, so deletion of large repository doesn't overload the storage.
+ * Progress is reported to the job. Only items listed when deletion starts are deleted:
+ * repository config is removed before deletion, so items added meanwhile belong to new
+ * repository with the same name and must be kept.
+ * </p>
+ * @since 0.7
+ */
+public final class DeleteRepo {
+
+    /**
+     * Default count of items deleted in parallel.
+     */
+    private static final int CONCURRENCY = 16;
+
+    /**
+     * Default max count of deletions per second.
+     */
+    private static final int RATE = 1000;
+
+    /**
+     * Count of items deleted in parallel.
+     */
+    private final int concurrency;
+
+    /**
+     * Max count of deletions per second.
+     */
+    private final int rate;
+
+    /**
+     * Ctor.
+     */
+    public DeleteRepo() {
+        this(DeleteRepo.CONCURRENCY, DeleteRepo.RATE);
+    }
+
+    /**
+     * Ctor.
+     * @param concurrency Count of items deleted in parallel
+     * @param rate Max count of deletions per second
+     */
+    public DeleteRepo(final int concurrency, final int rate) {
+        this.concurrency = concurrency;
+        this.rate = rate;
+    }
+
+    /**
+     * Delete items of the storage listed when deletion starts.
+     * @param storage Repository storage
+     * @param job Job to report progress to
+     * @return Completion
+     */
+    public CompletionStage<Void> delete(final Storage storage, final Job job) {
+        return SingleInterop.fromFuture(storage.list(Key.ROOT))
+            .doOnSuccess(keys -> job.total(keys.size()))
+            .flattenAsFlowable(keys -> keys)
+            .buffer(this.rate)
+            .zipWith(
+                Flowable.interval(0L, 1L, TimeUnit.SECONDS).onBackpressureDrop(),
+                (keys, tick) -> keys
+            )
+            .concatMapIterable(keys -> keys)
+            .flatMapCompletable(
+                key -> CompletableInterop.fromFuture(storage.delete(key))
+                    .doOnComplete(job::progress),
+                false,
+                this.concurrency
+            ).to(CompletableInterop.await());
+    }
+}
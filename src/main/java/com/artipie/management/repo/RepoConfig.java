@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.amihaiemil.eoyaml.YamlMapping;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parsed repository config, projected for API and dashboard.
+ * @since 0.7
+ */
+public final class RepoConfig {
+
+    /**
+     * Config projection for API: repo type, storage alias and permissions.
+     */
+    private final YamlMapping yaml;
+
+    /**
+     * Config projection for dashboard: API projection with repo settings.
+     */
+    private final YamlMapping full;
+
+    /**
+     * Serialized API projection.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Hex SHA-256 of config file content.
+     */
+    private final String sha;
+
+    /**
+     * Ctor.
+     * @param api Config projection for API
+     * @param page Config projection for dashboard
+     * @param hash Hex SHA-256 of config file content
+     */
+    public RepoConfig(final YamlMapping api, final YamlMapping page, final String hash) {
+        this.yaml = api;
+        this.full = page;
+        this.bytes = api.toString().getBytes(StandardCharsets.UTF_8);
+        this.sha = hash;
+    }
+
+    /**
+     * Config projection for API: repo type, storage alias and permissions.
+     * @return Yaml mapping with {@code repo} section
+     */
+    public YamlMapping api() {
+        return this.yaml;
+    }
+
+    /**
+     * Config projection for dashboard: API projection with repo settings.
+     * @return Yaml mapping with {@code repo} section
+     */
+    public YamlMapping page() {
+        return this.full;
+    }
+
+    /**
+     * Serialized API projection in UTF-8.
+     * @return Read-only buffer
+     */
+    public ByteBuffer body() {
+        return ByteBuffer.wrap(this.bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Hex SHA-256 of config file content.
+     * @return Hash
+     */
+    public String hash() {
+        return this.sha;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.amihaiemil.eoyaml.Scalar;
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import com.artipie.asto.Key;
+import com.artipie.asto.ext.Digests;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.management.ConfigFiles;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Cache of parsed repository configs.
+ * <p>
+ * Bounded cache from repository config name (key without extension) to config parsed and
+ * projected for API and dashboard. Config is read and parsed once, concurrent requests of
+ * the same config share one load. Missing configs and failed loads are not cached. Cached
+ * config should be invalidated with {@link #invalidate(Key)} after config file is created,
+ * updated or deleted.
+ * </p>
+ * @since 0.7
+ */
+public final class RepoConfigCache {
+
+    /**
+     * Default cache size.
+     */
+    private static final long SIZE = 1000L;
+
+    /**
+     * Repository section.
+     */
+    private static final String REPO = "repo";
+
+    /**
+     * Storage field.
+     */
+    private static final String STORAGE = "storage";
+
+    /**
+     * Settings field.
+     */
+    private static final String SETTINGS = "settings";
+
+    /**
+     * Config files.
+     */
+    private final ConfigFiles configfile;
+
+    /**
+     * Configs by name.
+     */
+    private final Cache<String, CompletableFuture<Optional<RepoConfig>>> configs;
+
+    /**
+     * Cache with default size.
+     * @param configfile Config files
+     */
+    public RepoConfigCache(final ConfigFiles configfile) {
+        this(configfile, RepoConfigCache.SIZE);
+    }
+
+    /**
+     * Cache.
+     * @param configfile Config files
+     * @param size Max cached configs count, configs are not cached if zero
+     */
+    public RepoConfigCache(final ConfigFiles configfile, final long size) {
+        this.configfile = configfile;
+        this.configs = CacheBuilder.newBuilder().maximumSize(size).build();
+    }
+
+    /**
+     * Repository config.
+     * @param key Config key, with or without extension
+     * @return Config, empty if config file doesn't exist
+     */
+    public CompletionStage<Optional<RepoConfig>> config(final Key key) {
+        final String name = this.configfile.name(key);
+        final CompletableFuture<Optional<RepoConfig>> res;
+        try {
+            res = this.configs.get(name, () -> this.load(name));
+        } catch (final ExecutionException err) {
+            throw new IllegalStateException(err);
+        }
+        res.whenComplete(
+            (config, err) -> {
+                if (err != null || config.isEmpty()) {
+                    this.configs.asMap().remove(name, res);
+                }
+            }
+        );
+        return res.minimalCompletionStage();
+    }
+
+    /**
+     * Invalidate cached config.
+     * @param key Config key, with or without extension
+     */
+    public void invalidate(final Key key) {
+        this.configs.invalidate(this.configfile.name(key));
+    }
+
+    /**
+     * Read and parse config.
+     * @param name Config name
+     * @return Config, empty if config file doesn't exist
+     */
+    private CompletableFuture<Optional<RepoConfig>> load(final String name) {
+        final Key key = new Key.From(String.format("%s.yaml", name));
+        return this.configfile.valueIfExists(key).thenCompose(
+            content -> {
+                final CompletionStage<Optional<RepoConfig>> res;
+                if (content.isPresent()) {
+                    res = new PublisherAs(content.get()).bytes()
+                        .thenApply(bytes -> Optional.of(RepoConfigCache.parse(bytes)));
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        ).toCompletableFuture();
+    }
+
+    /**
+     * Parse and project config.
+     * @param bytes Config file content
+     * @return Config
+     */
+    private static RepoConfig parse(final byte[] bytes) {
+        final YamlMapping repo;
+        try {
+            repo = Yaml.createYamlInput(new String(bytes, StandardCharsets.UTF_8))
+                .readYamlMapping().yamlMapping(RepoConfigCache.REPO);
+        } catch (final IOException err) {
+            throw new UncheckedIOException(err);
+        }
+        YamlMappingBuilder builder = Yaml.createYamlMappingBuilder()
+            .add("type", repo.value("type"));
+        if (repo.value(RepoConfigCache.STORAGE) != null
+            && Scalar.class.isAssignableFrom(repo.value(RepoConfigCache.STORAGE).getClass())) {
+            builder = builder.add(RepoConfigCache.STORAGE, repo.value(RepoConfigCache.STORAGE));
+        }
+        builder = builder.add("permissions", repo.value("permissions"));
+        final YamlMapping api = builder.build();
+        if (repo.value(RepoConfigCache.SETTINGS) != null) {
+            builder = builder.add(RepoConfigCache.SETTINGS, repo.value(RepoConfigCache.SETTINGS));
+        }
+        return new RepoConfig(
+            Yaml.createYamlMappingBuilder().add(RepoConfigCache.REPO, api).build(),
+            Yaml.createYamlMappingBuilder().add(RepoConfigCache.REPO, builder.build()).build(),
+            Hex.encodeHexString(Digests.SHA256.get().digest(bytes))
+        );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous operations which run one after another for the same id.
+ * <p>
+ * Operation starts when previous operation with the same id completes, successfully
+ * or not, operations with different ids run concurrently.
+ * </p>
+ * @since 0.7
+ */
+final class Sequential {
+
+    /**
+     * Last operation by id.
+     */
+    private final ConcurrentMap<String, CompletableFuture<?>> last;
+
+    /**
+     * Ctor.
+     */
+    Sequential() {
+        this.last = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Run operation after previous operation with the same id.
+     * @param id Operation id
+     * @param operation Operation
+     * @param <T> Result type
+     * @return Operation result
+     */
+    <T> CompletableFuture<T> run(final String id,
+        final Supplier<? extends CompletionStage<T>> operation) {
+        final CompletableFuture<T> res = new CompletableFuture<>();
+        final CompletableFuture<?> prev = this.last.put(id, res);
+        final CompletableFuture<?> start;
+        if (prev == null) {
+            start = CompletableFuture.completedFuture(null);
+        } else {
+            start = prev.handle((val, err) -> null);
+        }
+        start.thenCompose(nothing -> operation.get()).whenComplete(
+            (val, err) -> {
+                this.last.remove(id, res);
+                if (err == null) {
+                    res.complete(val);
+                } else {
+                    res.completeExceptionally(err);
+                }
+            }
+        );
+        return res;
+    }
+}
@@ -0,0 +1,484 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.management.Storages;
+import hu.akarnokd.rxjava2.interop.SingleInterop;
+import io.reactivex.Flowable;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.json.Json;
+
+/**
+ * Storage usage of repositories.
+ * <p>
+ * Usage of the repository is computed once by scanning repository storage, metadata of
+ * the items is read with bounded parallelism. Computed totals are kept in memory and
+ * persisted as JSON under {@link #ROOT} key of settings storage, so the scan is not repeated
+ * after restart. Further changes of repository storage are applied to the totals
+ * incrementally with {@link #update(String, Usage)}, see {@link UsageStorages}. Updates of
+ * the same repository are applied one after another. Updated totals are persisted with
+ * delay, all updates of the repository made during the delay are persisted with one write,
+ * so changes of many items, e.g. repository deletion, don't cause a settings write per item.
+ * Changes applied while usage is loaded or scanned are not added to the result of the scan,
+ * which may already include them, the scan is repeated instead.
+ * Use {@link #flush()} to persist pending updates immediately, e.g. on shutdown.
+ * Checksums sidecars under {@link #SIDECARS} key of repository storage are not counted.
+ * </p>
+ * @since 0.7
+ */
+public final class StorageUsage {
+
+    /**
+     * Root key of persisted totals in settings storage.
+     */
+    public static final Key ROOT = new Key.From(".usage");
+
+    /**
+     * Root key of checksums sidecars in repository storage, which are written by
+     * storage API and are not counted.
+     */
+    public static final Key SIDECARS = new Key.From(".checksums");
+
+    /**
+     * Default count of items metadata read in parallel by scan.
+     */
+    private static final int PARALLELISM = 8;
+
+    /**
+     * Default delay of persisting updated totals.
+     */
+    private static final Duration DELAY = Duration.ofSeconds(5);
+
+    /**
+     * Repositories storages.
+     */
+    private final Storages storages;
+
+    /**
+     * Settings storage.
+     */
+    private final Storage settings;
+
+    /**
+     * Count of items metadata read in parallel by scan.
+     */
+    private final int parallelism;
+
+    /**
+     * Totals by repository name.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Usage>> totals;
+
+    /**
+     * Delay of persisting updated totals.
+     */
+    private final Duration delay;
+
+    /**
+     * Names of repositories with updated totals which are not persisted yet.
+     */
+    private final Set<String> pending;
+
+    /**
+     * Writes of persisted totals by repository name.
+     */
+    private final Sequential writes;
+
+    /**
+     * Changes of repositories items by repository name and item key.
+     */
+    private final Sequential items;
+
+    /**
+     * Loads and scans in progress by repository name.
+     */
+    private final ConcurrentMap<String, Scan> scans;
+
+    /**
+     * Ctor.
+     * @param storages Repositories storages
+     * @param settings Settings storage
+     */
+    public StorageUsage(final Storages storages, final Storage settings) {
+        this(storages, settings, StorageUsage.PARALLELISM);
+    }
+
+    /**
+     * Ctor.
+     * @param storages Repositories storages, changes of these storages are not tracked
+     * @param settings Settings storage
+     * @param parallelism Count of items metadata read in parallel by scan
+     */
+    public StorageUsage(final Storages storages, final Storage settings,
+        final int parallelism) {
+        this(storages, settings, parallelism, StorageUsage.DELAY);
+    }
+
+    /**
+     * Ctor.
+     * @param storages Repositories storages, changes of these storages are not tracked
+     * @param settings Settings storage
+     * @param parallelism Count of items metadata read in parallel by scan
+     * @param delay Delay of persisting updated totals
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public StorageUsage(final Storages storages, final Storage settings,
+        final int parallelism, final Duration delay) {
+        this.storages = storages;
+        this.settings = settings;
+        this.parallelism = parallelism;
+        this.totals = new ConcurrentHashMap<>();
+        this.delay = delay;
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.writes = new Sequential();
+        this.items = new Sequential();
+        this.scans = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Usage of the repository.
+     * @param name Repository name
+     * @return Usage
+     */
+    public CompletionStage<Usage> repo(final String name) {
+        return this.tracked(
+            name, this.totals.computeIfAbsent(name, key -> this.load(key, Usage.EMPTY))
+        ).minimalCompletionStage();
+    }
+
+    /**
+     * Total usage of repositories.
+     * @param names Repositories names
+     * @return Sum of repositories usages
+     */
+    public CompletionStage<Usage> total(final Collection<String> names) {
+        return Flowable.fromIterable(names)
+            .concatMapSingle(name -> SingleInterop.fromFuture(this.repo(name)))
+            .reduce(Usage.EMPTY, Usage::plus)
+            .to(SingleInterop.get());
+    }
+
+    /**
+     * Apply change of the repository storage to its usage.
+     * <p>
+     * Change should be applied after storage modification is completed: if usage of the
+     * repository was not computed yet or is being computed, it's computed by scan started
+     * after the change, which already includes it, so the change is ignored.
+     * </p>
+     * @param name Repository name
+     * @param delta Change of usage
+     * @return Usage after change, it's persisted later
+     */
+    public CompletionStage<Usage> update(final String name, final Usage delta) {
+        final CompletableFuture<Usage> res = this.tracked(
+            name,
+            this.totals.compute(
+                name,
+                (key, prev) -> {
+                    final CompletableFuture<Usage> usage;
+                    final Scan scan = this.scans.get(key);
+                    if (prev == null) {
+                        usage = this.load(key, delta);
+                    } else if (scan != null && scan.outdate()) {
+                        usage = prev;
+                    } else {
+                        usage = prev.thenApply(total -> total.plus(delta));
+                    }
+                    return usage;
+                }
+            )
+        );
+        if (this.pending.add(name)) {
+            CompletableFuture.runAsync(
+                () -> this.persist(name),
+                CompletableFuture.delayedExecutor(this.delay.toMillis(), TimeUnit.MILLISECONDS)
+            );
+        }
+        return res.minimalCompletionStage();
+    }
+
+    /**
+     * Persist pending updates of all repositories now.
+     * @return Completion
+     */
+    public CompletionStage<Void> flush() {
+        return CompletableFuture.allOf(
+            this.pending.stream().map(this::persist).toArray(CompletableFuture[]::new)
+        );
+    }
+
+    /**
+     * Forget usage of the repository, it's computed again on next request.
+     * @param name Repository name
+     * @return Completion
+     */
+    public CompletionStage<Void> remove(final String name) {
+        this.totals.remove(name);
+        this.pending.remove(name);
+        final Key key = StorageUsage.key(name);
+        return this.writes.run(
+            name,
+            () -> this.settings.exists(key).thenCompose(
+                exists -> {
+                    final CompletionStage<Void> res;
+                    if (exists) {
+                        res = this.settings.delete(key);
+                    } else {
+                        res = CompletableFuture.allOf();
+                    }
+                    return res;
+                }
+            )
+        );
+    }
+
+    /**
+     * Run change of repository item after other changes of the same item, so
+     * item state check and usage update are atomic.
+     * @param name Repository name
+     * @param key Item key
+     * @param change Change of the item
+     * @param <T> Result type
+     * @return Result of change
+     */
+    <T> CompletableFuture<T> exclusively(final String name, final Key key,
+        final Supplier<? extends CompletionStage<T>> change) {
+        return this.items.run(String.format("%s:%s", name, key.string()), change);
+    }
+
+    /**
+     * Is repository item counted in usage.
+     * @param key Item key
+     * @return False for checksums sidecars
+     */
+    static boolean counted(final Key key) {
+        return !key.string().startsWith(String.format("%s/", StorageUsage.SIDECARS.string()));
+    }
+
+    /**
+     * Persist current total of the repository if it was not removed.
+     * @param name Repository name
+     * @return Completion
+     */
+    private CompletableFuture<Void> persist(final String name) {
+        this.pending.remove(name);
+        return this.writes.run(
+            name,
+            () -> {
+                final CompletableFuture<Usage> current = this.totals.get(name);
+                final CompletionStage<Void> res;
+                if (current == null) {
+                    res = CompletableFuture.allOf();
+                } else {
+                    res = current.thenCompose(usage -> this.save(name, usage))
+                        .<Void>thenApply(usage -> null);
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Load persisted usage and apply change to it or compute usage if it's not persisted
+     * or was changed while loading.
+     * @param name Repository name
+     * @param delta Change of persisted usage
+     * @return Usage
+     */
+    private CompletableFuture<Usage> load(final String name, final Usage delta) {
+        final Scan scan = new Scan();
+        this.scans.put(name, scan);
+        return this.persisted(name).thenCompose(
+            saved -> {
+                final CompletableFuture<Usage> res;
+                if (saved.isPresent() && scan.close()) {
+                    res = CompletableFuture.completedFuture(saved.get().plus(delta));
+                } else {
+                    res = this.scan(name);
+                }
+                return res;
+            }
+        ).whenComplete((usage, err) -> this.scans.remove(name, scan));
+    }
+
+    /**
+     * Compute usage by scanning repository storage and persist it, scan is repeated if
+     * usage was changed while scanning.
+     * @param name Repository name
+     * @return Usage
+     */
+    private CompletableFuture<Usage> scan(final String name) {
+        final Scan scan = new Scan();
+        this.scans.put(name, scan);
+        return this.listed(name).thenCompose(
+            usage -> {
+                final CompletableFuture<Usage> res;
+                if (scan.close()) {
+                    res = this.save(name, usage);
+                } else {
+                    res = this.scan(name);
+                }
+                return res;
+            }
+        ).whenComplete((usage, err) -> this.scans.remove(name, scan));
+    }
+
+    /**
+     * Sum usage of items listed in repository storage.
+     * @param name Repository name
+     * @return Usage
+     */
+    private CompletableFuture<Usage> listed(final String name) {
+        return this.storages.repoStorage(name).thenCompose(
+            storage -> SingleInterop.fromFuture(storage.list(Key.ROOT))
+                .flattenAsFlowable(keys -> keys)
+                .filter(StorageUsage::counted)
+                .flatMapSingle(
+                    key -> SingleInterop.fromFuture(storage.metadata(key)).map(
+                        meta -> new Usage(
+                            1L, meta.read(Meta.OP_SIZE).map(Long::valueOf).orElse(0L)
+                        )
+                    ),
+                    false,
+                    this.parallelism
+                ).reduce(Usage.EMPTY, Usage::plus)
+                .to(SingleInterop.get())
+        ).toCompletableFuture();
+    }
+
+    /**
+     * Read persisted usage.
+     * @param name Repository name
+     * @return Usage if persisted, empty otherwise
+     */
+    private CompletableFuture<Optional<Usage>> persisted(final String name) {
+        final Key key = StorageUsage.key(name);
+        return this.settings.exists(key).thenCompose(
+            exists -> {
+                final CompletionStage<Optional<Usage>> res;
+                if (exists) {
+                    res = this.settings.value(key)
+                        .thenCompose(content -> new PublisherAs(content).asciiString())
+                        .thenApply(
+                            str -> Optional.of(
+                                new Usage(Json.createReader(new StringReader(str)).readObject())
+                            )
+                        );
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Persist usage.
+     * @param name Repository name
+     * @param usage Usage
+     * @return Persisted usage
+     */
+    private CompletableFuture<Usage> save(final String name, final Usage usage) {
+        return this.settings.save(
+            StorageUsage.key(name),
+            new Content.From(usage.json().toString().getBytes(StandardCharsets.UTF_8))
+        ).thenApply(nothing -> usage);
+    }
+
+    /**
+     * Forget failed usage future of the repository, so it's loaded again on next request.
+     * @param name Repository name
+     * @param usage Usage future
+     * @return The same future
+     */
+    private CompletableFuture<Usage> tracked(final String name,
+        final CompletableFuture<Usage> usage) {
+        usage.whenComplete(
+            (res, err) -> {
+                if (err != null) {
+                    this.totals.remove(name, usage);
+                }
+            }
+        );
+        return usage;
+    }
+
+    /**
+     * Key of persisted usage.
+     * @param name Repository name
+     * @return Key in settings storage
+     */
+    private static Key key(final String name) {
+        return new Key.From(StorageUsage.ROOT, new Key.From(String.format("%s.json", name)));
+    }
+
+    /**
+     * Load or scan of repository usage in progress.
+     * @since 0.7
+     */
+    private static final class Scan {
+
+        /**
+         * Scan is running.
+         */
+        private static final int RUNNING = 0;
+
+        /**
+         * Usage was changed while scan was running, scan should be repeated.
+         */
+        private static final int OUTDATED = 1;
+
+        /**
+         * Scan result is final, further changes are applied to it.
+         */
+        private static final int CLOSED = 2;
+
+        /**
+         * Scan state.
+         */
+        private final AtomicInteger state;
+
+        /**
+         * Ctor.
+         */
+        Scan() {
+            this.state = new AtomicInteger(Scan.RUNNING);
+        }
+
+        /**
+         * Mark scan outdated by change of usage, unless its result is final.
+         * @return True if scan will be repeated and includes the change
+         */
+        boolean outdate() {
+            return this.state.compareAndSet(Scan.RUNNING, Scan.OUTDATED)
+                || this.state.get() == Scan.OUTDATED;
+        }
+
+        /**
+         * Make scan result final, unless scan is outdated.
+         * @return True if scan result is final
+         */
+        boolean close() {
+            return this.state.compareAndSet(Scan.RUNNING, Scan.CLOSED);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import java.util.Objects;
+import javax.json.Json;
+import javax.json.JsonObject;
+
+/**
+ * Storage usage: files count and their total size in bytes.
+ * @since 0.7
+ */
+public final class Usage {
+
+    /**
+     * Usage of empty storage.
+     */
+    public static final Usage EMPTY = new Usage(0L, 0L);
+
+    /**
+     * Files count.
+     */
+    private final long count;
+
+    /**
+     * Total size in bytes.
+     */
+    private final long size;
+
+    /**
+     * Usage from JSON object with {@code files} and {@code bytes} fields.
+     * @param json JSON object
+     */
+    public Usage(final JsonObject json) {
+        this(json.getJsonNumber("files").longValue(), json.getJsonNumber("bytes").longValue());
+    }
+
+    /**
+     * Ctor.
+     * @param files Files count
+     * @param bytes Total size in bytes
+     */
+    public Usage(final long files, final long bytes) {
+        this.count = files;
+        this.size = bytes;
+    }
+
+    /**
+     * Files count.
+     * @return Count
+     */
+    public long files() {
+        return this.count;
+    }
+
+    /**
+     * Total size of files.
+     * @return Size in bytes
+     */
+    public long bytes() {
+        return this.size;
+    }
+
+    /**
+     * Sum of usages.
+     * @param other Other usage, may be negative to subtract
+     * @return Sum
+     */
+    public Usage plus(final Usage other) {
+        return new Usage(this.count + other.count, this.size + other.size);
+    }
+
+    /**
+     * Usage as JSON object with {@code files} and {@code bytes} fields.
+     * @return JSON object
+     */
+    public JsonObject json() {
+        return Json.createObjectBuilder()
+            .add("files", this.count)
+            .add("bytes", this.size)
+            .build();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        final boolean res;
+        if (this == other) {
+            res = true;
+        } else if (other == null || this.getClass() != other.getClass()) {
+            res = false;
+        } else {
+            final Usage usage = (Usage) other;
+            res = this.count == usage.count && this.size == usage.size;
+        }
+        return res;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.count, this.size);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d files, %d bytes", this.count, this.size);
+    }
+}
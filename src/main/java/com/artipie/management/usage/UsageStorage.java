@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Repository storage which reports its changes to {@link StorageUsage}.
+ * <p>
+ * Size of the item is read from metadata before it's overwritten, moved over or deleted,
+ * usage is updated after storage operation completes. Changes of the same item run one after
+ * another, so concurrent saves of new item count it once. Deletion of the whole storage drops
+ * repository usage. Checksums sidecars are saved, moved and deleted without usage updates.
+ * </p>
+ * @since 0.7
+ */
+final class UsageStorage implements Storage {
+
+    /**
+     * Origin storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Repository name.
+     */
+    private final String name;
+
+    /**
+     * Storage usage.
+     */
+    private final StorageUsage usage;
+
+    /**
+     * Ctor.
+     * @param origin Origin storage
+     * @param name Repository name
+     * @param usage Storage usage
+     */
+    UsageStorage(final Storage origin, final String name, final StorageUsage usage) {
+        this.origin = origin;
+        this.name = name;
+        this.usage = usage;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Key key) {
+        return this.origin.exists(key);
+    }
+
+    @Override
+    public CompletableFuture<Collection<Key>> list(final Key prefix) {
+        return this.origin.list(prefix);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(final Key key, final Content content) {
+        return this.tracked(
+            key,
+            () -> this.origin.save(key, content),
+            () -> this.known(key).thenCompose(
+                prev -> this.origin.save(key, content).thenCompose(
+                    nothing -> content.size().map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> this.known(key).thenApply(size -> size.orElse(0L)))
+                ).thenCompose(
+                    size -> this.update(
+                        new Usage(prev.isPresent() ? 0L : 1L, size - prev.orElse(0L))
+                    )
+                )
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> move(final Key source, final Key destination) {
+        return this.tracked(
+            destination,
+            () -> this.origin.move(source, destination),
+            () -> this.known(destination).thenCompose(
+                prev -> this.origin.move(source, destination).thenCompose(
+                    nothing -> this.removed(prev)
+                )
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<? extends Meta> metadata(final Key key) {
+        return this.origin.metadata(key);
+    }
+
+    @Override
+    public CompletableFuture<Content> value(final Key key) {
+        return this.origin.value(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(final Key key) {
+        return this.tracked(
+            key,
+            () -> this.origin.delete(key),
+            () -> this.known(key).thenCompose(
+                prev -> this.origin.delete(key).thenCompose(nothing -> this.removed(prev))
+            )
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(final Key prefix) {
+        final CompletableFuture<Void> res;
+        if (prefix.string().isEmpty()) {
+            res = this.origin.deleteAll(prefix).thenCompose(
+                nothing -> this.usage.remove(this.name).toCompletableFuture()
+            );
+        } else {
+            res = Storage.super.deleteAll(prefix);
+        }
+        return res;
+    }
+
+    @Override
+    public <T> CompletionStage<T> exclusively(final Key key,
+        final Function<Storage, CompletionStage<T>> operation) {
+        return this.origin.exclusively(
+            key, storage -> operation.apply(new UsageStorage(storage, this.name, this.usage))
+        );
+    }
+
+    /**
+     * Run change of the item with usage update exclusively for the item, or without
+     * usage update if the item is not counted.
+     * @param key Item key
+     * @param plain Change without usage update
+     * @param counted Change with usage update
+     * @return Completion
+     */
+    private CompletableFuture<Void> tracked(final Key key,
+        final Supplier<CompletableFuture<Void>> plain,
+        final Supplier<CompletableFuture<Void>> counted) {
+        final CompletableFuture<Void> res;
+        if (StorageUsage.counted(key)) {
+            res = this.usage.exclusively(this.name, key, counted);
+        } else {
+            res = plain.get();
+        }
+        return res;
+    }
+
+    /**
+     * Size of the item if it exists.
+     * @param key Item key
+     * @return Size, empty if item doesn't exist
+     */
+    private CompletableFuture<Optional<Long>> known(final Key key) {
+        return this.origin.exists(key).thenCompose(
+            exists -> {
+                final CompletableFuture<Optional<Long>> res;
+                if (exists) {
+                    res = this.origin.metadata(key).thenApply(
+                        meta -> Optional.of(
+                            meta.read(Meta.OP_SIZE).map(Long::valueOf).orElse(0L)
+                        )
+                    );
+                } else {
+                    res = CompletableFuture.completedFuture(Optional.empty());
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Update usage with removed item.
+     * @param size Size of removed item, empty if there was no item
+     * @return Completion
+     */
+    private CompletableFuture<Void> removed(final Optional<Long> size) {
+        return size.map(bytes -> this.update(new Usage(-1L, -bytes)))
+            .orElseGet(() -> CompletableFuture.allOf());
+    }
+
+    /**
+     * Update usage of the repository.
+     * @param delta Change of usage
+     * @return Completion
+     */
+    private CompletableFuture<Void> update(final Usage delta) {
+        return this.usage.update(this.name, delta).<Void>thenApply(usage -> null)
+            .toCompletableFuture();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import com.artipie.asto.Storage;
+import com.artipie.management.Storages;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Storages which report changes of repositories storages to {@link StorageUsage}.
+ * <p>
+ * Pass origin storages to {@link StorageUsage} and use this decorator for everything that
+ * modifies repositories, so usage is updated on each save, move and delete. Repository name
+ * may be given as repository config file name, {@code .yaml} or {@code .yml} extension is
+ * dropped from it.
+ * </p>
+ * @since 0.7
+ */
+public final class UsageStorages implements Storages {
+
+    /**
+     * Origin storages.
+     */
+    private final Storages origin;
+
+    /**
+     * Storage usage.
+     */
+    private final StorageUsage usage;
+
+    /**
+     * Ctor.
+     * @param origin Origin storages
+     * @param usage Storage usage
+     */
+    public UsageStorages(final Storages origin, final StorageUsage usage) {
+        this.origin = origin;
+        this.usage = usage;
+    }
+
+    @Override
+    public CompletionStage<Storage> repoStorage(final String name) {
+        return this.origin.repoStorage(name).thenApply(
+            storage -> new UsageStorage(
+                storage, name.replaceAll("\\.ya?ml$", ""), this.usage
+            )
+        );
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.users;
+
+import com.artipie.asto.ext.Digests;
+import com.artipie.http.auth.Authentication;
+import com.artipie.management.Users;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Users with cached credentials verification.
+ * <p>
+ * Successful authentications are cached by salted SHA-256 digest of user name and
+ * password for a short time, cached entries of the user are invalidated when user
+ * is added (password changed) or removed via this object. Each entry is stamped with
+ * generation of invalidations taken when origin authentication was obtained, entries
+ * older than the last invalidation of the user are ignored, so authentications obtained
+ * before invalidation are not cached.
+ * </p>
+ * @since 0.7
+ */
+public final class CachedAuthUsers implements Users {
+
+    /**
+     * Default cache size.
+     */
+    private static final long SIZE = 1000L;
+
+    /**
+     * Default time to live of cached authentication.
+     */
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    /**
+     * Origin users.
+     */
+    private final Users origin;
+
+    /**
+     * Authenticated users by credentials digest.
+     */
+    private final Cache<String, Entry> cache;
+
+    /**
+     * Digest salt.
+     */
+    private final byte[] salt;
+
+    /**
+     * Invalidations counter, current generation of cached entries.
+     */
+    private final AtomicLong invalidations;
+
+    /**
+     * Generation of the last invalidation by user name.
+     */
+    private final ConcurrentMap<String, Long> invalidated;
+
+    /**
+     * Users with cached authentication with default size and TTL.
+     * @param origin Origin users
+     */
+    public CachedAuthUsers(final Users origin) {
+        this(origin, CachedAuthUsers.SIZE, CachedAuthUsers.TTL);
+    }
+
+    /**
+     * Users with cached authentication.
+     * @param origin Origin users
+     * @param size Max cached authentications count
+     * @param ttl Time to live of cached authentication
+     */
+    public CachedAuthUsers(final Users origin, final long size, final Duration ttl) {
+        this.origin = origin;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(size)
+            .expireAfterWrite(ttl)
+            .build();
+        this.salt = new byte[16];
+        new SecureRandom().nextBytes(this.salt);
+        this.invalidations = new AtomicLong();
+        this.invalidated = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public CompletionStage<List<User>> list() {
+        return this.origin.list();
+    }
+
+    @Override
+    public CompletionStage<Optional<User>> get(final String name) {
+        return this.origin.get(name);
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(final String name) {
+        return this.origin.exists(name);
+    }
+
+    @Override
+    public CompletionStage<List<User>> find(final Query query) {
+        return this.origin.find(query);
+    }
+
+    @Override
+    public CompletionStage<Void> add(final User user, final String pswd,
+        final PasswordFormat format) {
+        return this.origin.add(user, pswd, format)
+            .thenRun(() -> this.invalidate(user.name()));
+    }
+
+    @Override
+    public CompletionStage<Void> remove(final String username) {
+        return this.origin.remove(username)
+            .thenRun(() -> this.invalidate(username));
+    }
+
+    @Override
+    public CompletionStage<Authentication> auth() {
+        final long generation = this.invalidations.get();
+        return this.origin.auth().thenApply(
+            auth -> new CachedAuthentication(auth, generation)
+        );
+    }
+
+    /**
+     * Invalidate cached authentications of user.
+     * @param name User name
+     */
+    private void invalidate(final String name) {
+        this.invalidated.put(name, this.invalidations.incrementAndGet());
+        this.cache.asMap().values().removeIf(entry -> entry.user.name().equals(name));
+    }
+
+    /**
+     * Is entry of the generation not older than the last invalidation of the user.
+     * @param user User
+     * @param generation Entry generation
+     * @return True if entry is valid
+     */
+    private boolean valid(final Authentication.User user, final long generation) {
+        return generation >= this.invalidated.getOrDefault(user.name(), 0L);
+    }
+
+    /**
+     * Salted credentials digest.
+     * @param name User name
+     * @param pswd Password
+     * @return Hex digest
+     */
+    private String digest(final String name, final String pswd) {
+        final MessageDigest sha = Digests.SHA256.get();
+        sha.update(this.salt);
+        sha.update(name.getBytes(StandardCharsets.UTF_8));
+        sha.update((byte) 0);
+        sha.update(pswd.getBytes(StandardCharsets.UTF_8));
+        return Hex.encodeHexString(sha.digest());
+    }
+
+    /**
+     * Authentication with results cache.
+     * @since 0.7
+     */
+    private final class CachedAuthentication implements Authentication {
+
+        /**
+         * Origin authentication.
+         */
+        private final Authentication auth;
+
+        /**
+         * Generation of invalidations when origin authentication was obtained.
+         */
+        private final long generation;
+
+        /**
+         * Ctor.
+         * @param auth Origin authentication
+         * @param generation Generation of invalidations when origin authentication
+         *  was obtained
+         */
+        CachedAuthentication(final Authentication auth, final long generation) {
+            this.auth = auth;
+            this.generation = generation;
+        }
+
+        @Override
+        public Optional<Authentication.User> user(final String name, final String pswd) {
+            final String key = CachedAuthUsers.this.digest(name, pswd);
+            Optional<Authentication.User> res = Optional.ofNullable(
+                CachedAuthUsers.this.cache.getIfPresent(key)
+            ).filter(entry -> CachedAuthUsers.this.valid(entry.user, entry.generation))
+                .map(entry -> entry.user);
+            if (res.isEmpty()) {
+                res = this.auth.user(name, pswd);
+                if (res.isPresent() && CachedAuthUsers.this.valid(res.get(), this.generation)) {
+                    CachedAuthUsers.this.cache.put(key, new Entry(res.get(), this.generation));
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Cached authentication.
+     * @since 0.7
+     */
+    private static final class Entry {
+
+        /**
+         * Authenticated user.
+         */
+        private final Authentication.User user;
+
+        /**
+         * Generation of invalidations when origin authentication was obtained.
+         */
+        private final long generation;
+
+        /**
+         * Ctor.
+         * @param user Authenticated user
+         * @param generation Generation of invalidations when origin authentication
+         *  was obtained
+         */
+        Entry(final Authentication.User user, final long generation) {
+            this.user = user;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.users;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.management.Users;
+import com.artipie.management.misc.SingleFlight;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Users with coalesced concurrent reads.
+ * <p>
+ * Concurrent reads of users list and of the same user share one read of origin, see
+ * {@link SingleFlight}. Callers of the list get unmodifiable view of shared list. Reads in
+ * flight are forgotten after user is added or removed via this object.
+ * </p>
+ * @since 0.7
+ */
+public final class CoalescedUsers implements Users {
+
+    /**
+     * Origin users.
+     */
+    private final Users origin;
+
+    /**
+     * Users list reads.
+     */
+    private final SingleFlight<Boolean, List<User>> all;
+
+    /**
+     * User reads by name.
+     */
+    private final SingleFlight<String, Optional<User>> users;
+
+    /**
+     * Ctor.
+     * @param origin Origin users
+     */
+    public CoalescedUsers(final Users origin) {
+        this.origin = origin;
+        this.all = new SingleFlight<>();
+        this.users = new SingleFlight<>();
+    }
+
+    @Override
+    public CompletionStage<List<User>> list() {
+        return this.all.load(true, this.origin::list).thenApply(Collections::unmodifiableList);
+    }
+
+    @Override
+    public CompletionStage<Optional<User>> get(final String name) {
+        return this.users.load(name, () -> this.origin.get(name));
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(final String name) {
+        return this.get(name).thenApply(Optional::isPresent);
+    }
+
+    @Override
+    public CompletionStage<List<User>> find(final Query query) {
+        return this.origin.find(query);
+    }
+
+    @Override
+    public CompletionStage<Void> add(final User user, final String pswd,
+        final PasswordFormat format) {
+        return this.origin.add(user, pswd, format).thenRun(() -> this.forget(user.name()));
+    }
+
+    @Override
+    public CompletionStage<Void> remove(final String username) {
+        return this.origin.remove(username).thenRun(() -> this.forget(username));
+    }
+
+    @Override
+    public CompletionStage<Authentication> auth() {
+        return this.origin.auth();
+    }
+
+    /**
+     * Forget reads of the user in flight.
+     * @param name User name
+     */
+    private void forget(final String name) {
+        this.all.forget(true);
+        this.users.forget(name);
+    }
+}
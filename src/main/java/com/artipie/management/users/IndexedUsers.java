@@ -0,0 +1,275 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.users;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.management.Users;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Users registry with in-memory indexes.
+ * <p>
+ * Users are loaded from origin once into immutable snapshot indexed by name, group
+ * and email. Reads are served from current snapshot and never touch origin. After
+ * origin confirms {@code add} or {@code remove}, new snapshot is built from current
+ * one and published atomically, so readers never block and never see partial updates.
+ * {@link #list()} returns users sorted by name.
+ * </p>
+ * @since 0.7
+ */
+public final class IndexedUsers implements Users {
+
+    /**
+     * Origin users.
+     */
+    private final Users origin;
+
+    /**
+     * Current snapshot, null if not loaded yet.
+     */
+    private final AtomicReference<CompletableFuture<Snapshot>> current;
+
+    /**
+     * Ctor.
+     * @param origin Origin users
+     */
+    public IndexedUsers(final Users origin) {
+        this.origin = origin;
+        this.current = new AtomicReference<>();
+    }
+
+    @Override
+    public CompletionStage<List<User>> list() {
+        return this.snapshot().thenApply(snap -> snap.all);
+    }
+
+    @Override
+    public CompletionStage<Optional<User>> get(final String name) {
+        return this.snapshot().thenApply(snap -> Optional.ofNullable(snap.names.get(name)));
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(final String name) {
+        return this.snapshot().thenApply(snap -> snap.names.containsKey(name));
+    }
+
+    /**
+     * Users of the group.
+     * @param group Group name
+     * @return Users sorted by name
+     */
+    public CompletionStage<List<User>> group(final String group) {
+        return this.snapshot().thenApply(
+            snap -> List.copyOf(
+                snap.groups.getOrDefault(group, Collections.emptyNavigableMap()).values()
+            )
+        );
+    }
+
+    @Override
+    public CompletionStage<List<User>> find(final Query query) {
+        return this.snapshot().thenApply(
+            snap -> IndexedUsers.page(
+                query.group().map(
+                    group -> snap.groups.getOrDefault(group, Collections.emptyNavigableMap())
+                ).orElse(snap.names),
+                query
+            )
+        );
+    }
+
+    /**
+     * Find user by email, email is compared ignoring case.
+     * @param email Email
+     * @return User if found, empty otherwise
+     */
+    public CompletionStage<Optional<User>> byEmail(final String email) {
+        return this.snapshot().thenApply(
+            snap -> Optional.ofNullable(snap.emails.get(email.toLowerCase(Locale.ROOT)))
+        );
+    }
+
+    @Override
+    public CompletionStage<Void> add(final User user, final String pswd,
+        final PasswordFormat format) {
+        return this.origin.add(user, pswd, format).thenCompose(
+            nothing -> this.publish(
+                names -> {
+                    names.put(user.name(), user);
+                    return names;
+                }
+            )
+        );
+    }
+
+    @Override
+    public CompletionStage<Void> remove(final String username) {
+        return this.origin.remove(username).thenCompose(
+            nothing -> this.publish(
+                names -> {
+                    names.remove(username);
+                    return names;
+                }
+            )
+        );
+    }
+
+    @Override
+    public CompletionStage<Authentication> auth() {
+        return this.origin.auth();
+    }
+
+    /**
+     * Current snapshot, loads users from origin on first call.
+     * @return Snapshot
+     */
+    private CompletableFuture<Snapshot> snapshot() {
+        CompletableFuture<Snapshot> snap = this.current.get();
+        if (snap == null) {
+            final CompletableFuture<Snapshot> load = new CompletableFuture<>();
+            if (this.current.compareAndSet(null, load)) {
+                this.origin.list().whenComplete(
+                    (users, err) -> {
+                        if (err == null) {
+                            load.complete(Snapshot.of(users));
+                        } else {
+                            this.current.compareAndSet(load, null);
+                            load.completeExceptionally(err);
+                        }
+                    }
+                );
+                snap = load;
+            } else {
+                snap = this.snapshot();
+            }
+        }
+        return snap;
+    }
+
+    /**
+     * Publish new snapshot with updated users.
+     * @param update Users by name update, it receives mutable copy of current users
+     * @return Completion action
+     */
+    private CompletionStage<Void> publish(final UnaryOperator<Map<String, User>> update) {
+        return this.snapshot().thenAccept(
+            ignored -> this.current.updateAndGet(
+                prev -> prev.thenApply(
+                    snap -> Snapshot.of(update.apply(new TreeMap<>(snap.names)).values())
+                )
+            )
+        );
+    }
+
+    /**
+     * Page of users from sorted index, iteration starts from query cursor or prefix,
+     * whichever is greater, and stops after the last user with query prefix.
+     * @param index Users by name
+     * @param query Query
+     * @return Users page
+     */
+    private static List<User> page(final NavigableMap<String, User> index,
+        final Query query) {
+        final String prefix = query.prefix().orElse("");
+        final NavigableMap<String, User> tail;
+        if (query.after().isPresent() && query.after().get().compareTo(prefix) >= 0) {
+            tail = index.tailMap(query.after().get(), false);
+        } else {
+            tail = index.tailMap(prefix, true);
+        }
+        final List<User> res = new ArrayList<>(Math.min(query.limit(), tail.size()));
+        for (final User user : tail.values()) {
+            if (res.size() >= query.limit() || !user.name().startsWith(prefix)) {
+                break;
+            }
+            res.add(user);
+        }
+        return res;
+    }
+
+    /**
+     * Immutable snapshot of users with indexes.
+     * @since 0.7
+     */
+    private static final class Snapshot {
+
+        /**
+         * Users sorted by name.
+         */
+        private final List<User> all;
+
+        /**
+         * Users by name.
+         */
+        private final NavigableMap<String, User> names;
+
+        /**
+         * Users by group.
+         */
+        private final Map<String, NavigableMap<String, User>> groups;
+
+        /**
+         * Users by lower case email.
+         */
+        private final Map<String, User> emails;
+
+        /**
+         * Ctor.
+         * @param names Users by name
+         * @param groups Users by group
+         * @param emails Users by lower case email
+         */
+        Snapshot(final NavigableMap<String, User> names,
+            final Map<String, NavigableMap<String, User>> groups,
+            final Map<String, User> emails) {
+            this.all = List.copyOf(names.values());
+            this.names = names;
+            this.groups = groups;
+            this.emails = emails;
+        }
+
+        /**
+         * Build snapshot from users.
+         * @param users Users
+         * @return Snapshot
+         */
+        static Snapshot of(final Collection<User> users) {
+            final NavigableMap<String, User> names = new TreeMap<>();
+            for (final User user : users) {
+                names.put(user.name(), user);
+            }
+            final Map<String, NavigableMap<String, User>> groups = new HashMap<>();
+            final Map<String, User> emails = new HashMap<>();
+            for (final User user : names.values()) {
+                for (final String group : user.groups()) {
+                    groups.computeIfAbsent(group, key -> new TreeMap<>())
+                        .put(user.name(), user);
+                }
+                user.email().ifPresent(
+                    email -> emails.put(email.toLowerCase(Locale.ROOT), user)
+                );
+            }
+            groups.replaceAll((group, map) -> Collections.unmodifiableNavigableMap(map));
+            return new Snapshot(
+                Collections.unmodifiableNavigableMap(names),
+                Collections.unmodifiableMap(groups),
+                Collections.unmodifiableMap(emails)
+            );
+        }
+    }
+}
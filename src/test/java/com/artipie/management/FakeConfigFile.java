@@ -7,8 +7,10 @@ package com.artipie.management;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ValueNotFoundException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -87,6 +89,21 @@ public final class FakeConfigFile implements ConfigFiles {
             );
     }
 
+    @Override
+    public CompletionStage<Optional<Content>> valueIfExists(final Key filename) {
+        final CompletionStage<Optional<Content>> res;
+        if (this.isYamlOrYml(filename) || this.extension(filename).isEmpty()) {
+            final String name = this.name(filename);
+            res = this.optional(new Key.From(String.format("%s.yaml", name))).thenCombine(
+                this.optional(new Key.From(String.format("%s.yml", name))),
+                (yaml, yml) -> yaml.or(() -> yml)
+            );
+        } else {
+            res = CompletableFuture.completedFuture(Optional.empty());
+        }
+        return res;
+    }
+
     @Override
     public CompletionStage<Void> delete(final Key filename) {
         final String name = this.name(filename);
@@ -133,6 +150,23 @@ public final class FakeConfigFile implements ConfigFiles {
         return PTN_YAML.matcher(filename.string()).matches();
     }
 
+    /**
+     * Storage value, empty if value doesn't exist.
+     * @param key Key
+     * @return Value
+     */
+    private CompletionStage<Optional<Content>> optional(final Key key) {
+        return this.storage.value(key).thenApply(Optional::of).exceptionally(
+            err -> {
+                final Throwable cause = Optional.ofNullable(err.getCause()).orElse(err);
+                if (cause instanceof ValueNotFoundException) {
+                    return Optional.empty();
+                }
+                throw new CompletionException(cause);
+            }
+        );
+    }
+
     /**
      * Matcher.
      * @param group Matcher group name
@@ -5,17 +5,19 @@
 package com.artipie.management;
 
 import com.artipie.http.auth.Authentication;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.apache.commons.lang3.NotImplementedException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.cactoos.map.MapEntry;
 
 /**
  * Fake {@link Users} implementation.
@@ -24,16 +26,23 @@ import org.apache.commons.lang3.NotImplementedException;
 public final class FakeUsers implements Users {
 
     /**
-     * Users.
+     * Users and passwords by user name.
      */
-    private final Map<User, Password> users;
+    private final Map<String, Map.Entry<User, Password>> users;
 
     /**
      * Primary ctor.
      * @param users Users and passwords
      */
     public FakeUsers(final Map<User, Password> users) {
-        this.users = users;
+        this.users = users.entrySet().stream().collect(
+            Collectors.toMap(
+                entry -> entry.getKey().name(),
+                entry -> new MapEntry<>(entry.getKey(), entry.getValue()),
+                (first, second) -> second,
+                LinkedHashMap::new
+            )
+        );
     }
 
     /**
@@ -48,7 +57,14 @@ public final class FakeUsers implements Users {
      * @param usrs Users
      */
     public FakeUsers(final Users.User... usrs) {
-        this(Stream.of(usrs).collect(Collectors.toMap(user -> user, ignored -> new Password())));
+        this(
+            Stream.of(usrs).collect(
+                Collectors.toMap(
+                    user -> user, ignored -> new Password(), (first, second) -> second,
+                    LinkedHashMap::new
+                )
+            )
+        );
     }
 
     /**
@@ -56,31 +72,48 @@ public final class FakeUsers implements Users {
      * @param names User names
      */
     public FakeUsers(final String... names) {
-        this(Stream.of(names).collect(Collectors.toMap(User::new, ignored -> new Password())));
+        this(Stream.of(names).map(User::new).toArray(User[]::new));
     }
 
     @Override
     public CompletionStage<List<User>> list() {
-        return CompletableFuture.completedFuture(new ArrayList<>(this.users.keySet()));
+        return CompletableFuture.completedFuture(
+            this.users.values().stream().map(Map.Entry::getKey).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public CompletionStage<Optional<User>> get(final String name) {
+        return CompletableFuture.completedFuture(
+            Optional.ofNullable(this.users.get(name)).map(Map.Entry::getKey)
+        );
+    }
+
+    @Override
+    public CompletionStage<Boolean> exists(final String name) {
+        return CompletableFuture.completedFuture(this.users.containsKey(name));
     }
 
     @Override
     public CompletionStage<Void> add(final User user, final String pswd,
         final PasswordFormat format) {
-        this.users.put(user, new Password(pswd, format));
+        this.users.put(user.name(), new MapEntry<>(user, new Password(pswd, format)));
         return CompletableFuture.allOf();
     }
 
     @Override
     public CompletionStage<Void> remove(final String username) {
-        this.users.keySet().stream().filter(user -> user.name().equals(username))
-            .findFirst().ifPresent(this.users::remove);
+        this.users.remove(username);
         return CompletableFuture.allOf();
     }
 
     @Override
     public CompletionStage<Authentication> auth() {
-        throw new NotImplementedException("Not implemented");
+        return CompletableFuture.completedFuture(
+            (name, pswd) -> Optional.ofNullable(this.users.get(name))
+                .filter(entry -> entry.getValue().matches(pswd))
+                .map(entry -> new Authentication.User(name))
+        );
     }
 
     /**
@@ -90,8 +123,7 @@ public final class FakeUsers implements Users {
      * @throws NoSuchElementException If user with given name is not found
      */
     public Password pswd(final String name) {
-        return this.users.keySet().stream().filter(user -> user.name().equals(name))
-            .findFirst().map(this.users::get).orElseThrow();
+        return Optional.ofNullable(this.users.get(name)).map(Map.Entry::getValue).orElseThrow();
     }
 
     /**
@@ -101,8 +133,7 @@ public final class FakeUsers implements Users {
      * @throws NoSuchElementException If user with given name is not found
      */
     public Users.User user(final String name) {
-        return this.users.keySet().stream().filter(user -> user.name().equals(name))
-            .findFirst().orElseThrow();
+        return Optional.ofNullable(this.users.get(name)).map(Map.Entry::getKey).orElseThrow();
     }
 
     /**
@@ -138,6 +169,21 @@ public final class FakeUsers implements Users {
             this("123", PasswordFormat.PLAIN);
         }
 
+        /**
+         * Does this password match given plain password?
+         * @param plain Plain password
+         * @return True if matches
+         */
+        public boolean matches(final String plain) {
+            final boolean res;
+            if (this.frmt == PasswordFormat.SHA256) {
+                res = this.value.equals(DigestUtils.sha256Hex(plain));
+            } else {
+                res = this.value.equals(plain);
+            }
+            return res;
+        }
+
         @Override
         public boolean equals(final Object another) {
             final boolean res;
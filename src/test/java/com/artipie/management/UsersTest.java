@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management;
+
+import com.artipie.http.auth.Authentication;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Users} default methods.
+ * @since 0.7
+ */
+final class UsersTest {
+
+    @Test
+    void findsUserInList() {
+        final Users.User bob = new Users.User("bob", Optional.of("bob@example.com"));
+        MatcherAssert.assertThat(
+            new ListOnly(new Users.User("alice"), bob).get("bob")
+                .toCompletableFuture().join(),
+            new IsEqual<>(Optional.of(bob))
+        );
+    }
+
+    @Test
+    void checksUserExists() {
+        final Users users = new ListOnly(new Users.User("carol"));
+        MatcherAssert.assertThat(
+            "Finds existing user",
+            users.exists("carol").toCompletableFuture().join(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Doesn't find absent user",
+            users.exists("dave").toCompletableFuture().join(),
+            new IsEqual<>(false)
+        );
+    }
+
+    /**
+     * Users which implement list only.
+     * @since 0.7
+     */
+    private static final class ListOnly implements Users {
+
+        /**
+         * Users.
+         */
+        private final List<User> users;
+
+        /**
+         * Ctor.
+         * @param users Users
+         */
+        ListOnly(final User... users) {
+            this.users = List.of(users);
+        }
+
+        @Override
+        public CompletionStage<List<User>> list() {
+            return CompletableFuture.completedFuture(this.users);
+        }
+
+        @Override
+        public CompletionStage<Void> add(final User user, final String pswd,
+            final PasswordFormat format) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Void> remove(final String username) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Authentication> auth() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -14,6 +14,9 @@ import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.management.FakeUsers;
 import com.artipie.management.Users;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -86,6 +89,24 @@ class ApiChangeUserPasswordTest {
         );
     }
 
+    @Test
+    void keepsUserInfoOnPasswordChange() {
+        final Users.User user = new Users.User(
+            "ann", Optional.of("ann@example.com"), Collections.singleton("readers")
+        );
+        final FakeUsers users = new FakeUsers(user);
+        new ApiChangeUserPassword(users).response(
+            new RequestLine(RqMethod.PUT, "/api/users/ann/password").toString(),
+            Headers.EMPTY,
+            this.body("secret")
+        ).send((status, headers, body) -> CompletableFuture.allOf())
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            users.user("ann"),
+            new IsEqual<>(user)
+        );
+    }
+
     private Content body(final String pswd) {
         return new Content.From(String.format("password=%s", pswd).getBytes());
     }
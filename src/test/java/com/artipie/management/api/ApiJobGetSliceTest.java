@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.management.jobs.Job;
+import com.artipie.management.jobs.Jobs;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ApiJobGetSlice}.
+ * @since 0.7
+ */
+final class ApiJobGetSliceTest {
+
+    @Test
+    void returnsJobStatus() {
+        final Jobs jobs = new Jobs(Runnable::run);
+        final Job job = jobs.start("repo-delete", "bob/bin", started -> new CompletableFuture<>());
+        MatcherAssert.assertThat(
+            new ApiJobGetSlice(jobs),
+            new SliceHasResponse(
+                new RsHasBody(job.json().toString(), StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, String.format("/api/jobs/%s", job.id()))
+            )
+        );
+    }
+
+    @Test
+    void returnsNotFoundForUnknownJob() {
+        MatcherAssert.assertThat(
+            new ApiJobGetSlice(new Jobs()),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/api/jobs/123")
+            )
+        );
+    }
+}
@@ -7,10 +7,16 @@ package com.artipie.management.api;
 import com.artipie.http.auth.Authentication;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
+import com.artipie.management.api.artifactory.FromRqLine;
+import java.net.URI;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link ApiPermission}.
@@ -25,7 +31,11 @@ class ApiPermissionTest {
         "/dashboard/alice,true",
         "/api/lalala/alice,true",
         "/dashboard/bob,false",
-        "/api/lalala/bob,false"
+        "/api/lalala/bob,false",
+        "/alice/repo,true",
+        "/api/security/users/bob,true",
+        "/api/repositories/bob/repo,true",
+        "/api/security/users/bob/x,false"
     })
     void allowed(final String path, final boolean result) {
         MatcherAssert.assertThat(
@@ -35,4 +45,29 @@ class ApiPermissionTest {
             new IsEqual<>(result)
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "/", "/api", "/api/", "/api/alice", "/api/alice/", "/api/x/alice",
+        "/api/x-y/alice", "/api/x/alice.b", "/api/x/alice/", "/api/x/alice/a.b",
+        "/api/x/alice.b/c", "/dashboard", "/dashboard/", "/dashboard/alice/x",
+        "/dashboard/al.ice", "/dashboard/alice2", "/alic", "/alice", "/alice.", "//alice",
+        "/api//alice", "/api/repositories", "/api/repositories/", "/api/security/users/",
+        "/api/security/permissions", "/api/security/permissions/r.1",
+        "/api/security/permissions/r1", "/api/security/users/a/b"
+    })
+    void sameAsRegexCheck(final String path) {
+        final Authentication.User user = new Authentication.User("alice");
+        final Matcher matcher = Pattern.compile(
+            "(?:/api/\\w+|/dashboard)?/(?<user>[^/.]+)(?:/.*)?"
+        ).matcher(path);
+        MatcherAssert.assertThat(
+            new ApiPermission(URI.create(path)).allowed(user),
+            new IsEqual<>(
+                matcher.matches() && user.name().equals(matcher.group("user"))
+                    || Stream.of(FromRqLine.RqPattern.values())
+                        .anyMatch(ptn -> ptn.pattern().matcher(path).matches())
+            )
+        );
+    }
 }
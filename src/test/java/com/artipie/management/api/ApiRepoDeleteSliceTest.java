@@ -15,11 +15,17 @@ import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.management.FakeConfigFile;
 import com.artipie.management.Storages;
+import com.artipie.management.jobs.Job;
+import com.artipie.management.jobs.Jobs;
+import com.artipie.management.repo.DeleteRepo;
+import com.artipie.management.repo.RepoConfigCache;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsEmptyCollection;
@@ -91,6 +97,61 @@ final class ApiRepoDeleteSliceTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"bin.yaml", "bin.yml"})
+    void deletesRepoConfigAndFilesInRepoByJob(final String config) {
+        final String user = "bob";
+        final Key left = new Key.From(user, "another_repo", "exist.jar");
+        final Key repo = new Key.From(user, "bin");
+        this.storage.save(new Key.From(repo, "one.txt"), Content.EMPTY).join();
+        this.storage.save(new Key.From(repo, "two.txt"), Content.EMPTY).join();
+        this.storage.save(left, Content.EMPTY).join();
+        final Storage artipie = new InMemoryStorage();
+        new TestResource("bin.yml").saveTo(artipie, new Key.From(user, config));
+        final Jobs jobs = new Jobs();
+        final CompletableFuture<String> location = new CompletableFuture<>();
+        new ApiRepoDeleteSlice(
+            new Storages.Fake(new SubStorage(repo, this.storage)),
+            new FakeConfigFile(artipie),
+            new RepoConfigCache(new FakeConfigFile(artipie)),
+            jobs,
+            new DeleteRepo(1, 100)
+        ).response(
+            new RequestLine(RqMethod.POST, String.format("/api/repos/%s", user)).toString(),
+            Headers.EMPTY,
+            ApiRepoDeleteSliceTest.body("bin")
+        ).send(
+            (status, headers, body) -> {
+                MatcherAssert.assertThat(
+                    "Deletion was not accepted", status, new IsEqual<>(RsStatus.ACCEPTED)
+                );
+                location.complete(new RqHeaders(headers, "Location").get(0));
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Repo config was not removed",
+            artipie.list(new Key.From(user)).join(),
+            new IsEmptyCollection<>()
+        );
+        MatcherAssert.assertThat(
+            "Deletion job failed",
+            jobs.job(location.join().substring("/api/jobs/".length())).get()
+                .finished().toCompletableFuture().join().status(),
+            new IsEqual<>(Job.Status.DONE)
+        );
+        MatcherAssert.assertThat(
+            "Config file was not removed",
+            this.storage.list(repo).join(),
+            new IsEmptyCollection<>()
+        );
+        MatcherAssert.assertThat(
+            "File from another repo does not exist",
+            this.storage.exists(left).join(),
+            new IsEqual<>(true)
+        );
+    }
+
     private static Content body(final String reponame) {
         return new Content.From(
             String.format("repo=%s&action=delete", reponame).getBytes(StandardCharsets.UTF_8)
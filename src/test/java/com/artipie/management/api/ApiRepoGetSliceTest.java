@@ -8,8 +8,12 @@ import com.amihaiemil.eoyaml.Yaml;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.Digests;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
@@ -17,6 +21,7 @@ import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.management.FakeConfigFile;
 import java.util.Arrays;
+import org.apache.commons.codec.binary.Hex;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.AllOf;
 import org.junit.jupiter.api.BeforeEach;
@@ -76,6 +81,31 @@ final class ApiRepoGetSliceTest {
         );
     }
 
+    @Test
+    void returnsNotModifiedForMatchingTag() {
+        this.storage.save(new Key.From("bob/cached.yaml"), new Content.From(yaml())).join();
+        final String tag = String.format(
+            "\"%s\"", Hex.encodeHexString(Digests.SHA256.get().digest(yaml()))
+        );
+        MatcherAssert.assertThat(
+            new ApiRepoGetSlice(new FakeConfigFile(this.storage)),
+            new SliceHasResponse(
+                new AllOf<>(
+                    Arrays.asList(
+                        new RsHasStatus(RsStatus.NOT_MODIFIED),
+                        new RsHasHeaders(
+                            new Header("ETag", tag),
+                            new Header("Cache-Control", "private, no-cache")
+                        )
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/api/repos/bob/cached"),
+                new Headers.From("If-None-Match", tag),
+                Content.EMPTY
+            )
+        );
+    }
+
     private static byte[] yaml() {
         return Yaml.createYamlMappingBuilder().add(
             "repo", Yaml.createYamlMappingBuilder()
@@ -7,18 +7,39 @@ package com.artipie.management.api;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.Digests;
 import com.artipie.asto.memory.InMemoryStorage;
 import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
+import com.artipie.management.ConfigFiles;
 import com.artipie.management.FakeConfigFile;
 import com.artipie.management.Storages;
+import com.artipie.management.jobs.Jobs;
+import com.artipie.management.repo.DeleteRepo;
+import com.artipie.management.repo.RepoConfigCache;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.binary.Hex;
+import org.cactoos.map.MapEntry;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -82,16 +103,191 @@ final class ApiRepoPostRtSliceTest {
     }
 
     @Test
-    void returnFoundForDelete() {
+    void returnFoundForDeleteWithoutJobs() {
         this.artipie.save(new Key.From("user", "bin.yaml"), Content.EMPTY).join();
         MatcherAssert.assertThat(
+            "Repo deletion was not redirected to dashboard",
             new ApiRepoPostRtSlice(this.storages, new FakeConfigFile(this.artipie)),
             new SliceHasResponse(
-                new RsHasStatus(RsStatus.FOUND),
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.FOUND),
+                    new RsHasHeaders(new MapEntry<>("Location", "/dashboard/user"))
+                ),
                 new RequestLine(RqMethod.POST, "/api/repos/user"),
                 Headers.EMPTY,
                 new Content.From("action=delete&repo=bin".getBytes(StandardCharsets.UTF_8))
             )
         );
+        MatcherAssert.assertThat(
+            "Repo config was not removed",
+            this.artipie.exists(new Key.From("user", "bin.yaml")).join(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void returnsDeletionJobAvailableThroughRouter() {
+        this.artipie.save(new Key.From("user", "bin.yaml"), Content.EMPTY).join();
+        final ConfigFiles files = new FakeConfigFile(this.artipie);
+        final Jobs jobs = new Jobs();
+        final ApiRouter router = new ApiRouter(
+            new ApiRouter.Route(
+                RqMethod.POST, "/api/repos/{user}",
+                new ApiRepoPostRtSlice(
+                    this.storages, files, new RepoConfigCache(files), jobs, new DeleteRepo()
+                )
+            ),
+            new ApiRouter.Route(RqMethod.GET, "/api/jobs/{id}", new ApiJobGetSlice(jobs))
+        );
+        final CompletableFuture<String> location = new CompletableFuture<>();
+        router.response(
+            new RequestLine(RqMethod.POST, "/api/repos/user").toString(),
+            Headers.EMPTY,
+            new Content.From("action=delete&repo=bin".getBytes(StandardCharsets.UTF_8))
+        ).send(
+            (status, headers, body) -> {
+                MatcherAssert.assertThat(
+                    "Deletion was not accepted", status, new IsEqual<>(RsStatus.ACCEPTED)
+                );
+                location.complete(new RqHeaders(headers, "Location").get(0));
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Deletion job is not available by location",
+            router,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, location.join())
+            )
+        );
+    }
+
+    @Test
+    void updatesRepoOnceForConcurrentRequestsWithSameTag() throws InterruptedException {
+        final byte[] origin = ApiRepoUpdateSliceTest.yaml("bin", false)
+            .getBytes(StandardCharsets.UTF_8);
+        this.artipie.save(new Key.From("user", "bin.yaml"), new Content.From(origin)).join();
+        final String tag = new EntityTag(
+            Hex.encodeHexString(Digests.SHA256.get().digest(origin))
+        ).value();
+        final GatedConfigFiles files = new GatedConfigFiles(new FakeConfigFile(this.artipie));
+        final ApiRepoPostRtSlice slice = new ApiRepoPostRtSlice(this.storages, files);
+        final List<RsStatus> statuses = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> first = ApiRepoPostRtSliceTest.update(
+            slice, tag, true, statuses
+        );
+        MatcherAssert.assertThat(
+            "First update is saving",
+            files.saving.poll(1, TimeUnit.MINUTES),
+            new IsNot<>(new IsNull<>())
+        );
+        final CompletableFuture<Void> second = ApiRepoPostRtSliceTest.update(
+            slice, tag, false, statuses
+        );
+        files.saving.poll(1, TimeUnit.SECONDS);
+        files.gate.complete(null);
+        first.join();
+        second.join();
+        MatcherAssert.assertThat(
+            "Second update with the same tag is rejected",
+            statuses,
+            Matchers.contains(RsStatus.FOUND, RsStatus.CONFLICT)
+        );
+    }
+
+    /**
+     * Send conditional repo update request.
+     * @param slice Slice
+     * @param tag Expected entity tag
+     * @param perms Add permissions to config
+     * @param statuses Response statuses
+     * @return Completion of response
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static CompletableFuture<Void> update(final ApiRepoPostRtSlice slice,
+        final String tag, final boolean perms, final List<RsStatus> statuses) {
+        final String body = String.format(
+            "action=update&config=%s&repo=bin",
+            URLEncoder.encode(ApiRepoUpdateSliceTest.yaml("bin", perms), StandardCharsets.UTF_8)
+        );
+        return slice.response(
+            new RequestLine(RqMethod.POST, "/api/repos/user").toString(),
+            new Headers.From("If-Match", tag),
+            new Content.From(body.getBytes(StandardCharsets.UTF_8))
+        ).send(
+            (status, headers, rsbody) -> {
+                statuses.add(status);
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture();
+    }
+
+    /**
+     * Config files which hold saves until gate is open.
+     * @since 0.7
+     */
+    private static final class GatedConfigFiles implements ConfigFiles {
+
+        /**
+         * Keys of requested saves.
+         */
+        private final BlockingQueue<Key> saving;
+
+        /**
+         * Gate.
+         */
+        private final CompletableFuture<Void> gate;
+
+        /**
+         * Origin config files.
+         */
+        private final ConfigFiles origin;
+
+        /**
+         * Ctor.
+         * @param origin Origin config files
+         */
+        GatedConfigFiles(final ConfigFiles origin) {
+            this.origin = origin;
+            this.saving = new LinkedBlockingQueue<>();
+            this.gate = new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<Boolean> exists(final Key filename) {
+            return this.origin.exists(filename);
+        }
+
+        @Override
+        public CompletionStage<Content> value(final Key filename) {
+            return this.origin.value(filename);
+        }
+
+        @Override
+        public CompletionStage<Void> delete(final Key filename) {
+            return this.origin.delete(filename);
+        }
+
+        @Override
+        public CompletableFuture<Void> save(final Key key, final Content content) {
+            this.saving.add(key);
+            return this.gate.thenCompose(nothing -> this.origin.save(key, content));
+        }
+
+        @Override
+        public String name(final Key filename) {
+            return this.origin.name(filename);
+        }
+
+        @Override
+        public Optional<String> extension(final Key filename) {
+            return this.origin.extension(filename);
+        }
+
+        @Override
+        public boolean isYamlOrYml(final Key filename) {
+            return this.origin.isYamlOrYml(filename);
+        }
     }
 }
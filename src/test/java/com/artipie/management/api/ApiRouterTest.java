@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.StandardRs;
+import com.artipie.http.slice.SliceSimple;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.cactoos.map.MapEntry;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+/**
+ * Test for {@link ApiRouter}.
+ * @since 0.7
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
+ */
+final class ApiRouterTest {
+
+    @Test
+    void passesPathVariablesToRoute() {
+        MatcherAssert.assertThat(
+            ApiRouterTest.router(),
+            new SliceHasResponse(
+                new RsHasBody("alice:maven", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/api/repos/alice/maven")
+            )
+        );
+    }
+
+    @Test
+    void routesByMethod() {
+        MatcherAssert.assertThat(
+            ApiRouterTest.router(),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NO_CONTENT),
+                new RequestLine(RqMethod.DELETE, "/api/repos/alice/maven")
+            )
+        );
+    }
+
+    @Test
+    void returnsNotFoundForUnknownPath() {
+        MatcherAssert.assertThat(
+            ApiRouterTest.router(),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/api/repos/alice/maven/other")
+            )
+        );
+    }
+
+    @Test
+    void returnsMethodNotAllowedForUnknownMethod() {
+        MatcherAssert.assertThat(
+            ApiRouterTest.router(),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.METHOD_NOT_ALLOWED),
+                    new RsHasHeaders(new MapEntry<>("Allow", "GET, DELETE"))
+                ),
+                new RequestLine(RqMethod.PUT, "/api/repos/alice/maven")
+            )
+        );
+    }
+
+    @Test
+    void countsRouteHits() {
+        final ApiRouter router = ApiRouterTest.router();
+        router.response(
+            new RequestLine(RqMethod.GET, "/api/repos/bob/npm").toString(),
+            Headers.EMPTY,
+            Content.EMPTY
+        );
+        MatcherAssert.assertThat(
+            router.hits(),
+            new IsEqual<>(
+                Map.of(
+                    "GET /api/repos/{user}/{repo}", 1L,
+                    "DELETE /api/repos/{user}/{repo}", 0L
+                )
+            )
+        );
+    }
+
+    /**
+     * Router for tests.
+     * @return Router
+     */
+    private static ApiRouter router() {
+        return new ApiRouter(
+            new ApiRouter.Route(RqMethod.GET, "/api/repos/{user}/{repo}", new EchoVars()),
+            new ApiRouter.Route(
+                RqMethod.DELETE, "/api/repos/{user}/{repo}",
+                new SliceSimple(StandardRs.NO_CONTENT)
+            )
+        );
+    }
+
+    /**
+     * Route slice which responds with path variables.
+     * @since 0.7
+     */
+    private static final class EchoVars implements RouteSlice {
+
+        @Override
+        public Response response(
+            final Map<String, String> vars,
+            final String line,
+            final Iterable<Map.Entry<String, String>> headers,
+            final Publisher<ByteBuffer> body
+        ) {
+            return new RsWithBody(
+                String.format("%s:%s", vars.get("user"), vars.get("repo")),
+                StandardCharsets.UTF_8
+            );
+        }
+
+        @Override
+        public Response response(
+            final String line,
+            final Iterable<Map.Entry<String, String>> headers,
+            final Publisher<ByteBuffer> body
+        ) {
+            throw new UnsupportedOperationException("Path variables are required");
+        }
+    }
+}
@@ -5,10 +5,19 @@
 package com.artipie.management.api;
 
 import com.artipie.http.Headers;
+import com.artipie.http.auth.Authentication;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.util.Optional;
+import javax.crypto.Cipher;
+import org.apache.commons.codec.binary.Hex;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test for {@link CookiesAuthScheme}.
@@ -28,4 +37,27 @@ class CookiesTest {
             new IsEqual<>(Optional.empty())
         );
     }
+
+    @Test
+    void findsUserInSessionCookie(@TempDir final Path dir) throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        final Path file = dir.resolve("session.key");
+        Files.write(file, pair.getPrivate().getEncoded());
+        final Cipher rsa = Cipher.getInstance("RSA/ECB/OAEPWithSHA1AndMGF1Padding");
+        rsa.init(Cipher.ENCRYPT_MODE, pair.getPublic());
+        MatcherAssert.assertThat(
+            new CookiesAuthScheme(new SessionKey(file)).authenticate(
+                new Headers.From(
+                    "Cookie",
+                    String.format(
+                        "theme=dark; session=%s",
+                        Hex.encodeHexString(rsa.doFinal("john".getBytes(StandardCharsets.UTF_8)))
+                    )
+                )
+            ).toCompletableFuture().join().user(),
+            new IsEqual<>(Optional.of(new Authentication.User("john")))
+        );
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.StandardRs;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link EntityTag}.
+ * @since 0.7
+ */
+final class EntityTagTest {
+
+    @Test
+    void quotesHash() {
+        MatcherAssert.assertThat(
+            new EntityTag("abc").value(),
+            new IsEqual<>("\"abc\"")
+        );
+    }
+
+    @Test
+    void separatesParts() {
+        MatcherAssert.assertThat(
+            new EntityTag(List.of("ab", "c")).value(),
+            Matchers.not(new EntityTag(List.of("a", "bc")).value())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "\"abc\"", "W/\"abc\"", "\"xyz\", \"abc\"", "*", "\"abc-gzip\"",
+            "W/\"abc-deflate\""
+        }
+    )
+    void respondsNotModifiedWithoutOrigin(final String header) {
+        final AtomicBoolean created = new AtomicBoolean();
+        MatcherAssert.assertThat(
+            new EntityTag("abc").response(
+                new Headers.From("If-None-Match", header),
+                () -> {
+                    created.set(true);
+                    return StandardRs.OK;
+                }
+            ),
+            Matchers.allOf(
+                new RsHasStatus(RsStatus.NOT_MODIFIED),
+                new RsHasHeaders(
+                    new Header("ETag", "\"abc\""),
+                    new Header("Cache-Control", "private, no-cache")
+                )
+            )
+        );
+        MatcherAssert.assertThat("Origin response was created", created.get(), new IsEqual<>(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"xyz\"", "abc", "", "\"abc-br\"", "\"xyz-gzip\""})
+    void respondsWithOriginIfTagDoesNotMatch(final String header) {
+        MatcherAssert.assertThat(
+            new EntityTag("abc").response(
+                new Headers.From("If-None-Match", header),
+                () -> StandardRs.OK
+            ),
+            Matchers.allOf(
+                new RsHasStatus(RsStatus.OK),
+                new RsHasHeaders(
+                    new Header("ETag", "\"abc\""),
+                    new Header("Cache-Control", "private, no-cache")
+                )
+            )
+        );
+    }
+
+    @Test
+    void comparesStronglyForMatch() {
+        MatcherAssert.assertThat(
+            new EntityTag("abc").matches(List.of("W/\"abc\""), false),
+            new IsEqual<>(false)
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Headers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link IfMatch}.
+ * @since 0.7
+ */
+final class IfMatchTest {
+
+    @Test
+    void updatesWithoutHeader() {
+        MatcherAssert.assertThat(
+            new IfMatch().update(
+                "any",
+                Headers.EMPTY,
+                () -> CompletableFuture.failedFuture(new IllegalStateException("Not expected")),
+                () -> CompletableFuture.completedFuture("done")
+            ).toCompletableFuture().join(),
+            new IsEqual<>(Optional.of("done"))
+        );
+    }
+
+    @Test
+    void updatesIfTagMatches() {
+        MatcherAssert.assertThat(
+            new IfMatch().update(
+                "matching",
+                new Headers.From("If-Match", "\"one\", \"two\""),
+                () -> CompletableFuture.completedFuture(Optional.of(new EntityTag("two"))),
+                () -> CompletableFuture.completedFuture(1)
+            ).toCompletableFuture().join(),
+            new IsEqual<>(Optional.of(1))
+        );
+    }
+
+    @Test
+    void doesNotUpdateMissingResource() {
+        MatcherAssert.assertThat(
+            new IfMatch().update(
+                "missing",
+                new Headers.From("If-Match", "*"),
+                () -> CompletableFuture.completedFuture(Optional.empty()),
+                () -> CompletableFuture.completedFuture(1)
+            ).toCompletableFuture().join(),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void doesNotUpdateIfTagIsWeak() {
+        MatcherAssert.assertThat(
+            new IfMatch().update(
+                "weak",
+                new Headers.From("If-Match", "W/\"abc\""),
+                () -> CompletableFuture.completedFuture(Optional.of(new EntityTag("abc"))),
+                () -> CompletableFuture.completedFuture(1)
+            ).toCompletableFuture().join(),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void allowsOnlyOneOfConcurrentUpdatesWithSameTag() {
+        final IfMatch ifmatch = new IfMatch();
+        final AtomicInteger version = new AtomicInteger();
+        final CompletableFuture<Void> first = new CompletableFuture<>();
+        final List<CompletionStage<Optional<Integer>>> updates = new ArrayList<>(5);
+        for (int idx = 0; idx < 5; ++idx) {
+            final CompletableFuture<Void> wait;
+            if (idx == 0) {
+                wait = first;
+            } else {
+                wait = CompletableFuture.completedFuture(null);
+            }
+            updates.add(
+                ifmatch.update(
+                    "repo",
+                    new Headers.From("If-Match", new EntityTag("0").value()),
+                    () -> CompletableFuture.completedFuture(
+                        Optional.of(new EntityTag(String.valueOf(version.get())))
+                    ),
+                    () -> wait.thenApply(nothing -> version.incrementAndGet())
+                )
+            );
+        }
+        first.complete(null);
+        MatcherAssert.assertThat(
+            updates.stream().map(update -> update.toCompletableFuture().join())
+                .filter(Optional::isPresent).collect(Collectors.toList()),
+            Matchers.contains(Optional.of(1))
+        );
+    }
+}
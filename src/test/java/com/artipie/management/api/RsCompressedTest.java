@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.asto.Remaining;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import hu.akarnokd.rxjava2.interop.CompletableInterop;
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link RsCompressed}.
+ * @since 0.7
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class RsCompressedTest {
+
+    /**
+     * Large JSON body.
+     */
+    private static final String JSON = String.format(
+        "[%s{}]", "{\"name\":\"artipie\",\"type\":\"maven\"},".repeat(200)
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "gzip, deflate", "br;q=1.0, gzip;q=0.8", "*"})
+    void compressesWithGzip(final String accept) throws IOException {
+        MatcherAssert.assertThat(
+            "Response should have encoding headers without content length",
+            new RsCompressed(
+                RsCompressedTest.json(), new Headers.From("Accept-Encoding", accept)
+            ),
+            new RsHasHeaders(
+                new Header("Content-Type", "application/json; charset=UTF-8"),
+                new Header("Content-Encoding", "gzip"),
+                new Header("Vary", "Accept-Encoding")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Body should be compressed JSON",
+            RsCompressedTest.read(
+                new GZIPInputStream(
+                    new ByteArrayInputStream(
+                        RsCompressedTest.body(
+                            new RsCompressed(
+                                RsCompressedTest.json(),
+                                new Headers.From("Accept-Encoding", accept)
+                            )
+                        )
+                    )
+                )
+            ),
+            new IsEqual<>(RsCompressedTest.JSON)
+        );
+    }
+
+    @Test
+    void compressesWithDeflate() throws IOException {
+        MatcherAssert.assertThat(
+            RsCompressedTest.read(
+                new InflaterInputStream(
+                    new ByteArrayInputStream(
+                        RsCompressedTest.body(
+                            new RsCompressed(
+                                RsCompressedTest.json(),
+                                new Headers.From("Accept-Encoding", "deflate, gzip;q=0")
+                            )
+                        )
+                    )
+                )
+            ),
+            new IsEqual<>(RsCompressedTest.JSON)
+        );
+    }
+
+    @Test
+    void appliesWildcardToUnlistedEncodings() throws IOException {
+        MatcherAssert.assertThat(
+            RsCompressedTest.read(
+                new InflaterInputStream(
+                    new ByteArrayInputStream(
+                        RsCompressedTest.body(
+                            new RsCompressed(
+                                RsCompressedTest.json(),
+                                new Headers.From("Accept-Encoding", "gzip;q=0, *")
+                            )
+                        )
+                    )
+                )
+            ),
+            new IsEqual<>(RsCompressedTest.JSON)
+        );
+    }
+
+    @Test
+    void doesNotCompressIfWildcardRejected() {
+        MatcherAssert.assertThat(
+            new RsCompressed(
+                RsCompressedTest.json(), new Headers.From("Accept-Encoding", "*;q=0")
+            ),
+            new RsHasBody(RsCompressedTest.JSON, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void suffixesEntityTagWithEncoding() {
+        MatcherAssert.assertThat(
+            new RsCompressed(
+                new RsWithHeaders(RsCompressedTest.json(), new Headers.From("ETag", "\"abc\"")),
+                new Headers.From("Accept-Encoding", "gzip")
+            ),
+            new RsHasHeaders(
+                new Header("Content-Type", "application/json; charset=UTF-8"),
+                new Header("ETag", "\"abc-gzip\""),
+                new Header("Content-Encoding", "gzip"),
+                new Header("Vary", "Accept-Encoding")
+            )
+        );
+    }
+
+    @Test
+    void respondsNotModifiedForEncodedEntityTag() {
+        final Headers request = new Headers.From(
+            new Header("Accept-Encoding", "gzip"),
+            new Header("If-None-Match", "\"abc-gzip\"")
+        );
+        MatcherAssert.assertThat(
+            new RsCompressed(
+                new EntityTag("abc").response(request, RsCompressedTest::json), request
+            ),
+            Matchers.allOf(
+                new RsHasStatus(RsStatus.NOT_MODIFIED),
+                new RsHasHeaders(
+                    new Header("ETag", "\"abc-gzip\""),
+                    new Header("Cache-Control", "private, no-cache")
+                )
+            )
+        );
+    }
+
+    @Test
+    void doesNotCompressSmallBody() {
+        MatcherAssert.assertThat(
+            new RsCompressed(
+                new RsWithHeaders(
+                    new RsWithBody("{}", StandardCharsets.UTF_8),
+                    new Headers.From("Content-Type", "application/json")
+                ),
+                new Headers.From("Accept-Encoding", "gzip")
+            ),
+            Matchers.allOf(
+                new RsHasBody("{}", StandardCharsets.UTF_8),
+                new RsHasHeaders(
+                    new Header("Content-Length", "2"),
+                    new Header("Content-Type", "application/json"),
+                    new Header("Vary", "Accept-Encoding")
+                )
+            )
+        );
+    }
+
+    @Test
+    void doesNotCompressIfNotAccepted() {
+        MatcherAssert.assertThat(
+            new RsCompressed(RsCompressedTest.json(), new Headers.From("Accept-Encoding", "br")),
+            new RsHasBody(RsCompressedTest.JSON, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void doesNotCompressBinaryBody() {
+        MatcherAssert.assertThat(
+            new RsCompressed(
+                new RsWithHeaders(
+                    new RsWithBody(RsCompressedTest.JSON, StandardCharsets.UTF_8),
+                    new Headers.From("Content-Type", "application/octet-stream")
+                ),
+                new Headers.From("Accept-Encoding", "gzip")
+            ),
+            new RsHasBody(RsCompressedTest.JSON, StandardCharsets.UTF_8)
+        );
+    }
+
+    private static Response json() {
+        return new RsWithHeaders(
+            new RsWithBody(RsCompressedTest.JSON, StandardCharsets.UTF_8),
+            new Headers.From("Content-Type", "application/json; charset=UTF-8")
+        );
+    }
+
+    private static byte[] body(final Response response) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.send(
+            (status, headers, pub) -> Flowable.fromPublisher(pub)
+                .doOnNext(buf -> out.write(new Remaining(buf).bytes()))
+                .ignoreElements()
+                .to(CompletableInterop.await())
+        ).toCompletableFuture().join();
+        return out.toByteArray();
+    }
+
+    private static String read(final InputStream input) throws IOException {
+        try (input) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
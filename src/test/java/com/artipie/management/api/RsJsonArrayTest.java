@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.stream.JsonGenerator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link RsJsonArray}.
+ * @since 0.7
+ */
+final class RsJsonArrayTest {
+
+    @Test
+    void streamsArrayInChunks() {
+        final List<String> items = IntStream.range(0, 100).mapToObj(Integer::toString)
+            .collect(Collectors.toList());
+        final JsonArrayBuilder json = Json.createArrayBuilder();
+        items.forEach(item -> json.add(Json.createObjectBuilder().add("id", item)));
+        final CompletableFuture<List<ByteBuffer>> chunks = new CompletableFuture<>();
+        new RsJsonArray<String>(
+            Optional.empty(), Collections.emptyMap(), Flowable.fromIterable(items),
+            RsJsonArrayTest::item, 64
+        ).send(
+            (status, headers, body) -> {
+                chunks.complete(Flowable.fromPublisher(body).toList().blockingGet());
+                return CompletableFuture.allOf();
+            }
+        );
+        MatcherAssert.assertThat(
+            "Body is JSON array of items",
+            new String(RsJsonArrayTest.bytes(chunks.join()), StandardCharsets.UTF_8),
+            new IsEqual<>(json.build().toString())
+        );
+        MatcherAssert.assertThat(
+            "Body is split into chunks",
+            chunks.join().size() > 1,
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void writesEmptyArray() {
+        MatcherAssert.assertThat(
+            new RsJsonArray<String>(Collections.emptyList(), RsJsonArrayTest::item),
+            new RsHasBody("[]", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void writesArrayField() {
+        MatcherAssert.assertThat(
+            new RsJsonArray<String>("files", List.of("a", "b"), RsJsonArrayTest::item),
+            new RsHasBody("{\"files\":[{\"id\":\"a\"},{\"id\":\"b\"}]}", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void writesFieldsAfterArray() {
+        MatcherAssert.assertThat(
+            new RsJsonArray<String>(
+                "files", List.of("a"), RsJsonArrayTest::item, Map.of("next", "b")
+            ),
+            new RsHasBody("{\"files\":[{\"id\":\"a\"}],\"next\":\"b\"}", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void hasJsonContentTypeWithoutLength() {
+        MatcherAssert.assertThat(
+            new RsJsonArray<String>(List.of("a"), RsJsonArrayTest::item),
+            new RsHasHeaders(
+                new Headers.From(new Header("Content-Type", "application/json; charset=UTF-8"))
+            )
+        );
+    }
+
+    /**
+     * Write item JSON.
+     * @param gen Generator
+     * @param item Item
+     */
+    private static void item(final JsonGenerator gen, final String item) {
+        gen.writeStartObject().write("id", item).writeEnd();
+    }
+
+    /**
+     * Concatenate chunks.
+     * @param chunks Chunks
+     * @return Bytes
+     */
+    private static byte[] bytes(final List<ByteBuffer> chunks) {
+        final ByteBuffer all = ByteBuffer.allocate(
+            chunks.stream().mapToInt(ByteBuffer::remaining).sum()
+        );
+        chunks.forEach(all::put);
+        return all.array();
+    }
+}
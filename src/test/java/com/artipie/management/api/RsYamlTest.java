@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlMappingBuilder;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link RsYaml}.
+ * @since 0.7
+ */
+final class RsYamlTest {
+
+    @Test
+    void sendsSmallDocument() {
+        final YamlMapping yaml = Yaml.createYamlMappingBuilder()
+            .add("repo", Yaml.createYamlMappingBuilder().add("type", "maven").build())
+            .build();
+        final byte[] bytes = yaml.toString().getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new RsYaml(yaml),
+            Matchers.allOf(
+                new RsHasBody(bytes),
+                new RsHasHeaders(
+                    new Header("content-type", "text/yaml; charset=UTF-8"),
+                    new Header("content-length", String.valueOf(bytes.length))
+                )
+            )
+        );
+    }
+
+    @Test
+    void sendsDocumentLargerThanChunk() {
+        YamlMappingBuilder perms = Yaml.createYamlMappingBuilder();
+        for (int idx = 0; idx < 1000; ++idx) {
+            perms = perms.add(
+                String.format("user-%d", idx),
+                Yaml.createYamlSequenceBuilder().add("read").add("write").build()
+            );
+        }
+        final YamlMapping yaml = Yaml.createYamlMappingBuilder()
+            .add("repo", Yaml.createYamlMappingBuilder().add("permissions", perms.build()).build())
+            .build();
+        final byte[] bytes = yaml.toString().getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new RsYaml(yaml),
+            Matchers.allOf(
+                new RsHasBody(bytes),
+                new RsHasHeaders(
+                    new Header("content-type", "text/yaml; charset=UTF-8"),
+                    new Header("content-length", String.valueOf(bytes.length))
+                )
+            )
+        );
+    }
+}
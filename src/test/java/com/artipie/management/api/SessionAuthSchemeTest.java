@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.artipie.http.Headers;
+import com.artipie.http.auth.Authentication;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link SessionAuthScheme}.
+ * @since 0.7
+ */
+final class SessionAuthSchemeTest {
+
+    @Test
+    void authenticatesBySignedSession(@TempDir final Path dir) throws Exception {
+        final byte[] secret = "top-secret".getBytes(StandardCharsets.UTF_8);
+        final Path file = dir.resolve("secret");
+        Files.write(file, secret);
+        MatcherAssert.assertThat(
+            new SessionAuthScheme(
+                Yaml.createYamlMappingBuilder().add(
+                    "session",
+                    Yaml.createYamlMappingBuilder()
+                        .add("type", "signed")
+                        .add("key", file.toString())
+                        .build()
+                ).build()
+            ).authenticate(
+                new Headers.From(
+                    "Cookie",
+                    String.format(
+                        "session=%s",
+                        new SessionToken(secret, Duration.ofMinutes(1)).issue("jane")
+                    )
+                )
+            ).toCompletableFuture().join().user(),
+            new IsEqual<>(Optional.of(new Authentication.User("jane")))
+        );
+    }
+
+    @Test
+    void doesNotFindUserWithoutSession() {
+        MatcherAssert.assertThat(
+            new SessionAuthScheme(Yaml.createYamlMappingBuilder().build())
+                .authenticate(Headers.EMPTY).toCompletableFuture().join().user(),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import com.artipie.http.auth.Authentication;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import javax.crypto.Cipher;
+import org.apache.commons.codec.binary.Hex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link SessionCache}.
+ * @since 0.7
+ */
+final class SessionCacheTest {
+
+    @Test
+    void resolvesSessionFromCache(@TempDir final Path dir) throws Exception {
+        final KeyPair pair = SessionCacheTest.pair();
+        final Path file = dir.resolve("session.key");
+        Files.write(file, pair.getPrivate().getEncoded());
+        final SessionCache cache = new SessionCache(new SessionKey(file));
+        final String session = SessionCacheTest.encrypt(pair, "alice");
+        cache.user(session);
+        MatcherAssert.assertThat(
+            "Resolves user",
+            cache.user(session),
+            new IsEqual<>(new Authentication.User("alice"))
+        );
+        MatcherAssert.assertThat(
+            "Counts hits",
+            cache.hits(),
+            new IsEqual<>(1L)
+        );
+        MatcherAssert.assertThat(
+            "Counts misses",
+            cache.misses(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void dropsSessionsOnKeyRotation(@TempDir final Path dir) throws Exception {
+        final KeyPair pair = SessionCacheTest.pair();
+        final Path file = dir.resolve("rotated.key");
+        Files.write(file, pair.getPrivate().getEncoded());
+        final SessionCache cache = new SessionCache(
+            new SessionKey(file, Duration.ZERO), 10L, Duration.ofMinutes(1)
+        );
+        final String session = SessionCacheTest.encrypt(pair, "bob");
+        cache.user(session);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        cache.user(session);
+        MatcherAssert.assertThat(
+            cache.misses(),
+            new IsEqual<>(2L)
+        );
+    }
+
+    @Test
+    void doesNotServeSessionOfRotatedKey(@TempDir final Path dir) throws Exception {
+        final KeyPair pair = SessionCacheTest.pair();
+        final Path file = dir.resolve("replaced.key");
+        Files.write(file, pair.getPrivate().getEncoded());
+        final SessionCache cache = new SessionCache(
+            new SessionKey(file, Duration.ZERO), 10L, Duration.ofMinutes(1)
+        );
+        final String session = SessionCacheTest.encrypt(pair, "carol");
+        cache.user(session);
+        Files.write(file, SessionCacheTest.pair().getPrivate().getEncoded());
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        Assertions.assertThrows(GeneralSecurityException.class, () -> cache.user(session));
+    }
+
+    /**
+     * New RSA key pair.
+     * @return Key pair
+     * @throws Exception On error
+     */
+    private static KeyPair pair() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        return gen.generateKeyPair();
+    }
+
+    /**
+     * Encrypt text with public key to hex session.
+     * @param pair Key pair
+     * @param text Text to encrypt
+     * @return Encrypted session
+     * @throws Exception On error
+     */
+    private static String encrypt(final KeyPair pair, final String text) throws Exception {
+        final Cipher rsa = Cipher.getInstance("RSA/ECB/OAEPWithSHA1AndMGF1Padding");
+        rsa.init(Cipher.ENCRYPT_MODE, pair.getPublic());
+        return Hex.encodeHexString(rsa.doFinal(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import javax.crypto.Cipher;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link SessionKey}.
+ * @since 0.7
+ */
+final class SessionKeyTest {
+
+    @Test
+    void decryptsWithKeyFromFile(@TempDir final Path dir) throws Exception {
+        final KeyPair pair = SessionKeyTest.pair();
+        final Path file = dir.resolve("session.key");
+        Files.write(file, pair.getPrivate().getEncoded());
+        MatcherAssert.assertThat(
+            new String(
+                new SessionKey(file).decrypt(SessionKeyTest.encrypt(pair, "alice")),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>("alice")
+        );
+    }
+
+    @Test
+    void reloadsRotatedKey(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("rotated.key");
+        Files.write(file, SessionKeyTest.pair().getPrivate().getEncoded());
+        final SessionKey key = new SessionKey(file, Duration.ZERO);
+        final long first = key.generation();
+        final KeyPair rotated = SessionKeyTest.pair();
+        Files.write(file, rotated.getPrivate().getEncoded());
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        MatcherAssert.assertThat(
+            "Decrypts with rotated key",
+            new String(
+                key.decrypt(SessionKeyTest.encrypt(rotated, "bob")), StandardCharsets.UTF_8
+            ),
+            new IsEqual<>("bob")
+        );
+        MatcherAssert.assertThat(
+            "Changes key generation",
+            key.generation(),
+            new IsEqual<>(first + 1)
+        );
+    }
+
+    /**
+     * New RSA key pair.
+     * @return Key pair
+     * @throws Exception On error
+     */
+    private static KeyPair pair() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        return gen.generateKeyPair();
+    }
+
+    /**
+     * Encrypt text with public key.
+     * @param pair Key pair
+     * @param text Text to encrypt
+     * @return Encrypted bytes
+     * @throws Exception On error
+     */
+    private static byte[] encrypt(final KeyPair pair, final String text) throws Exception {
+        final Cipher rsa = Cipher.getInstance("RSA/ECB/OAEPWithSHA1AndMGF1Padding");
+        rsa.init(Cipher.ENCRYPT_MODE, pair.getPublic());
+        return rsa.doFinal(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
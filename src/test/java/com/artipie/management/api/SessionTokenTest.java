@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link SessionToken}.
+ * @since 0.7
+ */
+final class SessionTokenTest {
+
+    /**
+     * Secret key.
+     */
+    private static final byte[] SECRET = "secret".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void verifiesIssuedToken() throws Exception {
+        final SessionToken token = new SessionToken(SessionTokenTest.SECRET, Duration.ofHours(1));
+        MatcherAssert.assertThat(
+            token.user(token.issue("alice")),
+            new IsEqual<>(Optional.of("alice"))
+        );
+    }
+
+    @Test
+    void rejectsExpiredToken() throws Exception {
+        final Instant now = Instant.now();
+        MatcherAssert.assertThat(
+            new SessionToken(
+                SessionTokenTest.SECRET, Duration.ofHours(1),
+                Clock.fixed(now.plusSeconds(7200), ZoneOffset.UTC)
+            ).user(
+                new SessionToken(
+                    SessionTokenTest.SECRET, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC)
+                ).issue("bob")
+            ),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() throws Exception {
+        MatcherAssert.assertThat(
+            new SessionToken(SessionTokenTest.SECRET, Duration.ofHours(1)).user(
+                new SessionToken("another".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1))
+                    .issue("mark")
+            ),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "616c696365.abc.def", "zz.99999999999.00", "..."})
+    void rejectsMalformedToken(final String token) throws Exception {
+        MatcherAssert.assertThat(
+            new SessionToken(SessionTokenTest.SECRET, Duration.ofHours(1)).user(token),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+}
@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import javax.json.Json;
 import javax.json.JsonObjectBuilder;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -156,4 +157,35 @@ final class AddUpdateUserSliceTest {
         return Flowable.fromArray(ByteBuffer.wrap(json.build().toString().getBytes()));
     }
 
+    @ParameterizedTest
+    @EnumSource(value = RqMethod.class, names = {"PUT", "POST"})
+    void returnsConflictIfUserWasChanged(final RqMethod rqmeth) {
+        final String username = "nick";
+        final Users users = new FakeUsers(
+            new Users.User(username, Optional.of("nick@example.com"), new SetOf<>("readers"))
+        );
+        MatcherAssert.assertThat(
+            new AddUpdateUserSlice(users),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.CONFLICT),
+                new RequestLine(rqmeth, String.format("/api/security/users/%s", username)),
+                new Headers.From(
+                    "If-Match",
+                    GetUserSlice.tag(
+                        new Users.User(username, Optional.of("old@example.com"), Set.of())
+                    ).value()
+                ),
+                new Content.From(
+                    Json.createObjectBuilder()
+                        .add("password", "secret")
+                        .add("email", "new@example.com")
+                        .build().toString().getBytes(StandardCharsets.UTF_8)
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            users.get(username).toCompletableFuture().join().get().email().get(),
+            new IsEqual<>("nick@example.com")
+        );
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.fs.FileStorage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import javax.json.Json;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link FileInfo}.
+ * @since 0.7
+ */
+final class FileInfoTest {
+
+    /**
+     * Item key.
+     */
+    private static final Key KEY = new Key.From("com/example/lib.jar");
+
+    /**
+     * Sidecar key.
+     */
+    private static final Key SIDECAR = new Key.From(FileInfo.SIDECARS, FileInfoTest.KEY);
+
+    @Test
+    void computesChecksums(@TempDir final Path dir) {
+        final Storage storage = new FileStorage(dir);
+        storage.save(FileInfoTest.KEY, new Content.From("hello".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        final JsonObject json = new FileInfo(storage, FileInfoTest.KEY).json("my-repo")
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Returns checksums",
+            json.getJsonObject("checksums"),
+            new IsEqual<>(
+                Json.createObjectBuilder()
+                    .add("sha1", "aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d")
+                    .add("md5", "5d41402abc4b2a76b9719d911017c592")
+                    .add(
+                        "sha256",
+                        "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824"
+                    ).build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "Returns size and path",
+            String.format(
+                "%s %s %s", json.getString("size"), json.getString("path"), json.getString("repo")
+            ),
+            new IsEqual<>("5 /com/example/lib.jar my-repo")
+        );
+        MatcherAssert.assertThat(
+            "Saves sidecar",
+            storage.exists(FileInfoTest.SIDECAR).join(),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void readsChecksumsFromSidecar(@TempDir final Path dir) {
+        final Storage storage = new FileStorage(dir);
+        storage.save(FileInfoTest.KEY, new Content.From("hello".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        storage.save(
+            FileInfoTest.SIDECAR,
+            new Content.From(
+                Json.createObjectBuilder()
+                    .add("size", 5)
+                    .add(
+                        "modified",
+                        storage.metadata(FileInfoTest.KEY).join().read(Meta.OP_UPDATED_AT)
+                            .map(Instant.class::cast).map(Instant::toString).get()
+                    )
+                    .add("md5", "1").add("sha1", "2").add("sha256", "3")
+                    .build().toString().getBytes(StandardCharsets.UTF_8)
+            )
+        ).join();
+        MatcherAssert.assertThat(
+            new FileInfo(storage, FileInfoTest.KEY).json("my-repo").toCompletableFuture().join()
+                .getJsonObject("checksums").getString("sha1"),
+            new IsEqual<>("2")
+        );
+    }
+
+    @Test
+    void recomputesChecksumsWhenContentChanged() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(FileInfoTest.KEY, new Content.From("hello".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        new FileInfo(storage, FileInfoTest.KEY).json("my-repo").toCompletableFuture().join();
+        storage.save(FileInfoTest.KEY, new Content.From("hello!".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        MatcherAssert.assertThat(
+            new FileInfo(storage, FileInfoTest.KEY).json("my-repo").toCompletableFuture().join()
+                .getJsonObject("checksums").getString("md5"),
+            new IsEqual<>("5a8dd3ad0756a93ded72b823b19dd877")
+        );
+    }
+
+    @Test
+    void recomputesChecksumsWhenContentOfSameSizeChanged() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(FileInfoTest.KEY, new Content.From("hello".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        new FileInfo(storage, FileInfoTest.KEY).json("my-repo").toCompletableFuture().join();
+        storage.save(FileInfoTest.KEY, new Content.From("world".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        MatcherAssert.assertThat(
+            new FileInfo(storage, FileInfoTest.KEY).json("my-repo").toCompletableFuture().join()
+                .getJsonObject("checksums").getString("md5"),
+            new IsEqual<>("7d793037a0760186574b0282f2f435e7")
+        );
+    }
+
+    @Test
+    void ignoresSidecarWithoutModificationTime() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(FileInfoTest.KEY, new Content.From("hello".getBytes(StandardCharsets.UTF_8)))
+            .join();
+        storage.save(
+            FileInfoTest.SIDECAR,
+            new Content.From(
+                "{\"size\":5,\"md5\":\"1\",\"sha1\":\"2\",\"sha256\":\"3\"}"
+                    .getBytes(StandardCharsets.UTF_8)
+            )
+        ).join();
+        MatcherAssert.assertThat(
+            new FileInfo(storage, FileInfoTest.KEY).json("my-repo").toCompletableFuture().join()
+                .getJsonObject("checksums").getString("sha1"),
+            new IsEqual<>("aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d")
+        );
+    }
+}
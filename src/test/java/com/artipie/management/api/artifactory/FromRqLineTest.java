@@ -4,6 +4,7 @@
  */
 package com.artipie.management.api.artifactory;
 
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -60,4 +61,24 @@ final class FromRqLineTest {
             new IsEqual<>(docker)
         );
     }
+
+    @Test
+    void shouldReturnVarsFromRqLine() {
+        MatcherAssert.assertThat(
+            new FromRqLine(
+                "DELETE /api/security/users/jane HTTP/1.1", FromRqLine.RqPattern.USER
+            ).vars(),
+            new IsEqual<>(Map.of("username", "jane"))
+        );
+    }
+
+    @Test
+    void shouldReturnEmptyVarsForBadRqLine() {
+        MatcherAssert.assertThat(
+            new FromRqLine(
+                "GET /api/security/permissions/a/b HTTP/1.1", FromRqLine.RqPattern.REPO
+            ).vars().isEmpty(),
+            new IsEqual<>(true)
+        );
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.management.FakeConfigFile;
+import com.artipie.management.usage.StorageUsage;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link GetStorageInfoSlice}.
+ * @since 0.7
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class GetStorageInfoSliceTest {
+
+    @Test
+    void returnsRepositoriesAndUsersUsage() {
+        final Storage settings = new InMemoryStorage();
+        settings.save(new Key.From("bob", "bin.yaml"), Content.EMPTY).join();
+        settings.save(new Key.From("bob", "docs.yml"), Content.EMPTY).join();
+        settings.save(new Key.From("maven.yaml"), Content.EMPTY).join();
+        settings.save(new Key.From("_credentials.yaml"), Content.EMPTY).join();
+        final Map<String, Storage> repos = Map.of(
+            "bob/bin", GetStorageInfoSliceTest.storage("abc", "de"),
+            "bob/docs", GetStorageInfoSliceTest.storage("hello"),
+            "maven", GetStorageInfoSliceTest.storage()
+        );
+        MatcherAssert.assertThat(
+            new GetStorageInfoSlice(
+                settings,
+                new FakeConfigFile(settings),
+                new StorageUsage(
+                    name -> CompletableFuture.completedFuture(repos.get(name)), settings
+                )
+            ),
+            new SliceHasResponse(
+                new RsHasBody(
+                    Json.createObjectBuilder()
+                        .add(
+                            "repositoriesSummaryList",
+                            Json.createArrayBuilder()
+                                .add(GetStorageInfoSliceTest.summary("repoKey", "bob/bin", 2, 5))
+                                .add(GetStorageInfoSliceTest.summary("repoKey", "bob/docs", 1, 5))
+                                .add(GetStorageInfoSliceTest.summary("repoKey", "maven", 0, 0))
+                                .add(GetStorageInfoSliceTest.summary("repoKey", "TOTAL", 3, 10))
+                        ).add(
+                            "usersSummaryList",
+                            Json.createArrayBuilder()
+                                .add(GetStorageInfoSliceTest.summary("user", "bob", 3, 10))
+                        ).build().toString(),
+                    StandardCharsets.UTF_8
+                ),
+                new RequestLine(RqMethod.GET, "/api/storageinfo")
+            )
+        );
+    }
+
+    private static Storage storage(final String... files) {
+        final Storage storage = new InMemoryStorage();
+        for (int idx = 0; idx < files.length; ++idx) {
+            storage.save(
+                new Key.From(String.format("file%d", idx)),
+                new Content.From(files[idx].getBytes(StandardCharsets.UTF_8))
+            ).join();
+        }
+        return storage;
+    }
+
+    private static JsonObjectBuilder summary(final String field, final String name,
+        final long files, final long bytes) {
+        return Json.createObjectBuilder()
+            .add(field, name)
+            .add("filesCount", files)
+            .add("usedSpaceInBytes", bytes);
+    }
+}
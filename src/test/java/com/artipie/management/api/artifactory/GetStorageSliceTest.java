@@ -7,7 +7,9 @@ package com.artipie.management.api.artifactory;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
@@ -16,18 +18,29 @@ import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.management.IsJson;
 import com.artipie.management.Storages;
+import io.reactivex.Flowable;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonObject;
 import javax.json.JsonValue;
 import org.cactoos.map.MapEntry;
 import org.cactoos.map.MapOf;
 import org.hamcrest.Matcher;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import wtf.g4s8.hamcrest.json.JsonContains;
 import wtf.g4s8.hamcrest.json.JsonHas;
 import wtf.g4s8.hamcrest.json.JsonValueIs;
@@ -81,6 +94,175 @@ class GetStorageSliceTest {
         );
     }
 
+    @Test
+    void returnsPagesWithContinuationToken() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("dir/a"), Content.EMPTY).join();
+        storage.save(new Key.From("dir/b/1"), Content.EMPTY).join();
+        storage.save(new Key.From("dir/c"), Content.EMPTY).join();
+        final GetStorageSlice slice = new GetStorageSlice(
+            new Storages.Fake(storage), PATTERNS.get("flat")
+        );
+        final String token = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("b".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "First page has continuation token",
+            slice,
+            new SliceHasResponse(
+                new RsHasBody(
+                    new IsJson(
+                        new AllOf<>(
+                            Arrays.asList(
+                                new JsonHas(
+                                    "files",
+                                    new JsonContains(
+                                        this.entryMatcher("/dir/a", "false"),
+                                        this.entryMatcher("/dir/b", "true")
+                                    )
+                                ),
+                                new JsonHas("continuationToken", new JsonValueIs(token))
+                            )
+                        )
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/api/storage/my-lib/dir?limit=2")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Last page has no continuation token",
+            slice,
+            new SliceHasResponse(
+                new RsHasBody(
+                    new IsJson(
+                        new IsEqual<>(
+                            Json.createObjectBuilder().add(
+                                "files",
+                                Json.createArrayBuilder().add(
+                                    Json.createObjectBuilder()
+                                        .add("uri", "/dir/c").add("folder", "false")
+                                )
+                            ).add("repo", "my-lib").add("path", "/dir").build()
+                        )
+                    )
+                ),
+                new RequestLine(
+                    RqMethod.GET,
+                    String.format("/api/storage/my-lib/dir?limit=2&continuationToken=%s", token)
+                )
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"limit=0", "limit=abc", "continuationToken=a.b"})
+    void returnsBadRequestOnInvalidParams(final String query) {
+        MatcherAssert.assertThat(
+            new GetStorageSlice(new Storages.Fake(this.example()), PATTERNS.get("flat")),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.BAD_REQUEST),
+                new RequestLine(RqMethod.GET, String.format("/api/storage/my-lib/foo?%s", query))
+            )
+        );
+    }
+
+    @Test
+    void returnsFileInfo() {
+        MatcherAssert.assertThat(
+            new GetStorageSlice(new Storages.Fake(this.example()), PATTERNS.get("flat")),
+            new SliceHasResponse(
+                new RsHasBody(
+                    new IsJson(
+                        new AllOf<>(
+                            Arrays.asList(
+                                new JsonHas("path", new JsonValueIs("/foo/3")),
+                                new JsonHas("size", new JsonValueIs("0")),
+                                new JsonHas(
+                                    "checksums",
+                                    new JsonHas(
+                                        "md5", new JsonValueIs("d41d8cd98f00b204e9800998ecf8427e")
+                                    )
+                                )
+                            )
+                        )
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/api/storage/my-lib/foo/3")
+            )
+        );
+    }
+
+    @Test
+    void returnsFolderChildrenCounts() {
+        MatcherAssert.assertThat(
+            new GetStorageSlice(new Storages.Fake(this.example()), PATTERNS.get("flat")),
+            new SliceHasResponse(
+                new RsHasBody(
+                    new IsJson(
+                        new AllOf<>(
+                            Arrays.asList(
+                                new JsonHas("path", new JsonValueIs("/foo")),
+                                new JsonHas("filesCount", new JsonValueIs("1")),
+                                new JsonHas("foldersCount", new JsonValueIs("1"))
+                            )
+                        )
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/api/storage/my-lib/foo")
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "list,/3",
+        "list&deep=1,/3;/bar/1;/bar/baz/2",
+        "list&deep=1&listFolders=1,/3;/bar;/bar/1;/bar/baz;/bar/baz/2",
+        "list&deep=1&depth=2&listFolders=1,/3;/bar;/bar/1;/bar/baz",
+        "list&listFolders=1,/3;/bar"
+    })
+    void returnsFileList(final String query, final String uris) {
+        final CompletableFuture<String> json = new CompletableFuture<>();
+        new GetStorageSlice(new Storages.Fake(this.example()), PATTERNS.get("flat")).response(
+            new RequestLine(RqMethod.GET, String.format("/api/storage/my-lib/foo?%s", query))
+                .toString(),
+            Headers.EMPTY,
+            Flowable.empty()
+        ).send(
+            (status, headers, body) -> new PublisherAs(body).asciiString()
+                .thenAccept(json::complete)
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            Json.createReader(new StringReader(json.join())).readObject()
+                .getJsonArray("files").getValuesAs(JsonObject.class).stream()
+                .map(item -> item.getString("uri"))
+                .collect(Collectors.joining(";")),
+            new IsEqual<>(uris)
+        );
+    }
+
+    @Test
+    void returnsFileListAsNdJson() {
+        MatcherAssert.assertThat(
+            new GetStorageSlice(new Storages.Fake(this.example()), PATTERNS.get("flat")),
+            new SliceHasResponse(
+                new RsHasBody(
+                    String.join(
+                        "\n",
+                        "{\"uri\":\"/3\",\"size\":0,\"folder\":false,\"mdTimestamps\":{}}",
+                        "{\"uri\":\"/bar\",\"size\":-1,\"folder\":true}",
+                        ""
+                    ),
+                    StandardCharsets.UTF_8
+                ),
+                new RequestLine(
+                    RqMethod.GET, "/api/storage/my-lib/foo?list&listFolders=1&mdTimestamps=1"
+                ),
+                new Headers.From("Accept", "application/x-ndjson"),
+                Content.EMPTY
+            )
+        );
+    }
+
     private Matcher<? extends JsonValue> entryMatcher(final String uri, final String folder) {
         return new AllOf<>(
             Arrays.asList(
@@ -4,7 +4,11 @@
  */
 package com.artipie.management.api.artifactory;
 
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
@@ -12,8 +16,10 @@ import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.management.FakeUsers;
 import com.artipie.management.Users;
+import com.artipie.management.api.EntityTag;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import javax.json.Json;
@@ -108,4 +114,29 @@ class GetUserSliceTest {
         );
     }
 
+    @Test
+    void returnsNotModifiedForMatchingTag() {
+        final String username = "alice";
+        final String tag = new EntityTag(
+            List.of(username, String.format("%s@artipie.com", username), "readers")
+        ).value();
+        MatcherAssert.assertThat(
+            new GetUserSlice(
+                new FakeUsers(new Users.User(username, Optional.empty(), Set.of("readers")))
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasStatus(RsStatus.NOT_MODIFIED),
+                    new RsHasHeaders(
+                        new Header("ETag", tag),
+                        new Header("Cache-Control", "private, no-cache")
+                    )
+                ),
+                new RequestLine(RqMethod.GET, String.format("/api/security/users/%s", username)),
+                new Headers.From("If-None-Match", tag),
+                Content.EMPTY
+            )
+        );
+    }
+
 }
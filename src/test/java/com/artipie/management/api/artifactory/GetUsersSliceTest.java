@@ -6,16 +6,25 @@ package com.artipie.management.api.artifactory;
 
 import com.amihaiemil.eoyaml.Yaml;
 import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.http.headers.Header;
 import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
 import com.artipie.management.FakeUsers;
+import com.artipie.management.api.EntityTag;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import javax.json.Json;
 import javax.json.JsonObject;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for {@link GetUsersSlice}.
@@ -56,6 +65,74 @@ class GetUsersSliceTest {
         );
     }
 
+    @Test
+    void returnsUsersPageWithNextLink() {
+        MatcherAssert.assertThat(
+            new GetUsersSlice(
+                new FakeUsers("carol", "alice", "bob", "anna"),
+                GetUsersSliceTest.META
+            ),
+            new SliceHasResponse(
+                Matchers.allOf(
+                    new RsHasBody(
+                        Json.createArrayBuilder()
+                            .add(this.getUserJson("alice"))
+                            .add(this.getUserJson("anna"))
+                            .build().toString().getBytes(StandardCharsets.UTF_8)
+                    ),
+                    new RsHasHeaders(
+                        new Header(
+                            "Link",
+                            String.format(
+                                "<%sapi/security/users?limit=2&after=anna>; rel=\"next\"",
+                                GetUsersSliceTest.BASE
+                            )
+                        ),
+                        new Header("Content-Type", "application/json; charset=UTF-8"),
+                        new Header(
+                            "ETag",
+                            new EntityTag(
+                                List.of("http://artipie.com", "alice", "anna", "bob")
+                            ).value()
+                        ),
+                        new Header("Cache-Control", "private, no-cache")
+                    )
+                ),
+                new RequestLine(RqMethod.GET, "/api/security/users?limit=2")
+            )
+        );
+    }
+
+    @Test
+    void returnsFilteredLastPage() {
+        MatcherAssert.assertThat(
+            new GetUsersSlice(
+                new FakeUsers("carol", "alice", "bob", "anna"),
+                GetUsersSliceTest.META
+            ),
+            new SliceHasResponse(
+                new RsHasBody(
+                    Json.createArrayBuilder()
+                        .add(this.getUserJson("anna"))
+                        .build().toString().getBytes(StandardCharsets.UTF_8)
+                ),
+                new RequestLine(RqMethod.GET, "/api/security/users?limit=2&after=alice&prefix=a")
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "ten"})
+    void returnsBadRequestOnInvalidLimit(final String limit) {
+        MatcherAssert.assertThat(
+            new GetUsersSlice(new FakeUsers("alice"), GetUsersSliceTest.META),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.BAD_REQUEST),
+                new RequestLine(RqMethod.GET, String.format("/api/security/users?limit=%s", limit))
+            )
+        );
+    }
+
     private JsonObject getUserJson(final String user) {
         return Json.createObjectBuilder()
             .add("name", user)
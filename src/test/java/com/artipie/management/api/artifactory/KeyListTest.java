@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.api.artifactory;
+
+import com.artipie.asto.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link KeyList}.
+ * @since 0.7
+ */
+final class KeyListTest {
+
+    @Test
+    void printsDirectChildrenSorted() {
+        final KeyList keys = new KeyList(new Key.From("foo"));
+        keys.add(new Key.From("foo/bar/baz/1"));
+        keys.add(new Key.From("foo/b"));
+        keys.add(new Key.From("foo/bar/2"));
+        keys.add(new Key.From("foo/a/3"));
+        keys.add(new Key.From("foobar/4"));
+        MatcherAssert.assertThat(
+            keys.print(new Lines()),
+            new IsEqual<>(List.of("foo/a true", "foo/b false", "foo/bar true"))
+        );
+    }
+
+    @Test
+    void printsRootChildren() {
+        final KeyList keys = new KeyList(Key.ROOT);
+        keys.add(new Key.From("one/two"));
+        keys.add(new Key.From("three"));
+        keys.add("four", true);
+        MatcherAssert.assertThat(
+            keys.print(new Lines()),
+            new IsEqual<>(List.of("four true", "one true", "three false"))
+        );
+    }
+
+    @Test
+    void keepsFolderFlagOfChild() {
+        final KeyList keys = new KeyList(new Key.From("root"));
+        keys.add("dir", true);
+        keys.add("dir", false);
+        MatcherAssert.assertThat(
+            keys.print(new Lines()),
+            new IsEqual<>(List.of("root/dir true"))
+        );
+    }
+
+    @Test
+    void keepsOnlyPageOfChildren() {
+        final KeyList keys = new KeyList(Key.ROOT, Optional.of("b"), 2);
+        keys.add(new Key.From("e"));
+        keys.add(new Key.From("a"));
+        keys.add(new Key.From("d/1"));
+        keys.add(new Key.From("b"));
+        keys.add(new Key.From("c"));
+        keys.add(new Key.From("d"));
+        MatcherAssert.assertThat(
+            "Prints page of children after the last child of previous page",
+            keys.print(new Lines()),
+            new IsEqual<>(List.of("c false", "d true"))
+        );
+        MatcherAssert.assertThat(
+            "Returns the last printed child",
+            keys.next(),
+            new IsEqual<>(Optional.of("d"))
+        );
+    }
+
+    /**
+     * Key list format as lines.
+     * @since 0.7
+     */
+    private static final class Lines implements KeyList.KeysFormat<List<String>> {
+
+        /**
+         * Lines.
+         */
+        private final List<String> lines = new ArrayList<>(3);
+
+        @Override
+        public void add(final Key item, final boolean parent) {
+            this.lines.add(String.format("%s %s", item.string(), parent));
+        }
+
+        @Override
+        public List<String> result() {
+            return this.lines;
+        }
+    }
+}
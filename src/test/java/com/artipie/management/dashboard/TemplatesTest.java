@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.dashboard;
+
+import com.github.jknack.handlebars.io.FileTemplateLoader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link Templates}.
+ * @since 0.7
+ */
+final class TemplatesTest {
+
+    @Test
+    void sharesCompiledTemplate(@TempDir final Path dir) throws IOException {
+        TemplatesTest.write(dir, "repo", "{{name}}", 0);
+        final Templates templates = new Templates(TemplatesTest.loader(dir));
+        MatcherAssert.assertThat(
+            templates.template("repo"),
+            new IsSame<>(templates.template("repo"))
+        );
+    }
+
+    @Test
+    void registersEqHelper(@TempDir final Path dir) throws IOException {
+        TemplatesTest.write(dir, "user", "{{#eq type \"maven\"}}yes{{else}}no{{/eq}}", 0);
+        MatcherAssert.assertThat(
+            new Templates(TemplatesTest.loader(dir)).template("user")
+                .apply(Map.of("type", "maven")),
+            new IsEqual<>("yes")
+        );
+    }
+
+    @Test
+    void recompilesChangedTemplateInReloadMode(@TempDir final Path dir) throws IOException {
+        TemplatesTest.write(dir, "sorry", "first", 0);
+        final Templates templates = new Templates(TemplatesTest.loader(dir), true);
+        MatcherAssert.assertThat(
+            "First version was not rendered",
+            templates.template("sorry").apply(Map.of()),
+            new IsEqual<>("first")
+        );
+        TemplatesTest.write(dir, "sorry", "second", 1);
+        MatcherAssert.assertThat(
+            "Changed version was not rendered",
+            templates.template("sorry").apply(Map.of()),
+            new IsEqual<>("second")
+        );
+    }
+
+    @Test
+    void compilesTemplateOnFirstRequest(@TempDir final Path dir) throws IOException {
+        TemplatesTest.write(dir, "repo", "{{name}}", 0);
+        final Templates templates = new Templates(TemplatesTest.loader(dir));
+        MatcherAssert.assertThat(
+            "Existing template was not compiled",
+            templates.template("repo").apply(Map.of("name", "bin")),
+            new IsEqual<>("bin")
+        );
+        Assertions.assertThrows(
+            UncheckedIOException.class,
+            () -> templates.template("base"),
+            "Missing template was compiled"
+        );
+    }
+
+    /**
+     * Template loader from directory.
+     * @param dir Directory
+     * @return Template loader
+     */
+    private static FileTemplateLoader loader(final Path dir) {
+        return new FileTemplateLoader(dir.toFile(), ".hbs");
+    }
+
+    /**
+     * Write template source.
+     * @param dir Templates directory
+     * @param name Template name
+     * @param source Template source
+     * @param version Source version, newer versions are modified later
+     * @throws IOException On error
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void write(final Path dir, final String name, final String source,
+        final int version) throws IOException {
+        final Path file = dir.resolve(String.format("%s.hbs", name));
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(
+            file, FileTime.from(TimeUnit.MINUTES.toMillis(version + 1), TimeUnit.MILLISECONDS)
+        );
+    }
+}
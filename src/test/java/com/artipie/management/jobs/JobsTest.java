@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.jobs;
+
+import java.util.concurrent.CompletableFuture;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Jobs}.
+ * @since 0.7
+ */
+final class JobsTest {
+
+    @Test
+    void runsJobWithProgress() {
+        final Jobs jobs = new Jobs();
+        final Job job = jobs.start(
+            "test", "repo",
+            started -> {
+                started.total(2L);
+                started.progress();
+                return CompletableFuture.allOf();
+            }
+        );
+        job.finished().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            jobs.job(job.id()).get().json(),
+            new IsEqual<>(
+                Json.createObjectBuilder()
+                    .add("id", job.id())
+                    .add("type", "test")
+                    .add("target", "repo")
+                    .add("status", "done")
+                    .add("done", 1)
+                    .add("total", 2)
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void reportsFailure() {
+        final Job job = new Jobs(Runnable::run).start(
+            "test", "repo",
+            started -> CompletableFuture.failedFuture(new IllegalStateException("broken"))
+        );
+        MatcherAssert.assertThat(
+            job.finished().toCompletableFuture().join().json().getString("error"),
+            new IsEqual<>("java.lang.IllegalStateException: broken")
+        );
+    }
+
+    @Test
+    void returnsEmptyForUnknownJob() {
+        MatcherAssert.assertThat(
+            new Jobs().job("unknown").isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+}
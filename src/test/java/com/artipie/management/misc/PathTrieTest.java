@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.misc;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link PathTrie}.
+ * @since 0.7
+ */
+final class PathTrieTest {
+
+    /**
+     * Trie for tests.
+     */
+    private static final PathTrie<String> TRIE = new PathTrie<>(
+        List.of(
+            new AbstractMap.SimpleImmutableEntry<>("/api/security/users", "users"),
+            new AbstractMap.SimpleImmutableEntry<>("/api/security/users/{name}", "user"),
+            new AbstractMap.SimpleImmutableEntry<>("/api/security/users/me", "me"),
+            new AbstractMap.SimpleImmutableEntry<>("/api/repositories/**", "repos"),
+            new AbstractMap.SimpleImmutableEntry<>("/api/{repo}/files/**", "files")
+        )
+    );
+
+    @ParameterizedTest
+    @CsvSource({
+        "/api/security/users,users",
+        "/api/security/users/alice,user",
+        "/api/security/users/me,me",
+        "/api/repositories/,repos",
+        "/api/repositories/my/repo,repos",
+        "/api/maven/files/a/b.jar,files",
+        "/api/repositories/files/,repos"
+    })
+    void matchesPath(final String path, final String value) {
+        MatcherAssert.assertThat(
+            "Matches",
+            TRIE.matches(path),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Resolves value",
+            TRIE.match(path).get().value(),
+            new IsEqual<>(value)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "''",
+        "/",
+        "/api",
+        "/api/security/users/",
+        "/api/security/users/a.b",
+        "/api/security/users/alice/x",
+        "/api/repositories",
+        "/api/security/userss"
+    })
+    void doesNotMatchPath(final String path) {
+        MatcherAssert.assertThat(
+            "Does not match",
+            TRIE.matches(path),
+            new IsEqual<>(false)
+        );
+        MatcherAssert.assertThat(
+            "Empty match",
+            TRIE.match(path).isPresent(),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void resolvesVariables() {
+        final PathTrie.Match<String> match = TRIE.match("/api/maven/files/com/a.jar").get();
+        MatcherAssert.assertThat(
+            "Returns template",
+            match.template(),
+            new IsEqual<>("/api/{repo}/files/**")
+        );
+        MatcherAssert.assertThat(
+            "Returns variables",
+            match.vars(),
+            new IsEqual<>(Map.of("repo", "maven", "**", "com/a.jar"))
+        );
+    }
+
+    @Test
+    void failsOnConflictingTemplates() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PathTrie<>(
+                List.of(
+                    new AbstractMap.SimpleImmutableEntry<>("/users/{name}", 1),
+                    new AbstractMap.SimpleImmutableEntry<>("/users/{id}", 2)
+                )
+            )
+        );
+    }
+}
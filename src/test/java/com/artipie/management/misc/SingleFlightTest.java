@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.misc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link SingleFlight}.
+ * @since 0.7
+ */
+final class SingleFlightTest {
+
+    @Test
+    void sharesLoadInFlight() {
+        final SingleFlight<String, Integer> flight = new SingleFlight<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final CompletableFuture<Integer> value = new CompletableFuture<>();
+        final CompletionStage<Integer> first = flight.load(
+            "key", () -> {
+                loads.incrementAndGet();
+                return value;
+            }
+        );
+        final CompletionStage<Integer> second = flight.load(
+            "key", () -> {
+                loads.incrementAndGet();
+                return CompletableFuture.completedFuture(2);
+            }
+        );
+        value.complete(1);
+        MatcherAssert.assertThat(
+            "Second caller should get result of the first load",
+            second.toCompletableFuture().join(),
+            new IsEqual<>(first.toCompletableFuture().join())
+        );
+        MatcherAssert.assertThat(
+            "Value should be loaded once",
+            loads.get(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void startsNewLoadAfterCompletion() {
+        final SingleFlight<String, Integer> flight = new SingleFlight<>();
+        flight.load("one", () -> CompletableFuture.completedFuture(1))
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            flight.load("one", () -> CompletableFuture.completedFuture(2))
+                .toCompletableFuture().join(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void startsNewLoadAfterFailure() {
+        final SingleFlight<String, Integer> flight = new SingleFlight<>();
+        flight.load(
+            "two", () -> CompletableFuture.failedFuture(new IllegalStateException("Failed"))
+        ).handle((val, err) -> val).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            flight.load("two", () -> CompletableFuture.completedFuture(2))
+                .toCompletableFuture().join(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void startsNewLoadAfterForget() {
+        final SingleFlight<String, Integer> flight = new SingleFlight<>();
+        flight.load("three", CompletableFuture::new);
+        flight.forget("three");
+        MatcherAssert.assertThat(
+            flight.load("three", () -> CompletableFuture.completedFuture(3))
+                .toCompletableFuture().join(),
+            new IsEqual<>(3)
+        );
+    }
+}
@@ -5,9 +5,11 @@
 package com.artipie.management.misc;
 
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.apache.http.client.utils.URIBuilder;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -50,4 +52,65 @@ final class ValueFromBodyTest {
             new IsEqual<>(val)
         );
     }
+
+    @Test
+    void decodesEscapedValue() {
+        MatcherAssert.assertThat(
+            new ValueFromBody("config=repo%3A%0A++type%3A+maven%20%E2%9C%93")
+                .byName("config").get(),
+            new IsEqual<>("repo:\n  type: maven \u2713")
+        );
+    }
+
+    @Test
+    void keepsInvalidEscape() {
+        MatcherAssert.assertThat(
+            new ValueFromBody("key=100%25+%zz%4").byName("key").get(),
+            new IsEqual<>("100% %zz%4")
+        );
+    }
+
+    @Test
+    void returnsLastOfRepeatedValues() {
+        final ValueFromBody vals = new ValueFromBody("key=one;other=two&key=three&flag");
+        MatcherAssert.assertThat(
+            "Returns last value",
+            vals.byName("key").get(),
+            new IsEqual<>("three")
+        );
+        MatcherAssert.assertThat(
+            "Returns all values",
+            vals.values("key"),
+            Matchers.contains("one", "three")
+        );
+        MatcherAssert.assertThat(
+            "Returns empty value of name without value",
+            vals.byName("flag").get(),
+            new IsEqual<>("")
+        );
+    }
+
+    @Test
+    void readsValuesFromBufferRemaining() {
+        final ByteBuffer buf = ByteBuffer.wrap(
+            "ignored&action=update&repo=my-maven".getBytes(StandardCharsets.US_ASCII)
+        );
+        buf.position(8);
+        final ValueFromBody vals = new ValueFromBody(buf.slice());
+        MatcherAssert.assertThat(
+            "Reads values",
+            vals.byName("repo").get(),
+            new IsEqual<>("my-maven")
+        );
+        MatcherAssert.assertThat(
+            "Returns payload",
+            vals.payload(),
+            new IsEqual<>("action=update&repo=my-maven")
+        );
+        MatcherAssert.assertThat(
+            "Doesn't read buffer",
+            buf.position(),
+            new IsEqual<>(8)
+        );
+    }
 }
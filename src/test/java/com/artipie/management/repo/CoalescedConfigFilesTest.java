@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.management.ConfigFiles;
+import com.artipie.management.FakeConfigFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CoalescedConfigFiles}.
+ * @since 0.7
+ */
+final class CoalescedConfigFilesTest {
+
+    @Test
+    void givesEachCallerWholeContent() {
+        final Storage storage = new InMemoryStorage();
+        storage.save(new Key.From("bob/bin.yml"), new Content.From("repo: {}".getBytes()))
+            .join();
+        final ConfigFiles configs = new CoalescedConfigFiles(new FakeConfigFile(storage));
+        final CompletionStage<Content> first = configs.value(new Key.From("bob/bin.yaml"));
+        final CompletionStage<Content> second = configs.value(new Key.From("bob/bin.yml"));
+        MatcherAssert.assertThat(
+            "First caller should read config",
+            CoalescedConfigFilesTest.text(first),
+            new IsEqual<>("repo: {}")
+        );
+        MatcherAssert.assertThat(
+            "Second caller should read config",
+            CoalescedConfigFilesTest.text(second),
+            new IsEqual<>("repo: {}")
+        );
+    }
+
+    @Test
+    void readsSavedConfig() {
+        final ConfigFiles configs = new CoalescedConfigFiles(
+            new FakeConfigFile(new InMemoryStorage())
+        );
+        final Key key = new Key.From("alice/maven.yaml");
+        MatcherAssert.assertThat(
+            "Config should be absent before save",
+            configs.valueIfExists(key).toCompletableFuture().join(),
+            new IsEqual<>(Optional.empty())
+        );
+        configs.save(key, new Content.From("repo: {type: maven}".getBytes())).join();
+        MatcherAssert.assertThat(
+            "Config should be read after save",
+            CoalescedConfigFilesTest.text(configs.value(key)),
+            new IsEqual<>("repo: {type: maven}")
+        );
+    }
+
+    private static String text(final CompletionStage<Content> content) {
+        return content.thenCompose(val -> new PublisherAs(val).string(StandardCharsets.UTF_8))
+            .toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.management.jobs.Job;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.collection.IsEmptyCollection;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link DeleteRepo}.
+ * @since 0.7
+ */
+final class DeleteRepoTest {
+
+    @Test
+    void deletesAllItemsWithProgress() {
+        final Storage storage = new InMemoryStorage();
+        for (int idx = 0; idx < 5; ++idx) {
+            storage.save(new Key.From("dir", String.format("%d.txt", idx)), Content.EMPTY)
+                .join();
+        }
+        final Job job = new Job("1", "repo-delete", "bin");
+        new DeleteRepo(2, 10).delete(storage, job).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Items were not deleted",
+            storage.list(Key.ROOT).join(),
+            new IsEmptyCollection<>()
+        );
+        MatcherAssert.assertThat(
+            "Progress was not reported",
+            job.json().getInt("done"),
+            new IsEqual<>(5)
+        );
+    }
+
+    @Test
+    void deletesEmptyStorage() {
+        final Job job = new Job("2", "repo-delete", "empty");
+        new DeleteRepo().delete(new InMemoryStorage(), job).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            job.json().getInt("total"),
+            new IsEqual<>(0)
+        );
+    }
+
+    @Test
+    void keepsItemsAddedAfterListing() {
+        final Storage storage = new InMemoryStorage();
+        final Key old = new Key.From("old.txt");
+        final Key added = new Key.From("new.txt");
+        storage.save(old, Content.EMPTY).join();
+        new DeleteRepo().delete(
+            new AddingAfterList(storage, added), new Job("3", "repo-delete", "bin")
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            storage.list(Key.ROOT).join(),
+            Matchers.contains(added)
+        );
+    }
+
+    /**
+     * Storage which saves an item right after listing, like upload to new repository
+     * with the same name.
+     * @since 0.7
+     */
+    private static final class AddingAfterList implements Storage {
+
+        /**
+         * Origin storage.
+         */
+        private final Storage origin;
+
+        /**
+         * Item to add.
+         */
+        private final Key added;
+
+        /**
+         * Ctor.
+         * @param origin Origin storage
+         * @param added Item to add
+         */
+        AddingAfterList(final Storage origin, final Key added) {
+            this.origin = origin;
+            this.added = added;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> exists(final Key key) {
+            return this.origin.exists(key);
+        }
+
+        @Override
+        public CompletableFuture<Collection<Key>> list(final Key prefix) {
+            return this.origin.list(prefix).thenCompose(
+                keys -> this.origin.save(this.added, Content.EMPTY).thenApply(nothing -> keys)
+            );
+        }
+
+        @Override
+        public CompletableFuture<Void> save(final Key key, final Content content) {
+            return this.origin.save(key, content);
+        }
+
+        @Override
+        public CompletableFuture<Void> move(final Key source, final Key destination) {
+            return this.origin.move(source, destination);
+        }
+
+        @Override
+        public CompletableFuture<? extends Meta> metadata(final Key key) {
+            return this.origin.metadata(key);
+        }
+
+        @Override
+        public CompletableFuture<Content> value(final Key key) {
+            return this.origin.value(key);
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(final Key key) {
+            return this.origin.delete(key);
+        }
+
+        @Override
+        public <T> CompletionStage<T> exclusively(final Key key,
+            final Function<Storage, CompletionStage<T>> operation) {
+            return this.origin.exclusively(key, operation);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.repo;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.management.FakeConfigFile;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link RepoConfigCache}.
+ * @since 0.7
+ */
+final class RepoConfigCacheTest {
+
+    /**
+     * Config key.
+     */
+    private static final Key KEY = new Key.From("bob", "bin.yaml");
+
+    /**
+     * Settings storage.
+     */
+    private Storage storage;
+
+    /**
+     * Configs cache.
+     */
+    private RepoConfigCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = new InMemoryStorage();
+        this.cache = new RepoConfigCache(new FakeConfigFile(this.storage));
+    }
+
+    @Test
+    void projectsConfig() throws IOException {
+        this.save("file", "  settings:\n    key: value\n");
+        final RepoConfig config = this.config().get();
+        MatcherAssert.assertThat(
+            "API projection has settings",
+            Yaml.createYamlInput(StandardCharsets.UTF_8.decode(config.body()).toString())
+                .readYamlMapping().yamlMapping("repo").value("settings"),
+            new IsNull<>()
+        );
+        MatcherAssert.assertThat(
+            "Dashboard projection has no settings",
+            config.page().yamlMapping("repo").yamlMapping("settings").string("key"),
+            new IsEqual<>("value")
+        );
+    }
+
+    @Test
+    void readsCachedConfigUntilInvalidated() {
+        this.save("file", "");
+        this.config();
+        this.save("maven", "");
+        MatcherAssert.assertThat(
+            "Config was not cached",
+            this.type(),
+            new IsEqual<>("file")
+        );
+        this.cache.invalidate(new Key.From("bob", "bin.yml"));
+        MatcherAssert.assertThat(
+            "Config was not invalidated",
+            this.type(),
+            new IsEqual<>("maven")
+        );
+    }
+
+    @Test
+    void doesNotCacheAbsentConfig() {
+        this.config();
+        this.save("npm", "");
+        MatcherAssert.assertThat(this.type(), new IsEqual<>("npm"));
+    }
+
+    @Test
+    void hashesConfigContent() {
+        this.save("file", "");
+        MatcherAssert.assertThat(
+            this.config().get().hash().length(),
+            new IsEqual<>(64)
+        );
+    }
+
+    private Optional<RepoConfig> config() {
+        return this.cache.config(RepoConfigCacheTest.KEY).toCompletableFuture().join();
+    }
+
+    private String type() {
+        return this.config().get().api().yamlMapping("repo").string("type");
+    }
+
+    private void save(final String type, final String extra) {
+        this.storage.save(
+            RepoConfigCacheTest.KEY,
+            new Content.From(
+                String.format(
+                    String.join(
+                        "\n",
+                        "repo:", "  type: %s", "  storage: default", "  permissions:",
+                        "    bob:", "      - \"*\"", "%s"
+                    ),
+                    type, extra
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).join();
+    }
+}
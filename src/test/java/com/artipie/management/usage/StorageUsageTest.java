@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.management.Storages;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link StorageUsage}.
+ * @since 0.7
+ */
+final class StorageUsageTest {
+
+    /**
+     * Repository storage.
+     */
+    private Storage repo;
+
+    /**
+     * Settings storage.
+     */
+    private Storage settings;
+
+    @BeforeEach
+    void setUp() {
+        this.repo = new InMemoryStorage();
+        this.settings = new InMemoryStorage();
+        this.repo.save(new Key.From("a.txt"), StorageUsageTest.content("abc")).join();
+        this.repo.save(new Key.From("one", "b.txt"), StorageUsageTest.content("hello")).join();
+    }
+
+    @Test
+    void scansRepositoryStorage() {
+        MatcherAssert.assertThat(
+            new StorageUsage(new Storages.Fake(this.repo), this.settings, 1)
+                .repo("bob/bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(2L, 8L))
+        );
+    }
+
+    @Test
+    void readsPersistedUsage() {
+        new StorageUsage(new Storages.Fake(this.repo), this.settings)
+            .repo("bob/bin").toCompletableFuture().join();
+        this.repo.deleteAll(Key.ROOT).join();
+        MatcherAssert.assertThat(
+            new StorageUsage(new Storages.Fake(this.repo), this.settings)
+                .repo("bob/bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(2L, 8L))
+        );
+    }
+
+    @Test
+    void updatesPersistedUsage() {
+        new StorageUsage(new Storages.Fake(this.repo), this.settings)
+            .repo("bin").toCompletableFuture().join();
+        final StorageUsage updated = new StorageUsage(new Storages.Fake(this.repo), this.settings);
+        updated.update("bin", new Usage(1L, 10L)).toCompletableFuture().join();
+        updated.flush().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new StorageUsage(new Storages.Fake(this.repo), this.settings)
+                .repo("bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(3L, 18L))
+        );
+    }
+
+    @Test
+    void persistsUpdatesWithDelay() {
+        final StorageUsage usage = new StorageUsage(
+            new Storages.Fake(this.repo), this.settings, 1, Duration.ofMinutes(1)
+        );
+        usage.repo("bin").toCompletableFuture().join();
+        for (int idx = 0; idx < 10; ++idx) {
+            usage.update("bin", new Usage(1L, 1L)).toCompletableFuture().join();
+        }
+        MatcherAssert.assertThat(
+            "Updates were persisted before delay",
+            new StorageUsage(new Storages.Fake(this.repo), this.settings)
+                .repo("bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(2L, 8L))
+        );
+        usage.flush().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Updates were not persisted on flush",
+            new StorageUsage(new Storages.Fake(this.repo), this.settings)
+                .repo("bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(12L, 18L))
+        );
+    }
+
+    @Test
+    void doesNotCountSidecars() {
+        this.repo.save(
+            new Key.From(StorageUsage.SIDECARS, new Key.From("a.txt")),
+            StorageUsageTest.content("{}")
+        ).join();
+        MatcherAssert.assertThat(
+            new StorageUsage(new Storages.Fake(this.repo), this.settings)
+                .repo("bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(2L, 8L))
+        );
+    }
+
+    @Test
+    void ignoresUpdateBeforeScan() {
+        MatcherAssert.assertThat(
+            new StorageUsage(new Storages.Fake(this.repo), this.settings)
+                .update("bin", new Usage(1L, 5L)).toCompletableFuture().join(),
+            new IsEqual<>(new Usage(2L, 8L))
+        );
+    }
+
+    @Test
+    void rescansOnUpdateDuringScan() {
+        final CompletableFuture<Storage> slow = new CompletableFuture<>();
+        final StorageUsage usage = new StorageUsage(name -> slow, this.settings);
+        final CompletionStage<Usage> scanned = usage.repo("bin");
+        this.repo.save(new Key.From("c.txt"), StorageUsageTest.content("hi")).join();
+        final CompletionStage<Usage> updated = usage.update("bin", new Usage(1L, 2L));
+        slow.complete(this.repo);
+        MatcherAssert.assertThat(
+            "Scan result counts change twice",
+            scanned.toCompletableFuture().join(),
+            new IsEqual<>(new Usage(3L, 10L))
+        );
+        MatcherAssert.assertThat(
+            "Update result counts change twice",
+            updated.toCompletableFuture().join(),
+            new IsEqual<>(new Usage(3L, 10L))
+        );
+    }
+
+    @Test
+    void sumsRepositories() {
+        final StorageUsage usage = new StorageUsage(new Storages.Fake(this.repo), this.settings);
+        MatcherAssert.assertThat(
+            usage.total(List.of("bob/one", "bob/two")).toCompletableFuture().join(),
+            new IsEqual<>(new Usage(4L, 16L))
+        );
+    }
+
+    @Test
+    void removesUsage() {
+        final StorageUsage usage = new StorageUsage(new Storages.Fake(this.repo), this.settings);
+        usage.repo("bin").toCompletableFuture().join();
+        this.repo.delete(new Key.From("a.txt")).join();
+        usage.remove("bin").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            usage.repo("bin").toCompletableFuture().join(),
+            new IsEqual<>(new Usage(1L, 5L))
+        );
+    }
+
+    private static Content content(final String data) {
+        return new Content.From(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.usage;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Meta;
+import com.artipie.asto.Storage;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.management.Storages;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link UsageStorages}.
+ * @since 0.7
+ */
+final class UsageStoragesTest {
+
+    /**
+     * Repository name.
+     */
+    private static final String REPO = "bob/bin";
+
+    /**
+     * Storage usage.
+     */
+    private StorageUsage usage;
+
+    /**
+     * Repository storage with usage tracking.
+     */
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        final Storages origin = new Storages.Fake(new InMemoryStorage());
+        this.usage = new StorageUsage(origin, new InMemoryStorage());
+        this.usage.repo(UsageStoragesTest.REPO).toCompletableFuture().join();
+        this.storage = new UsageStorages(origin, this.usage)
+            .repoStorage("bob/bin.yaml").toCompletableFuture().join();
+    }
+
+    @Test
+    void countsSavedAndOverwrittenFiles() {
+        this.storage.save(new Key.From("a"), UsageStoragesTest.content("1234")).join();
+        this.storage.save(new Key.From("b"), UsageStoragesTest.content("12")).join();
+        this.storage.save(new Key.From("a"), UsageStoragesTest.content("1")).join();
+        MatcherAssert.assertThat(this.current(), new IsEqual<>(new Usage(2L, 3L)));
+    }
+
+    @Test
+    void countsContentOfUnknownSize() {
+        this.storage.save(
+            new Key.From("c"),
+            new Content.From(
+                Flowable.just(ByteBuffer.wrap("abcde".getBytes(StandardCharsets.UTF_8)))
+            )
+        ).join();
+        MatcherAssert.assertThat(this.current(), new IsEqual<>(new Usage(1L, 5L)));
+    }
+
+    @Test
+    void countsDeletedAndMovedFiles() {
+        this.storage.save(new Key.From("a"), UsageStoragesTest.content("123")).join();
+        this.storage.save(new Key.From("b"), UsageStoragesTest.content("12")).join();
+        this.storage.save(new Key.From("c"), UsageStoragesTest.content("1")).join();
+        this.storage.delete(new Key.From("c")).join();
+        this.storage.move(new Key.From("b"), new Key.From("a")).join();
+        MatcherAssert.assertThat(this.current(), new IsEqual<>(new Usage(1L, 2L)));
+    }
+
+    @Test
+    void dropsUsageOnStorageDeletion() {
+        this.storage.save(new Key.From("x", "y"), UsageStoragesTest.content("123")).join();
+        this.storage.save(new Key.From("z"), UsageStoragesTest.content("12")).join();
+        this.storage.deleteAll(new Key.From("x")).join();
+        MatcherAssert.assertThat(
+            "Usage was not updated on folder deletion",
+            this.current(),
+            new IsEqual<>(new Usage(1L, 2L))
+        );
+        this.storage.deleteAll(Key.ROOT).join();
+        MatcherAssert.assertThat(
+            "Usage was not dropped on storage deletion",
+            this.current(),
+            new IsEqual<>(Usage.EMPTY)
+        );
+    }
+
+    @Test
+    void countsConcurrentSavesOfNewFileOnce() throws InterruptedException {
+        final GatedStorage origin = new GatedStorage(new InMemoryStorage());
+        final StorageUsage gated = new StorageUsage(
+            new Storages.Fake(origin), new InMemoryStorage()
+        );
+        gated.repo(UsageStoragesTest.REPO).toCompletableFuture().join();
+        final Storage repo = new UsageStorages(new Storages.Fake(origin), gated)
+            .repoStorage(UsageStoragesTest.REPO).toCompletableFuture().join();
+        final Key key = new Key.From("new");
+        final CompletableFuture<Void> first = repo.save(key, UsageStoragesTest.content("12"));
+        MatcherAssert.assertThat(
+            "First save was not started",
+            origin.saving.poll(1, TimeUnit.MINUTES),
+            new IsNot<>(new IsNull<>())
+        );
+        final CompletableFuture<Void> second = repo.save(key, UsageStoragesTest.content("12"));
+        origin.saving.poll(1, TimeUnit.SECONDS);
+        origin.gate.complete(null);
+        first.join();
+        second.join();
+        MatcherAssert.assertThat(
+            gated.repo(UsageStoragesTest.REPO).toCompletableFuture().join(),
+            new IsEqual<>(new Usage(1L, 2L))
+        );
+    }
+
+    @Test
+    void doesNotCountSidecars() {
+        final Key sidecar = new Key.From(StorageUsage.SIDECARS, new Key.From("a"));
+        this.storage.save(sidecar, UsageStoragesTest.content("{}")).join();
+        this.storage.move(sidecar, new Key.From(StorageUsage.SIDECARS, new Key.From("b"))).join();
+        MatcherAssert.assertThat(this.current(), new IsEqual<>(Usage.EMPTY));
+    }
+
+    private Usage current() {
+        return this.usage.repo(UsageStoragesTest.REPO).toCompletableFuture().join();
+    }
+
+    private static Content content(final String data) {
+        return new Content.From(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Storage which holds saves until gate is open.
+     * @since 0.7
+     */
+    private static final class GatedStorage implements Storage {
+
+        /**
+         * Keys of requested saves.
+         */
+        private final BlockingQueue<Key> saving;
+
+        /**
+         * Gate.
+         */
+        private final CompletableFuture<Void> gate;
+
+        /**
+         * Origin storage.
+         */
+        private final Storage origin;
+
+        /**
+         * Ctor.
+         * @param origin Origin storage
+         */
+        GatedStorage(final Storage origin) {
+            this.origin = origin;
+            this.saving = new LinkedBlockingQueue<>();
+            this.gate = new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletableFuture<Boolean> exists(final Key key) {
+            return this.origin.exists(key);
+        }
+
+        @Override
+        public CompletableFuture<Collection<Key>> list(final Key prefix) {
+            return this.origin.list(prefix);
+        }
+
+        @Override
+        public CompletableFuture<Void> save(final Key key, final Content content) {
+            this.saving.add(key);
+            return this.gate.thenCompose(nothing -> this.origin.save(key, content));
+        }
+
+        @Override
+        public CompletableFuture<Void> move(final Key source, final Key destination) {
+            return this.origin.move(source, destination);
+        }
+
+        @Override
+        public CompletableFuture<? extends Meta> metadata(final Key key) {
+            return this.origin.metadata(key);
+        }
+
+        @Override
+        public CompletableFuture<Content> value(final Key key) {
+            return this.origin.value(key);
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(final Key key) {
+            return this.origin.delete(key);
+        }
+
+        @Override
+        public <T> CompletionStage<T> exclusively(final Key key,
+            final Function<Storage, CompletionStage<T>> operation) {
+            return this.origin.exclusively(key, operation);
+        }
+    }
+}
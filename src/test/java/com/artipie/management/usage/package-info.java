@@ -0,0 +1,11 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+
+/**
+ * Tests for repositories storage usage accounting.
+ *
+ * @since 0.7
+ */
+package com.artipie.management.usage;
@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.users;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.management.FakeUsers;
+import com.artipie.management.Users;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CachedAuthUsers}.
+ * @since 0.7
+ */
+final class CachedAuthUsersTest {
+
+    @Test
+    void authenticatesFromCache() {
+        final FakeUsers origin = CachedAuthUsersTest.users("alice", "123");
+        final Users users = new CachedAuthUsers(origin);
+        users.auth().toCompletableFuture().join().user("alice", "123");
+        origin.remove("alice").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            users.auth().toCompletableFuture().join().user("alice", "123"),
+            new IsEqual<>(Optional.of(new Authentication.User("alice")))
+        );
+    }
+
+    @Test
+    void doesNotCacheFailedAuthentication() {
+        final FakeUsers origin = CachedAuthUsersTest.users("bob", "abc");
+        final Users users = new CachedAuthUsers(origin);
+        users.auth().toCompletableFuture().join().user("bob", "wrong");
+        origin.add(new Users.User("bob"), "wrong", Users.PasswordFormat.PLAIN)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            users.auth().toCompletableFuture().join().user("bob", "wrong"),
+            new IsEqual<>(Optional.of(new Authentication.User("bob")))
+        );
+    }
+
+    @Test
+    void invalidatesCacheWhenPasswordChanged() {
+        final Users users = new CachedAuthUsers(CachedAuthUsersTest.users("john", "old"));
+        users.auth().toCompletableFuture().join().user("john", "old");
+        users.add(new Users.User("john"), "new", Users.PasswordFormat.PLAIN)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            users.auth().toCompletableFuture().join().user("john", "old"),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void invalidatesCacheWhenUserRemoved() {
+        final Users users = new CachedAuthUsers(CachedAuthUsersTest.users("jane", "000"));
+        users.auth().toCompletableFuture().join().user("jane", "000");
+        users.remove("jane").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            users.auth().toCompletableFuture().join().user("jane", "000"),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void doesNotCacheAuthenticationObtainedBeforePasswordChanged() {
+        final Users users = new CachedAuthUsers(
+            new Staged(
+                CachedAuthUsersTest.users("kate", "old"),
+                (name, pswd) -> Optional.of(new Authentication.User(name))
+                    .filter(user -> "old".equals(pswd))
+            )
+        );
+        final Authentication early = users.auth().toCompletableFuture().join();
+        users.add(new Users.User("kate"), "new", Users.PasswordFormat.PLAIN)
+            .toCompletableFuture().join();
+        early.user("kate", "old");
+        MatcherAssert.assertThat(
+            users.auth().toCompletableFuture().join().user("kate", "old"),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void doesNotCacheAuthenticationRunningWhenPasswordChanged() throws Exception {
+        final BlockingQueue<String> checking = new LinkedBlockingQueue<>();
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        final Users users = new CachedAuthUsers(
+            new Staged(
+                CachedAuthUsersTest.users("mike", "old"),
+                (name, pswd) -> {
+                    checking.add(name);
+                    gate.join();
+                    return Optional.of(new Authentication.User(name));
+                }
+            )
+        );
+        final Authentication early = users.auth().toCompletableFuture().join();
+        final CompletableFuture<Optional<Authentication.User>> running =
+            CompletableFuture.supplyAsync(() -> early.user("mike", "old"));
+        MatcherAssert.assertThat(
+            "Authentication is not running",
+            checking.poll(1, TimeUnit.MINUTES),
+            new IsEqual<>("mike")
+        );
+        users.add(new Users.User("mike"), "new", Users.PasswordFormat.PLAIN)
+            .toCompletableFuture().join();
+        gate.complete(null);
+        running.join();
+        MatcherAssert.assertThat(
+            "Stale authentication was cached",
+            users.auth().toCompletableFuture().join().user("mike", "old"),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    /**
+     * Fake users with one user.
+     * @param name User name
+     * @param pswd Plain password
+     * @return Users
+     */
+    private static FakeUsers users(final String name, final String pswd) {
+        return new FakeUsers(
+            new HashMap<>(
+                new MapOf<Users.User, FakeUsers.Password>(
+                    new MapEntry<>(
+                        new Users.User(name),
+                        new FakeUsers.Password(pswd, Users.PasswordFormat.PLAIN)
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * Users which return given authentication first and origin authentication later.
+     * @since 0.7
+     */
+    private static final class Staged implements Users {
+
+        /**
+         * Origin users.
+         */
+        private final Users origin;
+
+        /**
+         * First authentication.
+         */
+        private final AtomicReference<Authentication> first;
+
+        /**
+         * Ctor.
+         * @param origin Origin users
+         * @param first First authentication
+         */
+        Staged(final Users origin, final Authentication first) {
+            this.origin = origin;
+            this.first = new AtomicReference<>(first);
+        }
+
+        @Override
+        public CompletionStage<List<User>> list() {
+            return this.origin.list();
+        }
+
+        @Override
+        public CompletionStage<Void> add(final User user, final String pswd,
+            final PasswordFormat format) {
+            return this.origin.add(user, pswd, format);
+        }
+
+        @Override
+        public CompletionStage<Void> remove(final String username) {
+            return this.origin.remove(username);
+        }
+
+        @Override
+        public CompletionStage<Authentication> auth() {
+            return Optional.ofNullable(this.first.getAndSet(null))
+                .<CompletionStage<Authentication>>map(CompletableFuture::completedFuture)
+                .orElseGet(this.origin::auth);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.users;
+
+import com.artipie.management.FakeUsers;
+import com.artipie.management.Users;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CoalescedUsers}.
+ * @since 0.7
+ */
+final class CoalescedUsersTest {
+
+    @Test
+    void readsUsers() {
+        final Users users = new CoalescedUsers(new FakeUsers("alice", "bob"));
+        MatcherAssert.assertThat(
+            "Should read user",
+            users.exists("bob").toCompletableFuture().join(),
+            new IsEqual<>(true)
+        );
+        MatcherAssert.assertThat(
+            "Should list users",
+            users.list().toCompletableFuture().join().stream()
+                .map(Users.User::name).collect(Collectors.toList()),
+            Matchers.containsInAnyOrder("alice", "bob")
+        );
+    }
+
+    @Test
+    void readsAddedUser() {
+        final Users users = new CoalescedUsers(new FakeUsers("john"));
+        users.get("jane").toCompletableFuture().join();
+        users.add(new Users.User("jane"), "123", Users.PasswordFormat.PLAIN)
+            .toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            users.exists("jane").toCompletableFuture().join(),
+            new IsEqual<>(true)
+        );
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+package com.artipie.management.users;
+
+import com.artipie.http.auth.Authentication;
+import com.artipie.management.FakeUsers;
+import com.artipie.management.Users;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link IndexedUsers}.
+ * @since 0.7
+ */
+final class IndexedUsersTest {
+
+    /**
+     * Alice.
+     */
+    private static final Users.User ALICE = new Users.User(
+        "alice", Optional.of("Alice@Example.com"), Set.of("readers", "admins")
+    );
+
+    /**
+     * Bob.
+     */
+    private static final Users.User BOB = new Users.User(
+        "bob", Optional.of("bob@example.com"), Set.of("readers")
+    );
+
+    @Test
+    void loadsUsersOnce() {
+        final Counted origin = new Counted(
+            new FakeUsers(IndexedUsersTest.BOB, IndexedUsersTest.ALICE)
+        );
+        final IndexedUsers users = new IndexedUsers(origin);
+        MatcherAssert.assertThat(
+            "Lists users sorted by name",
+            users.list().toCompletableFuture().join(),
+            new IsEqual<>(List.of(IndexedUsersTest.ALICE, IndexedUsersTest.BOB))
+        );
+        users.get("bob").toCompletableFuture().join();
+        users.exists("carol").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Loads users from origin once",
+            origin.lists.get(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void findsUsersPage() {
+        final Users.User carol = new Users.User("carol");
+        final Users.User albert = new Users.User(
+            "albert", Optional.empty(), Set.of("readers")
+        );
+        final IndexedUsers users = new IndexedUsers(
+            new FakeUsers(carol, IndexedUsersTest.BOB, IndexedUsersTest.ALICE, albert)
+        );
+        MatcherAssert.assertThat(
+            "Finds first page",
+            users.find(
+                new Users.Query(2, Optional.empty(), Optional.empty(), Optional.empty())
+            ).toCompletableFuture().join(),
+            new IsEqual<>(List.of(albert, IndexedUsersTest.ALICE))
+        );
+        MatcherAssert.assertThat(
+            "Finds page after cursor",
+            users.find(
+                new Users.Query(2, Optional.of("alice"), Optional.empty(), Optional.empty())
+            ).toCompletableFuture().join(),
+            new IsEqual<>(List.of(IndexedUsersTest.BOB, carol))
+        );
+        MatcherAssert.assertThat(
+            "Finds users by prefix",
+            users.find(
+                new Users.Query(10, Optional.of("albert"), Optional.of("al"), Optional.empty())
+            ).toCompletableFuture().join(),
+            new IsEqual<>(List.of(IndexedUsersTest.ALICE))
+        );
+        MatcherAssert.assertThat(
+            "Finds users by group",
+            users.find(
+                new Users.Query(10, Optional.empty(), Optional.empty(), Optional.of("readers"))
+            ).toCompletableFuture().join(),
+            new IsEqual<>(List.of(albert, IndexedUsersTest.ALICE, IndexedUsersTest.BOB))
+        );
+    }
+
+    @Test
+    void findsUsersByIndexes() {
+        final IndexedUsers users = new IndexedUsers(
+            new FakeUsers(IndexedUsersTest.ALICE, IndexedUsersTest.BOB)
+        );
+        MatcherAssert.assertThat(
+            "Finds user by name",
+            users.get("alice").toCompletableFuture().join(),
+            new IsEqual<>(Optional.of(IndexedUsersTest.ALICE))
+        );
+        MatcherAssert.assertThat(
+            "Finds users by group",
+            users.group("readers").toCompletableFuture().join(),
+            new IsEqual<>(List.of(IndexedUsersTest.ALICE, IndexedUsersTest.BOB))
+        );
+        MatcherAssert.assertThat(
+            "Finds user by email",
+            users.byEmail("alice@example.COM").toCompletableFuture().join(),
+            new IsEqual<>(Optional.of(IndexedUsersTest.ALICE))
+        );
+    }
+
+    @Test
+    void publishesSnapshotAfterWrite() {
+        final FakeUsers origin = new FakeUsers(IndexedUsersTest.ALICE);
+        final IndexedUsers users = new IndexedUsers(origin);
+        users.list().toCompletableFuture().join();
+        final Users.User carol = new Users.User("carol", Optional.empty(), Set.of("admins"));
+        users.add(carol, "123", Users.PasswordFormat.PLAIN).toCompletableFuture().join();
+        users.remove("alice").toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            "Updates users list",
+            users.list().toCompletableFuture().join(),
+            new IsEqual<>(List.of(carol))
+        );
+        MatcherAssert.assertThat(
+            "Updates group index",
+            users.group("admins").toCompletableFuture().join(),
+            new IsEqual<>(List.of(carol))
+        );
+        MatcherAssert.assertThat(
+            "Writes to origin",
+            origin.list().toCompletableFuture().join(),
+            new IsEqual<>(List.of(carol))
+        );
+    }
+
+    @Test
+    void doesNotPublishFailedWrite() {
+        final IndexedUsers users = new IndexedUsers(new Failing(IndexedUsersTest.ALICE));
+        users.add(IndexedUsersTest.BOB, "123", Users.PasswordFormat.PLAIN)
+            .toCompletableFuture().handle((nothing, err) -> err).join();
+        MatcherAssert.assertThat(
+            users.exists("bob").toCompletableFuture().join(),
+            new IsEqual<>(false)
+        );
+    }
+
+    /**
+     * Users with list calls counter.
+     * @since 0.7
+     */
+    private static final class Counted implements Users {
+
+        /**
+         * Origin.
+         */
+        private final Users origin;
+
+        /**
+         * List calls.
+         */
+        private final AtomicInteger lists;
+
+        /**
+         * Ctor.
+         * @param origin Origin
+         */
+        Counted(final Users origin) {
+            this.origin = origin;
+            this.lists = new AtomicInteger();
+        }
+
+        @Override
+        public CompletionStage<List<User>> list() {
+            this.lists.incrementAndGet();
+            return this.origin.list();
+        }
+
+        @Override
+        public CompletionStage<Void> add(final User user, final String pswd,
+            final PasswordFormat format) {
+            return this.origin.add(user, pswd, format);
+        }
+
+        @Override
+        public CompletionStage<Void> remove(final String username) {
+            return this.origin.remove(username);
+        }
+
+        @Override
+        public CompletionStage<Authentication> auth() {
+            return this.origin.auth();
+        }
+    }
+
+    /**
+     * Users with failing writes.
+     * @since 0.7
+     */
+    private static final class Failing implements Users {
+
+        /**
+         * Users.
+         */
+        private final List<User> users;
+
+        /**
+         * Ctor.
+         * @param users Users
+         */
+        Failing(final User... users) {
+            this.users = List.of(users);
+        }
+
+        @Override
+        public CompletionStage<List<User>> list() {
+            return CompletableFuture.completedFuture(this.users);
+        }
+
+        @Override
+        public CompletionStage<Void> add(final User user, final String pswd,
+            final PasswordFormat format) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Failed to add"));
+        }
+
+        @Override
+        public CompletionStage<Void> remove(final String username) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Failed to remove"));
+        }
+
+        @Override
+        public CompletionStage<Authentication> auth() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/management-api/LICENSE.txt
+ */
+
+/**
+ * Tests for artipie users decorators.
+ *
+ * @since 0.7
+ */
+package com.artipie.management.users;